@@ -2,19 +2,18 @@ package com.minecolonies.api.colony;
 
 import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.NBTUtils;
-import gnu.trove.map.hash.THashMap;
+import gnu.trove.map.TLongObjectMap;
+import gnu.trove.map.hash.TLongObjectHashMap;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.Tuple;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.util.Map;
-
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
@@ -24,7 +23,7 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 public interface IChunkmanagerCapability
 {
     /**
-     * Get the chunkStorage at a certain location.
+     * Get and remove the chunkStorage at a certain location.
      * @param chunkX the x chunk location.
      * @param chunkZ the z chunk location.
      * @return the storage or null.
@@ -43,9 +42,9 @@ public interface IChunkmanagerCapability
 
     /**
      * Get all chunk storages for serialization.
-     * @return the storages.
+     * @return the storages, keyed by {@link ChunkPos#asLong(int, int)}.
      */
-    Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages();
+    TLongObjectMap<ChunkLoadStorage> getAllChunkStorages();
 
     /**
      * The implementation of the colonyTagCapability.
@@ -53,24 +52,30 @@ public interface IChunkmanagerCapability
     class Impl implements IChunkmanagerCapability
     {
         /**
-         * Map of chunkPos to chunkLoadStorage.
+         * Map of chunkPos as long to chunkLoadStorage.
          */
-        private final Map<ChunkPos, ChunkLoadStorage> chunkStorages = new THashMap<>();
+        private final TLongObjectMap<ChunkLoadStorage> chunkStorages = new TLongObjectHashMap<>();
 
         @Nullable
         @Override
         public ChunkLoadStorage getChunkStorage(final int chunkX, final int chunkZ)
         {
-            return chunkStorages.remove(new ChunkPos(chunkX, chunkZ));
+            // Called for every loaded chunk, while there usually is nothing pending.
+            if (chunkStorages.isEmpty())
+            {
+                return null;
+            }
+            return chunkStorages.remove(ChunkPos.asLong(chunkX, chunkZ));
         }
 
         @Override
         public boolean addChunkStorage(final int chunkX, final int chunkZ, final ChunkLoadStorage storage)
         {
-            final ChunkLoadStorage existingStorage = chunkStorages.get(new ChunkPos(chunkX, chunkZ));
+            final long key = ChunkPos.asLong(chunkX, chunkZ);
+            final ChunkLoadStorage existingStorage = chunkStorages.get(key);
             if (existingStorage == null)
             {
-                chunkStorages.put(new ChunkPos(chunkX, chunkZ), storage);
+                chunkStorages.put(key, storage);
                 return false;
             }
             else
@@ -82,7 +87,7 @@ public interface IChunkmanagerCapability
 
 
         @Override
-        public Map<ChunkPos, ChunkLoadStorage> getAllChunkStorages()
+        public TLongObjectMap<ChunkLoadStorage> getAllChunkStorages()
         {
             return chunkStorages;
         }
@@ -97,7 +102,12 @@ public interface IChunkmanagerCapability
         public NBTBase writeNBT(@NotNull final Capability<IChunkmanagerCapability> capability, @NotNull final IChunkmanagerCapability instance, @Nullable final EnumFacing side)
         {
             final NBTTagCompound compound = new NBTTagCompound();
-            compound.setTag(TAG_ALL_CHUNK_STORAGES, instance.getAllChunkStorages().entrySet().stream().map(entry -> write(entry.getKey(), entry.getValue())).collect(NBTUtils.toNBTTagList()));
+            final NBTTagList storages = new NBTTagList();
+            instance.getAllChunkStorages().forEachEntry((key, value) -> {
+                storages.appendTag(write(key, value));
+                return true;
+            });
+            compound.setTag(TAG_ALL_CHUNK_STORAGES, storages);
             return compound;
         }
 
@@ -108,36 +118,23 @@ public interface IChunkmanagerCapability
             if(nbt instanceof NBTTagCompound && ((NBTTagCompound) nbt).hasKey(TAG_ALL_CHUNK_STORAGES))
             {
                 NBTUtils.streamCompound(((NBTTagCompound) nbt).getTagList(TAG_ALL_CHUNK_STORAGES, Constants.NBT.TAG_COMPOUND))
-                  .map(Storage::read).forEach(key -> instance.addChunkStorage(key.getFirst().x, key.getFirst().z, key.getSecond()));
+                  .forEach(compound -> instance.addChunkStorage(compound.getInteger(TAG_X), compound.getInteger(TAG_Z), new ChunkLoadStorage(compound.getCompoundTag(TAG_CHUNK_STORAGE))));
             }
         }
 
         /**
          * Write a single ChunkPos, ChunkLoadStorage pair to nbt.
-         * @param key the key.
+         * @param key the chunkPos as long.
          * @param value the value
          * @return the resulting compound.
          */
-        private static NBTTagCompound write(final ChunkPos key, final ChunkLoadStorage value)
+        private static NBTTagCompound write(final long key, final ChunkLoadStorage value)
         {
             final NBTTagCompound compound = new NBTTagCompound();
             compound.setTag(TAG_CHUNK_STORAGE, value.toNBT());
-            compound.setInteger(TAG_X, key.x);
-            compound.setInteger(TAG_Z, key.z);
+            compound.setInteger(TAG_X, (int) key);
+            compound.setInteger(TAG_Z, (int) (key >> 32));
             return compound;
         }
-
-        /**
-         * Read a key value pair for the chunkloadstorages.
-         * @param compound the compound to read it from.
-         * @return a tuple for both.
-         */
-        private static Tuple<ChunkPos, ChunkLoadStorage> read(final NBTTagCompound compound)
-        {
-            final ChunkLoadStorage storage = new ChunkLoadStorage(compound.getCompoundTag(TAG_CHUNK_STORAGE));
-            final int x = compound.getInteger(TAG_X);
-            final int z = compound.getInteger(TAG_Z);
-            return new Tuple<>(new ChunkPos(x,z), storage);
-        }
     }
 }
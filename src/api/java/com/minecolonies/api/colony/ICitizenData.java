@@ -28,6 +28,28 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     int MAX_SATURATION = 10;
 
+    /**
+     * Parts of the citizen view, marked dirty separately so only the changed parts are synced.
+     */
+    int VIEW_INFO         = 1;
+    int VIEW_EXPERIENCE   = 1 << 1;
+    int VIEW_SKILLS       = 1 << 2;
+    int VIEW_VITALS       = 1 << 3;
+    int VIEW_HAPPINESS    = 1 << 4;
+    int VIEW_INVENTORY    = 1 << 5;
+    int VIEW_INTERACTIONS = 1 << 6;
+    int VIEW_ALL          = (1 << 7) - 1;
+
+    /**
+     * Parts of the view which change very often, they are synced at most once per {@link #RATE_LIMITED_VIEW_INTERVAL}.
+     */
+    int VIEW_RATE_LIMITED = VIEW_EXPERIENCE | VIEW_VITALS;
+
+    /**
+     * Ticks between two syncs of the rate limited view parts.
+     */
+    int RATE_LIMITED_VIEW_INTERVAL = 20;
+
     /**
      * Return the entity instance of the citizen data. Respawn the citizen if
      * needed.
@@ -49,6 +71,21 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void markDirty();
 
+    /**
+     * Marks parts of the view dirty.
+     *
+     * @param viewParts the changed parts, a combination of the VIEW constants.
+     */
+    void markDirty(int viewParts);
+
+    /**
+     * Get the dirty parts of the view which may be synced now,
+     * rate limited parts are held back until their interval passed.
+     *
+     * @return the parts, 0 if nothing has to be synced.
+     */
+    int getSyncViewParts();
+
     /**
      * Returns the colony of the citizen.
      *
@@ -88,7 +125,7 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
     boolean isDirty();
 
     /**
-     * Markt the instance not dirty.
+     * Markt the synced parts of the instance not dirty, see {@link #getSyncViewParts()}.
      */
     void clearDirty();
 
@@ -167,6 +204,14 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void serializeViewNetworkData(@NotNull ByteBuf buf);
 
+    /**
+     * Writes parts of the citizen data to a byte buf for transition.
+     *
+     * @param buf       Buffer to write to.
+     * @param viewParts the parts to write, a combination of the VIEW constants.
+     */
+    void serializeViewNetworkData(@NotNull ByteBuf buf, int viewParts);
+
     /**
      * Sets the levels of the citizen.
      *
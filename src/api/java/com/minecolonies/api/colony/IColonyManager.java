@@ -111,7 +111,7 @@ public interface IColonyManager
      * Get all colonies in this world.
      *
      * @param w World.
-     * @return a list of colonies.
+     * @return an immutable list of colonies.
      */
     @NotNull
     List<IColony> getColonies(@NotNull World w);
@@ -342,6 +342,17 @@ public interface IColonyManager
      */
     void handleColonyViewWorkOrderMessage(int colonyId, ByteBuf buf, int dim);
 
+    /**
+     * Returns result of {@link IColonyView#handleColonyViewRequestsMessage(ByteBuf)}
+     * if {@link #getColonyView(int, int)} gives a not-null result.
+     * If {@link #getColonyView(int, int)} is null, returns null.
+     *
+     * @param colonyId ID of the colony.
+     * @param buf      {@link ByteBuf} with request system data.
+     * @param dim      the dimension.
+     */
+    void handleColonyViewRequestsMessage(int colonyId, ByteBuf buf, int dim);
+
     /**
      * Returns result of {@link IColonyView#handleColonyViewRemoveCitizenMessage(int)}
      * if {@link #getColonyView(int, int)} gives a not-null result. If {@link
@@ -90,13 +90,21 @@ public interface IColonyTagCapability
 
     /**
      * The implementation of the colonyTagCapability.
+     * Ids and claims are kept in primitive arrays, as this exists for every loaded chunk and usually only holds a few entries.
      */
     class Impl implements IColonyTagCapability
     {
         /**
-         * The set of all close colonies. Only relevant in non dynamic claiming.
+         * Shared empty arrays.
          */
-        private final Set<Integer> colonies = new HashSet<>();
+        private static final int[]    NO_IDS       = new int[0];
+        private static final long[]   NO_POSITIONS = new long[0];
+        private static final long[][] NO_CLAIMS    = new long[0][];
+
+        /**
+         * The sorted ids of all close colonies. Only relevant in non dynamic claiming.
+         */
+        private int[] colonies = NO_IDS;
 
         /**
          * The colony owning the chunk. 0 If none.
@@ -104,21 +112,44 @@ public interface IColonyTagCapability
         private int owningColony = 0;
 
         /**
-         * List of buildings claiming this chunk for a certain colony.
+         * The sorted ids of the colonies with buildings claiming this chunk.
+         */
+        private int[] claimingColonies = NO_IDS;
+
+        /**
+         * The positions of the claiming buildings as long, by index in {@link #claimingColonies}.
          */
-        private final Map<Integer, Set<BlockPos>> claimingBuildings = new HashMap<>();
+        private long[][] claimingBuildings = NO_CLAIMS;
 
         @Override
         public void addColony(final int id, final Chunk chunk)
         {
-            colonies.add(id);
+            addColony(id);
             chunk.markDirty();
         }
 
+        /**
+         * Add a close colony without marking the chunk dirty.
+         *
+         * @param id the id to add.
+         */
+        private void addColony(final int id)
+        {
+            final int index = Arrays.binarySearch(colonies, id);
+            if (index < 0)
+            {
+                colonies = insert(colonies, -index - 1, id);
+            }
+        }
+
         @Override
         public void removeColony(final int id, final Chunk chunk)
         {
-            colonies.remove(id);
+            final int index = Arrays.binarySearch(colonies, id);
+            if (index >= 0)
+            {
+                colonies = remove(colonies, index);
+            }
             if (owningColony == id)
             {
                 this.owningColony = 0;
@@ -129,9 +160,10 @@ public interface IColonyTagCapability
         @Override
         public void reset(final Chunk chunk)
         {
-            colonies.clear();
+            colonies = NO_IDS;
             owningColony = 0;
-            claimingBuildings.clear();
+            claimingColonies = NO_IDS;
+            claimingBuildings = NO_CLAIMS;
             chunk.markDirty();
         }
 
@@ -143,45 +175,76 @@ public interface IColonyTagCapability
                 setOwningColony(colonyId, chunk);
             }
 
-            if (claimingBuildings.containsKey(colonyId))
+            addBuildingClaim(colonyId, pos.toLong());
+            chunk.markDirty();
+        }
+
+        /**
+         * Add a building claim without marking the chunk dirty.
+         *
+         * @param colonyId the colony id.
+         * @param pos      the position of the building as long.
+         */
+        private void addBuildingClaim(final int colonyId, final long pos)
+        {
+            final int index = Arrays.binarySearch(claimingColonies, colonyId);
+            if (index < 0)
             {
-                claimingBuildings.get(colonyId).add(pos);
+                final int insertion = -index - 1;
+                claimingColonies = insert(claimingColonies, insertion, colonyId);
+
+                final long[][] newClaims = new long[claimingBuildings.length + 1][];
+                System.arraycopy(claimingBuildings, 0, newClaims, 0, insertion);
+                System.arraycopy(claimingBuildings, insertion, newClaims, insertion + 1, claimingBuildings.length - insertion);
+                newClaims[insertion] = new long[] {pos};
+                claimingBuildings = newClaims;
             }
-            else
+            else if (indexOf(claimingBuildings[index], pos) < 0)
             {
-                final Set<BlockPos> newList = new HashSet<>();
-                newList.add(pos);
-                claimingBuildings.put(colonyId, newList);
+                final long[] positions = Arrays.copyOf(claimingBuildings[index], claimingBuildings[index].length + 1);
+                positions[positions.length - 1] = pos;
+                claimingBuildings[index] = positions;
             }
-            chunk.markDirty();
         }
 
         @Override
         public void removeBuildingClaim(final int colonyId, final BlockPos pos, final Chunk chunk)
         {
-            if (claimingBuildings.containsKey(colonyId))
+            final int index = Arrays.binarySearch(claimingColonies, colonyId);
+            if (index >= 0)
             {
-                final Set<BlockPos> buildings = claimingBuildings.get(colonyId);
-                buildings.remove(pos);
+                final long[] positions = claimingBuildings[index];
+                final int posIndex = indexOf(positions, pos.toLong());
+                if (posIndex >= 0)
+                {
+                    final long[] newPositions = positions.length == 1 ? NO_POSITIONS : new long[positions.length - 1];
+                    System.arraycopy(positions, 0, newPositions, 0, posIndex);
+                    System.arraycopy(positions, posIndex + 1, newPositions, posIndex, positions.length - posIndex - 1);
+                    claimingBuildings[index] = newPositions;
+                }
 
-                if (buildings.isEmpty())
+                if (claimingBuildings[index].length == 0)
                 {
-                    claimingBuildings.remove(colonyId);
+                    claimingColonies = remove(claimingColonies, index);
+                    final long[][] newClaims = claimingColonies.length == 0 ? NO_CLAIMS : new long[claimingBuildings.length - 1][];
+                    System.arraycopy(claimingBuildings, 0, newClaims, 0, index);
+                    System.arraycopy(claimingBuildings, index + 1, newClaims, index, claimingBuildings.length - index - 1);
+                    claimingBuildings = newClaims;
                 }
 
                 if (owningColony == colonyId)
                 {
-                    if (claimingBuildings.isEmpty())
+                    if (claimingColonies.length == 0)
                     {
                         reset(chunk);
                     }
-                    else if (claimingBuildings.size() == 1)
+                    else if (claimingColonies.length == 1)
                     {
-                        setOwningColony(claimingBuildings.keySet().iterator().next(), chunk);
+                        setOwningColony(claimingColonies[0], chunk);
                     }
                     else
                     {
-                        setOwningColony(claimingBuildings.keySet().toArray(new Integer[0])[new Random().nextInt(claimingBuildings.size())], chunk);
+                        setOwningColony(claimingColonies[new Random().nextInt(claimingColonies.length)], chunk);
                     }
                 }
             }
@@ -205,14 +268,33 @@ public interface IColonyTagCapability
         @Override
         public List<Integer> getAllCloseColonies()
         {
-            return new ArrayList<>(colonies);
+            final List<Integer> list = new ArrayList<>(colonies.length);
+            for (final int id : colonies)
+            {
+                list.add(id);
+            }
+            return list;
         }
 
+        /**
+         * {@inheritDoc}
+         * Builds a new map from the stored claims, changes to it are not written back.
+         */
         @NotNull
         @Override
         public Map<Integer, Set<BlockPos>> getAllClaimingBuildings()
         {
-            return claimingBuildings;
+            final Map<Integer, Set<BlockPos>> map = new HashMap<>();
+            for (int i = 0; i < claimingColonies.length; i++)
+            {
+                final Set<BlockPos> positions = new HashSet<>();
+                for (final long pos : claimingBuildings[i])
+                {
+                    positions.add(BlockPos.fromLong(pos));
+                }
+                map.put(claimingColonies[i], positions);
+            }
+            return map;
         }
 
         @Override
@@ -223,14 +305,14 @@ public interface IColonyTagCapability
 
             // Fill colonies list
             NBTUtils.streamCompound(compound.getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
-              .map(c -> c.getInteger(TAG_ID)).forEach(colonies::add);
+              .mapToInt(c -> c.getInteger(TAG_ID)).forEach(this::addColony);
 
             // Fill claim buildings list
             NBTUtils.streamCompound(compound.getTagList(TAG_BUILDINGS_CLAIM, Constants.NBT.TAG_COMPOUND)).forEach(this::readClaims);
         }
 
         /**
-         * Read the position list and add it to the map.
+         * Read the position list and add it to the claims.
          *
          * @param compound the compound to read it from.
          */
@@ -238,19 +320,62 @@ public interface IColonyTagCapability
         {
             final int id = compound.getInteger(TAG_ID);
             NBTUtils.streamCompound(compound.getTagList(TAG_BUILDINGS, Constants.NBT.TAG_COMPOUND)).forEach(
-              tag -> {
-                  final BlockPos pos = BlockPosUtil.readFromNBT((tag), TAG_BUILDING);
-                  if (claimingBuildings.containsKey(id))
-                  {
-                      claimingBuildings.get(id).add(pos);
-                  }
-                  else
-                  {
-                      final Set<BlockPos> newList = new HashSet<>();
-                      newList.add(pos);
-                      claimingBuildings.put(id, newList);
-                  }
-              });
+              tag -> addBuildingClaim(id, BlockPosUtil.readFromNBT(tag, TAG_BUILDING).toLong()));
+        }
+
+        /**
+         * Insert a value into an array.
+         *
+         * @param array the array.
+         * @param index the index to insert at.
+         * @param value the value.
+         * @return the new array.
+         */
+        private static int[] insert(final int[] array, final int index, final int value)
+        {
+            final int[] newArray = new int[array.length + 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            newArray[index] = value;
+            System.arraycopy(array, index, newArray, index + 1, array.length - index);
+            return newArray;
+        }
+
+        /**
+         * Remove a value from an array.
+         *
+         * @param array the array.
+         * @param index the index to remove.
+         * @return the new array.
+         */
+        private static int[] remove(final int[] array, final int index)
+        {
+            if (array.length == 1)
+            {
+                return NO_IDS;
+            }
+            final int[] newArray = new int[array.length - 1];
+            System.arraycopy(array, 0, newArray, 0, index);
+            System.arraycopy(array, index + 1, newArray, index, array.length - index - 1);
+            return newArray;
+        }
+
+        /**
+         * Find a position in an unsorted array.
+         *
+         * @param array the array.
+         * @param value the position as long.
+         * @return the index or -1.
+         */
+        private static int indexOf(final long[] array, final long value)
+        {
+            for (int i = 0; i < array.length; i++)
+            {
+                if (array[i] == value)
+                {
+                    return i;
+                }
+            }
+            return -1;
         }
     }
 
@@ -237,6 +237,16 @@ public interface IColonyView extends IColony
     @Nullable
     IMessage handlePermissionsViewMessage(@NotNull ByteBuf buf);
 
+    /**
+     * Update the request system of a ColonyView given a network data update,
+     * which carries only the requests changed since the last update.
+     *
+     * @param buf Network data.
+     * @return null == no response.
+     */
+    @Nullable
+    IMessage handleColonyViewRequestsMessage(@NotNull ByteBuf buf);
+
     /**
      * Update a ColonyView's workOrders given a network data ColonyView update
      * packet. This uses a full-replacement - workOrders do not get updated and
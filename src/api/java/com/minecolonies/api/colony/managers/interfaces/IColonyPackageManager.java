@@ -43,6 +43,11 @@ public interface IColonyPackageManager
      */
     void sendColonyViewPackets();
 
+    /**
+     * Sends packages to update the request system, only changed requests are sent to known subscribers.
+     */
+    void sendRequestSystemPackets();
+
     /**
      * Sends packages to update the permissions.
      */
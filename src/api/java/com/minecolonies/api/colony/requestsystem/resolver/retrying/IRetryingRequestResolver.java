@@ -54,4 +54,18 @@ public interface IRetryingRequestResolver extends IQueuedRequestResolver<IRetrya
      */
     @Nullable
     IToken<?> getCurrentlyBeingReassignedRequest();
+
+    /**
+     * Method to get the amount of retries attempted since the resolver was loaded.
+     *
+     * @return The amount of attempted retries.
+     */
+    int getRetriesAttempted();
+
+    /**
+     * Method to get the amount of retries which found another resolver since the resolver was loaded.
+     *
+     * @return The amount of successful retries.
+     */
+    int getRetriesSucceeded();
 }
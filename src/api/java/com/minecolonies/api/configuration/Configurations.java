@@ -152,6 +152,12 @@ public class Configurations
         @Config.Comment("Sets the amount of hours until a colony will be deleted after not seeing it's mayor, set to zero to disable. [Default: 0]")
         public int     autoDeleteColoniesInHours = 0;
 
+        @Config.Comment("Sets the amount of hours without a visit of the mayor after which an idle colony only keeps a compact stub in memory, set to zero to disable. [Default: 168]")
+        public int     dormantColonyHours = 168;
+
+        @Config.Comment("Sets the amount of minutes a colony has to be idle before it is unloaded to its stub again. [Default: 10]")
+        public int     dormantColonyUnloadMinutes = 10;
+
         @Config.Comment("Sets weither or not Colony structures are destroyed automatically. [Default: true]")
         public boolean autoDestroyColonyBlocks   = true;
 
@@ -656,6 +662,9 @@ public class Configurations
         @Config.Comment("The amount of ticks between retries of the request system for retryable requests. Lower increases server load. [Default: 1200]")
         public int delayBetweenRetries = 1200;
 
+        @Config.Comment("The maximal amount of retryable requests reassigned per request system update, further due requests are spread over the next updates. [Default: 10]")
+        public int maximalRetriesPerUpdate = 10;
+
         @Config.Comment("The maximal amount of buildings the Delivery Man should try to gather before attempting a drop off at the warehouse. [Default: 6]")
         public int maximalBuildingsToGather = 6;
 
@@ -1,20 +1,33 @@
 package com.minecolonies.api.crafting;
 
-import com.google.common.collect.ImmutableMap;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.Set;
+
 /**
  * The Interface describing the recipeManager which takes care of the recipes discovered by the colonies in this world.
  */
 public interface IRecipeManager
 {
     /**
-     * Get a unmodifiable copy of the recipes map.
+     * Get a read only view of the recipes map, it reflects later changes.
+     * Single lookups are thread safe, iterating it while recipes are added is not.
      * @return a map of Token, RecipeStorage.
      */
-    ImmutableMap<IToken, IRecipeStorage> getRecipes();
+    Map<IToken, IRecipeStorage> getRecipes();
+
+    /**
+     * Get the ids of the recipes with a given primary output.
+     * Matches like {@link ItemStack#isItemEqual(ItemStack)}, the stack size and NBT are ignored.
+     * @param output the output.
+     * @return a read only copy of the ids, empty if there is none.
+     */
+    @NotNull
+    Set<IToken> getRecipeIdsForOutput(@NotNull final ItemStack output);
 
     /**
      * Add a recipe to the map.
@@ -62,6 +62,16 @@ public interface IRecipeStorage
      */
     boolean canFullFillRecipe(final int qty, @NotNull final IItemHandler... inventories);
 
+    /**
+     * Method to check if this recipe can be fullfilled with the items counted by a census.
+     * Allows checking several recipes against the same inventories without scanning them again.
+     *
+     * @param qty the quantity to craft.
+     * @param census the census of the inventories to check.
+     * @return true if possible, else false.
+     */
+    boolean canFullFillRecipe(final int qty, @NotNull final InventoryCensus census);
+
     default boolean fullFillRecipe(@NotNull final IItemHandler... inventories)
     {
         return fullfillRecipe(Arrays.asList(inventories));
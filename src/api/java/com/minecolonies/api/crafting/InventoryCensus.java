@@ -0,0 +1,260 @@
+package com.minecolonies.api.crafting;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.items.IItemHandler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Snapshot of the items in a set of item handlers, taken in a single pass over their slots.
+ * <p>
+ * Items are counted like {@link ItemStack#isItemEqual(ItemStack)} compares them, by item and damage ignoring NBT.
+ * Next to the amounts the census remembers the slots of every item, so recipes can be checked and extracted
+ * without scanning the handlers again for each ingredient.
+ * The census does not follow later changes of the handlers, take a new one after items were moved.
+ */
+public class InventoryCensus
+{
+    /**
+     * The handlers the census was taken of.
+     */
+    private final List<IItemHandler> handlers;
+
+    /**
+     * The amount per item.
+     */
+    private final Map<ItemStorage, Integer> counts = new HashMap<>();
+
+    /**
+     * The slots holding an item, as handler index and slot, in scan order.
+     */
+    private final Map<ItemStorage, List<int[]>> slots = new HashMap<>();
+
+    /**
+     * The amount of empty slots over all handlers.
+     */
+    private int freeSlots;
+
+    /**
+     * Take a census of the given handlers.
+     *
+     * @param handlers the handlers.
+     */
+    public InventoryCensus(@NotNull final List<IItemHandler> handlers)
+    {
+        this.handlers = handlers;
+        for (int handlerIndex = 0; handlerIndex < handlers.size(); handlerIndex++)
+        {
+            final IItemHandler handler = handlers.get(handlerIndex);
+            if (handler == null)
+            {
+                continue;
+            }
+
+            for (int slot = 0; slot < handler.getSlots(); slot++)
+            {
+                final ItemStack stack = handler.getStackInSlot(slot);
+                if (ItemStackUtils.isEmpty(stack))
+                {
+                    freeSlots++;
+                    continue;
+                }
+
+                final ItemStorage key = getKey(stack);
+                counts.merge(key, ItemStackUtils.getSize(stack), Integer::sum);
+                slots.computeIfAbsent(key, k -> new ArrayList<>()).add(new int[] {handlerIndex, slot});
+            }
+        }
+    }
+
+    /**
+     * Take a census of the given handlers.
+     *
+     * @param handlers the handlers.
+     */
+    public InventoryCensus(@NotNull final IItemHandler... handlers)
+    {
+        this(Arrays.asList(handlers));
+    }
+
+    /**
+     * Get the key an item is counted under.
+     *
+     * @param stack the stack.
+     * @return the key, a copy of the stack is kept.
+     */
+    private static ItemStorage getKey(@NotNull final ItemStack stack)
+    {
+        return new ItemStorage(stack.copy(), false, true);
+    }
+
+    /**
+     * Get the handlers the census was taken of.
+     *
+     * @return the handlers.
+     */
+    @NotNull
+    public List<IItemHandler> getHandlers()
+    {
+        return handlers;
+    }
+
+    /**
+     * Get the counted amount of an item.
+     *
+     * @param stack the item, compared by item and damage.
+     * @return the amount.
+     */
+    public int getCount(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return 0;
+        }
+        return counts.getOrDefault(getKey(stack), 0);
+    }
+
+    /**
+     * Get the amount of empty slots over all handlers.
+     *
+     * @return the amount.
+     */
+    public int getFreeSlots()
+    {
+        return freeSlots;
+    }
+
+    /**
+     * Check if there is enough of all ingredients in the handlers.
+     * Ingredients which only differ in NBT are counted together, since the census does not tell them apart.
+     *
+     * @param ingredients the ingredients with their amounts.
+     * @param multiplier  the multiplier of the amounts.
+     * @return true if there is enough of all of them.
+     */
+    public boolean hasIngredients(@NotNull final List<ItemStorage> ingredients, final int multiplier)
+    {
+        for (final Map.Entry<ItemStorage, Integer> entry : getDemand(ingredients, multiplier).entrySet())
+        {
+            if (counts.getOrDefault(entry.getKey(), 0) < entry.getValue())
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Get the needed amount per census key of some ingredients.
+     *
+     * @param ingredients the ingredients.
+     * @param multiplier  the multiplier of the amounts.
+     * @return the amounts.
+     */
+    private static Map<ItemStorage, Integer> getDemand(@NotNull final List<ItemStorage> ingredients, final int multiplier)
+    {
+        final Map<ItemStorage, Integer> demand = new HashMap<>();
+        for (final ItemStorage ingredient : ingredients)
+        {
+            if (!ItemStackUtils.isEmpty(ingredient.getItemStack()))
+            {
+                demand.merge(getKey(ingredient.getItemStack()), ingredient.getAmount() * multiplier, Integer::sum);
+            }
+        }
+        return demand;
+    }
+
+    /**
+     * Extract ingredients from the slots recorded for them.
+     * The whole extraction is planned with simulated extractions first, so nothing is taken if the handlers changed
+     * since the census and an ingredient is missing. Should a handler still hand out less than it promised,
+     * everything extracted so far is put back.
+     * The counts of the census are updated accordingly.
+     *
+     * @param ingredients the ingredients with their amounts.
+     * @param multiplier  the multiplier of the amounts.
+     * @return true if all ingredients were extracted, false if none were.
+     */
+    public boolean extractIngredients(@NotNull final List<ItemStorage> ingredients, final int multiplier)
+    {
+        final Map<ItemStorage, Integer> demand = getDemand(ingredients, multiplier);
+
+        // Handler index, slot and amount of every extraction.
+        final List<int[]> plan = new ArrayList<>();
+        for (final Map.Entry<ItemStorage, Integer> entry : demand.entrySet())
+        {
+            int amountNeeded = entry.getValue();
+            for (final int[] location : slots.getOrDefault(entry.getKey(), Collections.emptyList()))
+            {
+                if (amountNeeded <= 0)
+                {
+                    break;
+                }
+
+                final IItemHandler handler = handlers.get(location[0]);
+                final ItemStack inSlot = handler.getStackInSlot(location[1]);
+                if (ItemStackUtils.isEmpty(inSlot) || !inSlot.isItemEqual(entry.getKey().getItemStack()))
+                {
+                    continue;
+                }
+
+                final int available = ItemStackUtils.getSize(handler.extractItem(location[1], Math.min(amountNeeded, ItemStackUtils.getSize(inSlot)), true));
+                if (available > 0)
+                {
+                    plan.add(new int[] {location[0], location[1], available});
+                    amountNeeded -= available;
+                }
+            }
+
+            if (amountNeeded > 0)
+            {
+                return false;
+            }
+        }
+
+        final List<ItemStack> extracted = new ArrayList<>();
+        for (final int[] step : plan)
+        {
+            final ItemStack stack = handlers.get(step[0]).extractItem(step[1], step[2], false);
+            extracted.add(stack);
+            if (ItemStackUtils.getSize(stack) < step[2])
+            {
+                putBack(plan, extracted);
+                return false;
+            }
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> entry : demand.entrySet())
+        {
+            final int remaining = counts.getOrDefault(entry.getKey(), 0) - entry.getValue();
+            if (remaining > 0)
+            {
+                counts.put(entry.getKey(), remaining);
+            }
+            else
+            {
+                counts.remove(entry.getKey());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Put extracted stacks back into the slots they were taken from.
+     *
+     * @param plan      the handler index and slot of every extraction.
+     * @param extracted the extracted stacks, in the order of the plan.
+     */
+    private void putBack(@NotNull final List<int[]> plan, @NotNull final List<ItemStack> extracted)
+    {
+        for (int i = 0; i < extracted.size(); i++)
+        {
+            if (!ItemStackUtils.isEmpty(extracted.get(i)))
+            {
+                handlers.get(plan.get(i)[0]).insertItem(plan.get(i)[1], extracted.get(i), false);
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.minecolonies.api.crafting;
 
-import com.google.common.collect.ImmutableList;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.CraftingUtils;
 import com.minecolonies.api.util.InventoryUtils;
@@ -133,22 +132,13 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public boolean canFullFillRecipe(final int qty, @NotNull final IItemHandler... inventories)
     {
-        final int neededMultiplier = CraftingUtils.calculateMaxCraftingCount(qty, this);
-        final List<ItemStorage> items = getCleanedInput();
-
-        for (final ItemStorage stack : items)
-        {
-            final int availableCount = InventoryUtils.getItemCountInItemHandlers(
-              ImmutableList.copyOf(inventories),
-              itemStack -> !ItemStackUtils.isEmpty(itemStack)
-                             && itemStack.isItemEqual(stack.getItemStack()));
+        return canFullFillRecipe(qty, new InventoryCensus(inventories));
+    }
 
-            if (availableCount < stack.getAmount() * neededMultiplier)
-            {
-                return false;
-            }
-        }
-        return true;
+    @Override
+    public boolean canFullFillRecipe(final int qty, @NotNull final InventoryCensus census)
+    {
+        return census.hasIngredients(getCleanedInput(), CraftingUtils.calculateMaxCraftingCount(qty, this));
     }
 
     @Override
@@ -195,10 +185,10 @@ public class RecipeStorage implements IRecipeStorage
 
     /**
      * Check for free space in the handlers.
-     * @param handlers the handlers to check.
+     * @param census the census of the handlers to check.
      * @return true if enough space.
      */
-    private boolean checkForFreeSpace(final List<IItemHandler> handlers)
+    private boolean checkForFreeSpace(final InventoryCensus census)
     {
         final List<ItemStack> secondaryStacks = new ArrayList<>();
         for(final ItemStack stack: input)
@@ -212,13 +202,7 @@ public class RecipeStorage implements IRecipeStorage
         secondaryStacks.add(getPrimaryOutput());
         if(secondaryStacks.size() > getInput().size())
         {
-            int freeSpace = 0;
-            for (final IItemHandler handler : handlers)
-            {
-                freeSpace+= handler.getSlots() - InventoryUtils.getAmountOfStacksInItemHandler(handler);
-            }
-
-            return freeSpace >= secondaryStacks.size() - getInput().size();
+            return census.getFreeSlots() >= secondaryStacks.size() - getInput().size();
         }
         return true;
     }
@@ -231,51 +215,15 @@ public class RecipeStorage implements IRecipeStorage
     @Override
     public boolean fullfillRecipe(final List<IItemHandler> handlers)
     {
-        if(!checkForFreeSpace(handlers) || !canFullFillRecipe(1, handlers.toArray(new IItemHandler[0])))
+        final InventoryCensus census = new InventoryCensus(handlers);
+        if(!checkForFreeSpace(census) || !canFullFillRecipe(1, census))
         {
             return false;
         }
 
-        for (final ItemStorage stack : getCleanedInput())
+        if (!census.extractIngredients(getCleanedInput(), 1))
         {
-            int amountNeeded = stack.getAmount();
-
-            if (amountNeeded == 0)
-            {
-                break;
-            }
-
-            for (final IItemHandler handler : handlers)
-            {
-                int slotOfStack = InventoryUtils.findFirstSlotInItemHandlerNotEmptyWith(handler, itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.isItemEqual(stack.getItemStack()));
-
-                while (slotOfStack != -1 && amountNeeded > 0)
-                {
-                    final int count = ItemStackUtils.getSize(handler.getStackInSlot(slotOfStack));
-                    final ItemStack extractedStack = handler.extractItem(slotOfStack, amountNeeded, false).copy();
-
-                    //This prevents the AI and for that matter the server from getting stuck in case of an emergency.
-                    //Deletes some items, but hey.
-                    if (ItemStackUtils.isEmpty(extractedStack) || extractedStack.getCount() < amountNeeded)
-                    {
-                        handler.insertItem(slotOfStack, extractedStack, false);
-                        return false;
-                    }
-
-                    amountNeeded -= count;
-                    if (amountNeeded > 0)
-                    {
-                        slotOfStack = InventoryUtils.findFirstSlotInItemHandlerNotEmptyWith(handler,
-                          itemStack -> !ItemStackUtils.isEmpty(itemStack) && itemStack.isItemEqual(stack.getItemStack()));
-                    }
-                }
-
-                // stop looping handlers if we have what we need
-                if (amountNeeded <= 0)
-                {
-                    break;
-                }
-            }
+            return false;
         }
 
         insertCraftedItems(handlers);
@@ -397,7 +397,7 @@ public class InventoryCitizen implements IInventory
         this.inventoryChanged = true;
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(ICitizenData.VIEW_INVENTORY);
         }
     }
 
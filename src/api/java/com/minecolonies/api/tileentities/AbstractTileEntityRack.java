@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -11,8 +12,11 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.items.IItemHandlerModifiable;
 import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SIZE;
@@ -41,6 +45,11 @@ public abstract class AbstractTileEntityRack extends TileEntity
      * The inventory of the tileEntity.
      */
     protected IItemHandlerModifiable inventory;       // = new RackInventory(DEFAULT_SIZE);
+    /**
+     * Notified after the content of the rack was counted again, the warehouse uses it to keep its item index up to date.
+     */
+    @Nullable
+    private Consumer<AbstractTileEntityRack> contentListener;
 
     public AbstractTileEntityRack()
     {
@@ -107,6 +116,34 @@ public abstract class AbstractTileEntityRack extends TileEntity
         }
     }
 
+    /**
+     * Set the listener which is notified after the content of the rack was counted again.
+     *
+     * @param contentListener the listener or null to remove it.
+     */
+    public void setContentListener(@Nullable final Consumer<AbstractTileEntityRack> contentListener)
+    {
+        this.contentListener = contentListener;
+    }
+
+    /**
+     * Notify the content listener, has to be called after the content was counted again.
+     */
+    protected void onContentUpdated()
+    {
+        if (contentListener != null)
+        {
+            contentListener.accept(this);
+        }
+    }
+
+    /**
+     * Get the counted content of the rack.
+     *
+     * @return an unmodifiable map of the items and their amount.
+     */
+    public abstract Map<ItemStorage, Integer> getAllContent();
+
     public abstract boolean hasItemStack(ItemStack stack);
 
     public abstract void setInWarehouse(Boolean isInWarehouse);
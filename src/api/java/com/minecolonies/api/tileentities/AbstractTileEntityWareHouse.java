@@ -27,6 +27,15 @@ public abstract class AbstractTileEntityWareHouse extends TileEntityColonyBuildi
 
     public abstract boolean hasMatchingItemStackInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate, int count);
 
+    /**
+     * Count the items in the warehouse matching a predicate, without collecting the stacks.
+     *
+     * @param itemStackSelectionPredicate the predicate to select the stacks with.
+     * @param limit                       the amount after which counting stops.
+     * @return the amount, at most the limit.
+     */
+    public abstract int getCountOfMatchingItemStacksInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate, int limit);
+
     @NotNull
     public abstract List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate);
 
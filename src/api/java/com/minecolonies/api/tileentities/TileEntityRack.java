@@ -24,6 +24,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -164,6 +165,7 @@ public class TileEntityRack extends AbstractTileEntityRack
         }
 
         inventory = tempInventory;
+        onContentUpdated();
         final IBlockState state = world.getBlockState(pos);
         world.notifyBlockUpdate(pos, state, state, 0x03);
 
@@ -217,6 +219,13 @@ public class TileEntityRack extends AbstractTileEntityRack
 
         updateBlockState();
         markDirty();
+        onContentUpdated();
+    }
+
+    @Override
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
     }
 
     /**
@@ -274,7 +274,38 @@ public class InventoryUtils
         {
             Log.getLogger().error("This is not supposed to happen, please notify the developers!", new Exception("getItemCountInItemHandler got a null itemHandler"));
         }
-        return itemHandler == null ? 0 : filterItemHandler(itemHandler, itemStackSelectionPredicate).stream().mapToInt(ItemStackUtils::getSize).sum();
+        return itemHandler == null ? 0 : getItemCountInItemHandlerUpTo(itemHandler, itemStackSelectionPredicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the amount of occurrences in the {@link IItemHandler}, stops counting once the limit is reached.
+     * Reads the slots directly without collecting the matching stacks.
+     *
+     * @param itemHandler                 {@link IItemHandler} to scan.
+     * @param itemStackSelectionPredicate The predicate used to select the
+     *                                    stacks to count.
+     * @param limit                       the amount after which counting stops.
+     * @return Amount of occurrences of stacks that match the given predicate, at most the limit.
+     */
+    public static int getItemCountInItemHandlerUpTo(
+      @NotNull final IItemHandler itemHandler,
+      @NotNull final Predicate<ItemStack> itemStackSelectionPredicate,
+      final int limit)
+    {
+        int count = 0;
+        for (int slot = 0; slot < itemHandler.getSlots(); slot++)
+        {
+            final ItemStack stack = itemHandler.getStackInSlot(slot);
+            if (!ItemStackUtils.isEmpty(stack) && itemStackSelectionPredicate.test(stack))
+            {
+                count += ItemStackUtils.getSize(stack);
+                if (count >= limit)
+                {
+                    return limit;
+                }
+            }
+        }
+        return count;
     }
 
     public static int getItemCountInItemHandlers(@Nullable final Collection<IItemHandler> itemHandlers, @NotNull final Predicate<ItemStack> itemStackPredicate)
@@ -749,9 +780,33 @@ public class InventoryUtils
      */
     public static int getItemCountInProvider(@NotNull final ICapabilityProvider provider, @NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        return getItemHandlersFromProvider(provider).stream().filter(Objects::nonNull)
-                 .mapToInt(handler -> filterItemHandler(handler, itemStackSelectionPredicate).stream().mapToInt(ItemStackUtils::getSize).sum())
-                 .sum();
+        return getItemCountInProviderUpTo(provider, itemStackSelectionPredicate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the amount of occurrences in the {@link ICapabilityProvider}, stops counting once the limit is reached.
+     *
+     * @param provider                    {@link ICapabilityProvider} to scan.
+     * @param itemStackSelectionPredicate The predicate used to select the
+     *                                    stacks to count.
+     * @param limit                       the amount after which counting stops.
+     * @return Amount of occurrences of stacks that match the given predicate, at most the limit.
+     */
+    public static int getItemCountInProviderUpTo(
+      @NotNull final ICapabilityProvider provider,
+      @NotNull final Predicate<ItemStack> itemStackSelectionPredicate,
+      final int limit)
+    {
+        int count = 0;
+        for (final IItemHandler handler : getItemHandlersFromProvider(provider))
+        {
+            count += getItemCountInItemHandlerUpTo(handler, itemStackSelectionPredicate, limit - count);
+            if (count >= limit)
+            {
+                return limit;
+            }
+        }
+        return count;
     }
 
     /**
@@ -42,6 +42,16 @@ public final class ColonyManagerConstants
      */
     public static final String FILENAME_MINECOLONIES_BACKUP = "colonies-%s.zip";
 
+    /**
+     * The name of the manifest inside of a backup, listing the hash of every file and the backup holding it.
+     */
+    public static final String FILENAME_BACKUP_MANIFEST = "backup.manifest";
+
+    /**
+     * The file name of the manifest of the last backup.
+     */
+    public static final String FILENAME_LAST_BACKUP_MANIFEST = "lastbackup.manifest";
+
     /**
      * Printed text if world capability couldn't be found.
      */
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -7,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -97,6 +99,18 @@ public interface IResolverHandler
      */
     IRequestResolver<? extends IRequestable> getResolver(IToken<?> token);
 
+    /**
+     * Method to get the resolvers which can handle a given request type.
+     * <p>
+     * <p>
+     * Is only used internally. The resolvers are ordered by descending priority and then by how specific their request type is.
+     * </p>
+     *
+     * @param requestType The type of the request.
+     * @return An unmodifiable list of the resolvers for the given type.
+     */
+    List<IRequestResolver<?>> getResolversForRequestType(TypeToken<?> requestType);
+
     void removeResolverInternal(IRequestResolver<?> resolver);
 
     /**
@@ -17,8 +17,10 @@ import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
 import com.minecolonies.coremod.fixers.TileEntityIdFixer;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionDispatcher;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
 import com.minecolonies.coremod.proxy.IProxy;
+import com.minecolonies.coremod.util.ColonySaveQueue;
 import com.minecolonies.coremod.util.RecipeHandler;
 import net.minecraft.init.Items;
 import net.minecraft.util.datafix.FixTypes;
@@ -34,6 +36,7 @@ import net.minecraftforge.fml.common.event.FMLInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppedEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import net.minecraftforge.fml.relauncher.Side;
@@ -80,6 +83,7 @@ public class MineColonies
     {
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionDispatcher());
     }
 
     /**
@@ -220,6 +224,7 @@ public class MineColonies
 
         //  ColonyView messages
         getNetwork().registerMessage(ColonyViewMessage.class, ColonyViewMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(ColonyViewRequestsMessage.class, ColonyViewRequestsMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewCitizenViewMessage.class, ColonyViewCitizenViewMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveCitizenMessage.class, ColonyViewRemoveCitizenMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewBuildingViewMessage.class, ColonyViewBuildingViewMessage.class, ++id, Side.CLIENT);
@@ -229,6 +234,7 @@ public class MineColonies
         getNetwork().registerMessage(ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(ColonyViewRemoveWorkOrderMessage.class, ColonyViewRemoveWorkOrderMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage.class, ++id, Side.CLIENT);
+        getNetwork().registerMessage(UpdateChunkClaimsMessage.class, UpdateChunkClaimsMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(GuardMobAttackListMessage.class, GuardMobAttackListMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(HappinessDataMessage.class,HappinessDataMessage.class,++id,Side.CLIENT);
 
@@ -340,4 +346,11 @@ public class MineColonies
         event.registerServerCommand(new CommandEntryPoint());
         event.registerServerCommand(new CommandEntryPointNew());
     }
+
+    @Mod.EventHandler
+    public void serverStopped(final FMLServerStoppedEvent event)
+    {
+        // Colony files are written in the background, make sure they reached the disk.
+        ColonySaveQueue.flush();
+    }
 }
\ No newline at end of file
@@ -161,9 +161,19 @@ public class CitizenData implements ICitizenData
     private IJob job;
 
     /**
-     * If the citizen is dirty (Has to be updated on client side).
+     * The dirty parts of the view (Have to be updated on client side).
      */
-    private boolean dirty;
+    private int dirtyViewParts;
+
+    /**
+     * World time the rate limited view parts were synced last.
+     */
+    private long lastRateLimitedSync;
+
+    /**
+     * Amount of visible interactions at the last tick.
+     */
+    private int visibleInteractions;
 
     /**
      * Minimum for citizen stats
@@ -288,10 +298,27 @@ public class CitizenData implements ICitizenData
     @Override
     public void markDirty()
     {
-        dirty = true;
+        markDirty(VIEW_ALL);
+    }
+
+    @Override
+    public void markDirty(final int viewParts)
+    {
+        dirtyViewParts |= viewParts;
         colony.getCitizenManager().markCitizensDirty();
     }
 
+    @Override
+    public int getSyncViewParts()
+    {
+        if ((dirtyViewParts & VIEW_RATE_LIMITED) != 0 && colony.getWorld() != null
+              && colony.getWorld().getTotalWorldTime() - lastRateLimitedSync < RATE_LIMITED_VIEW_INTERVAL)
+        {
+            return dirtyViewParts & ~VIEW_RATE_LIMITED;
+        }
+        return dirtyViewParts;
+    }
+
     /**
      * Returns a random element in a list.
      *
@@ -565,16 +592,21 @@ public class CitizenData implements ICitizenData
     @Override
     public boolean isDirty()
     {
-        return dirty;
+        return dirtyViewParts != 0;
     }
 
     /**
-     * Markt the instance not dirty.
+     * Markt the synced parts of the instance not dirty, held back rate limited parts stay dirty.
      */
     @Override
     public void clearDirty()
     {
-        dirty = false;
+        final int syncedParts = getSyncViewParts();
+        if ((syncedParts & VIEW_RATE_LIMITED) != 0 && colony.getWorld() != null)
+        {
+            lastRateLimitedSync = colony.getWorld().getTotalWorldTime();
+        }
+        dirtyViewParts &= ~syncedParts;
     }
 
     /**
@@ -756,67 +788,102 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, VIEW_ALL);
+    }
 
-        buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
+    /**
+     * Writes parts of the citizen data to a byte buf for transition.
+     *
+     * @param buf       Buffer to write to.
+     * @param viewParts the parts to write.
+     */
+    @Override
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, final int viewParts)
+    {
+        buf.writeInt(viewParts);
 
-        buf.writeBoolean(paused);
+        if ((viewParts & VIEW_INFO) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(isChild);
+            buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
-        }
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
-        }
+            buf.writeBoolean(isChild);
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+            buf.writeInt(colony.getID());
+        }
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+        if ((viewParts & VIEW_EXPERIENCE) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
+        }
 
-        buf.writeInt(colony.getID());
+        if ((viewParts & VIEW_SKILLS) != 0)
+        {
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
-        BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
+        if ((viewParts & VIEW_VITALS) != 0)
+        {
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeDouble(getSaturation());
+            BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
+        }
 
-        if (colony.getWorld() != null)
+        if ((viewParts & VIEW_HAPPINESS) != 0)
         {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
-            {
-                ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
-            }
+        if ((viewParts & VIEW_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
+            ByteBufUtils.writeTag(buf, compound);
         }
-        else
+
+        if ((viewParts & VIEW_INTERACTIONS) != 0)
         {
-            buf.writeInt(0);
+            if (colony.getWorld() != null)
+            {
+                final List<IInteractionResponseHandler> subInteractions =
+                  citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+
+                buf.writeInt(subInteractions.size());
+                for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                {
+                    ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                }
+            }
+            else
+            {
+                buf.writeInt(0);
+            }
         }
     }
 
@@ -1603,7 +1670,7 @@ public class CitizenData implements ICitizenData
 
         if (!toRemove.isEmpty())
         {
-            markDirty();
+            markDirty(VIEW_INTERACTIONS);
         }
 
         for (final IInteractionResponseHandler handler : toRemove)
@@ -1617,6 +1684,14 @@ public class CitizenData implements ICitizenData
                 }
             }
         }
+
+        // Delayed interactions only become visible with time, the view has to be updated then.
+        final int visible = (int) citizenChatOptions.values().stream().filter(handler -> handler.isVisible(colony.getWorld())).count();
+        if (visible != visibleInteractions)
+        {
+            visibleInteractions = visible;
+            markDirty(VIEW_INTERACTIONS);
+        }
     }
 
     @Override
@@ -1629,7 +1704,7 @@ public class CitizenData implements ICitizenData
             {
                 this.citizenChatOptions.put(childHandler.getInquiry(), (ServerCitizenInteractionResponseHandler) childHandler);
             }
-            markDirty();
+            markDirty(VIEW_INTERACTIONS);
         }
     }
 }
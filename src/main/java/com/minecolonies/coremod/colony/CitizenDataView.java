@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.MinecoloniesAPIProxy;
+import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.ICitizenDataView;
 import com.minecolonies.api.colony.interactionhandling.ChatPriority;
 import com.minecolonies.api.colony.interactionhandling.IInteractionResponseHandler;
@@ -400,48 +401,74 @@ public class CitizenDataView implements ICitizenDataView
     @Override
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
-
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-
-        // Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        foodModifier = buf.readDouble();
-        damageModifier = buf.readDouble();
-        houseModifier = buf.readDouble();
-        jobModifier = buf.readDouble();
-        fieldsModifier = buf.readDouble();
-        toolsModifiers = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        colonyId = buf.readInt();
-
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
-
-        position = BlockPosUtil.readFromByteBuf(buf);
+        // Only the changed parts of the view are sent, all others keep their values.
+        final int viewParts = buf.readInt();
+
+        if ((viewParts & ICitizenData.VIEW_INFO) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
+
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+
+            job = ByteBufUtils.readUTF8String(buf);
+
+            colonyId = buf.readInt();
+        }
+
+        if ((viewParts & ICitizenData.VIEW_EXPERIENCE) != 0)
+        {
+            level = buf.readInt();
+            experience = buf.readDouble();
+        }
+
+        if ((viewParts & ICitizenData.VIEW_SKILLS) != 0)
+        {
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
+
+        if ((viewParts & ICitizenData.VIEW_VITALS) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+            saturation = buf.readDouble();
+            position = BlockPosUtil.readFromByteBuf(buf);
+        }
+
+        if ((viewParts & ICitizenData.VIEW_HAPPINESS) != 0)
+        {
+            happiness = buf.readDouble();
+
+            foodModifier = buf.readDouble();
+            damageModifier = buf.readDouble();
+            houseModifier = buf.readDouble();
+            jobModifier = buf.readDouble();
+            fieldsModifier = buf.readDouble();
+            toolsModifiers = buf.readDouble();
+        }
+
+        if ((viewParts & ICitizenData.VIEW_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
+            inventory = new InventoryCitizen(this.name, true);
+            final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
+            this.inventory.readFromNBT(nbttaglist);
+            this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
+            this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        }
+
+        if ((viewParts & ICitizenData.VIEW_INTERACTIONS) == 0)
+        {
+            return;
+        }
 
         citizenChatOptions.clear();
         final int size = buf.readInt();
@@ -28,6 +28,9 @@ import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkManager;
+import com.minecolonies.coremod.entity.pathfinding.ColonyBlockSnapshot;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathCache;
+import com.minecolonies.coremod.entity.pathfinding.ColonyRegionGraph;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveWorkOrderMessage;
 import com.minecolonies.coremod.permissions.ColonyPermissionEventHandler;
 import net.minecraft.block.Block;
@@ -42,7 +45,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.server.permission.PermissionAPI;
@@ -86,6 +88,26 @@ public class Colony implements IColony
      */
     private Set<Long> loadedChunks = new HashSet<>();
 
+    /**
+     * Pathfinding block flags of the loaded colony chunks, shared by the path jobs of the citizens.
+     */
+    private final ColonyBlockSnapshot blockSnapshot = new ColonyBlockSnapshot();
+
+    /**
+     * Finished paths of the citizens, validated against the block snapshot.
+     */
+    private final ColonyPathCache pathCache = new ColonyPathCache(blockSnapshot);
+
+    /**
+     * Portals between the loaded colony chunks, used to split long citizen trips.
+     */
+    private final ColonyRegionGraph regionGraph = new ColonyRegionGraph(blockSnapshot);
+
+    /**
+     * Bytes and time spent on serializing the views of the colony.
+     */
+    private final ViewSyncStatistics viewSyncStatistics = new ViewSyncStatistics();
+
     /**
      * List of waypoints of the colony.
      */
@@ -94,17 +116,17 @@ public class Colony implements IColony
     /**
      * Work Manager of the colony (Request System).
      */
-    private final WorkManager workManager = new WorkManager(this);
+    private WorkManager workManager = new WorkManager(this);
 
     /**
      * Building manager of the colony.
      */
-    private final IBuildingManager buildingManager = new BuildingManager(this);
+    private IBuildingManager buildingManager = new BuildingManager(this);
 
     /**
      * Citizen manager of the colony.
      */
-    private final ICitizenManager citizenManager = new CitizenManager(this);
+    private ICitizenManager citizenManager = new CitizenManager(this);
 
     /**
      * Colony happiness manager.
@@ -208,6 +230,18 @@ public class Colony implements IColony
      */
     private NBTTagCompound colonyTag;
 
+    /**
+     * The saved data of a dormant colony, its citizens, buildings, work orders and requests are only read from it on demand.
+     * Null while the colony is fully loaded.
+     */
+    @Nullable
+    private NBTTagCompound dormantData;
+
+    /**
+     * Ticks the colony spent inactive without loaded chunks since it was last used.
+     */
+    private int idleTicks = 0;
+
     /**
      * List of players visiting the colony.
      */
@@ -344,19 +378,99 @@ public class Colony implements IColony
 
         if (!packageManager.getCloseSubscribers().isEmpty() || (loadedChunks.size() > 40 && !packageManager.getImportantColonyPlayers().isEmpty()))
         {
+            hydrate();
             isActive = true;
             return ACTIVE;
         }
 
         if (!packageManager.getImportantColonyPlayers().isEmpty())
         {
+            hydrate();
             isActive = true;
             return UNLOADED;
         }
 
+        updateDormancy();
         return INACTIVE;
     }
 
+    /**
+     * Counts the idle time of an inactive colony and unloads it to its dormant data once it was idle for long enough.
+     */
+    private void updateDormancy()
+    {
+        if (dormantData != null || !loadedChunks.isEmpty() || !canBecomeDormant(packageManager.getLastContactInHours()))
+        {
+            idleTicks = 0;
+            return;
+        }
+
+        idleTicks += UPDATE_STATE_INTERVAL;
+        if (idleTicks >= Configurations.gameplay.dormantColonyUnloadMinutes * TICKS_SECOND * SECONDS_A_MINUTE)
+        {
+            dehydrate();
+        }
+    }
+
+    /**
+     * Check if a colony may be kept dormant.
+     *
+     * @param lastContactInHours the hours since the last contact of the colony with one of its important players.
+     * @return true if so.
+     */
+    private static boolean canBecomeDormant(final int lastContactInHours)
+    {
+        return Configurations.gameplay.dormantColonyHours > 0 && lastContactInHours >= Configurations.gameplay.dormantColonyHours;
+    }
+
+    /**
+     * Check if the colony is dormant, with its citizens, buildings, work orders and requests not loaded.
+     *
+     * @return true if so.
+     */
+    public boolean isDormant()
+    {
+        return dormantData != null;
+    }
+
+    /**
+     * Fully load a dormant colony and restart its idle time, a loaded colony only restarts its idle time.
+     */
+    public void hydrate()
+    {
+        idleTicks = 0;
+        if (dormantData == null)
+        {
+            return;
+        }
+
+        // Cleared first, reading the managers calls back into the colony.
+        final NBTTagCompound compound = dormantData;
+        dormantData = null;
+        readManagersFromNBT(compound);
+        Log.getLogger().info("Loaded dormant colony " + id);
+    }
+
+    /**
+     * Unload the citizens, buildings, work orders and requests of the colony, keeping only their saved data until they are needed again.
+     */
+    private void dehydrate()
+    {
+        final NBTTagCompound compound = getColonyTag();
+        if (compound == null || !compound.hasKey(TAG_CITIZEN_MANAGER) || !compound.hasKey(TAG_BUILDING_MANAGER))
+        {
+            return;
+        }
+
+        workManager = new WorkManager(this);
+        buildingManager = new BuildingManager(this);
+        citizenManager = new CitizenManager(this);
+        setRequestManager();
+        dormantData = compound;
+        idleTicks = 0;
+        Log.getLogger().info("Unloaded idle colony " + id + " until it is needed again");
+    }
+
     /**
      * Updates the existing subscribers
      */
@@ -535,7 +649,7 @@ public class Colony implements IColony
             c.setRequestManager();
             c.readFromNBT(compound);
 
-            if (c.getProgressManager().isPrintingProgress() && (c.getBuildingManager().getBuildings().size() > BUILDING_LIMIT_FOR_HELP
+            if (!c.isDormant() && c.getProgressManager().isPrintingProgress() && (c.getBuildingManager().getBuildings().size() > BUILDING_LIMIT_FOR_HELP
                                                                   || c.getCitizenManager().getCitizens().size() > CITIZEN_LIMIT_FOR_HELP))
             {
                 c.getProgressManager().togglePrintProgress();
@@ -585,29 +699,6 @@ public class Colony implements IColony
         // Permissions
         permissions.loadPermissions(compound);
 
-        if (compound.hasKey(TAG_CITIZEN_MANAGER))
-        {
-            citizenManager.readFromNBT(compound.getCompoundTag(TAG_CITIZEN_MANAGER));
-        }
-        else
-        {
-            //Compatability with old version!
-            citizenManager.readFromNBT(compound);
-        }
-
-        if (compound.hasKey(TAG_BUILDING_MANAGER))
-        {
-            buildingManager.readFromNBT(compound.getCompoundTag(TAG_BUILDING_MANAGER));
-        }
-        else
-        {
-            //Compatability with old version!
-            buildingManager.readFromNBT(compound);
-        }
-
-        // Recalculate max after citizens and buildings are loaded.
-        citizenManager.calculateMaxCitizens();
-
         if (compound.hasKey(TAG_STATS_MANAGER))
         {
             statsManager.readFromNBT(compound.getCompoundTag(TAG_STATS_MANAGER));
@@ -634,9 +725,6 @@ public class Colony implements IColony
 
         eventManager.readFromNBT(compound);
 
-        //  Workload
-        workManager.readFromNBT(compound.getCompoundTag(TAG_WORK));
-
         wayPoints.clear();
         // Waypoints
         final NBTTagList wayPointTagList = compound.getTagList(TAG_WAYPOINT, NBT.TAG_COMPOUND);
@@ -703,20 +791,66 @@ public class Colony implements IColony
             this.setColonyColor(TextFormatting.values()[compound.getInteger(TAG_TEAM_COLOR)]);
         }
 
+        // Colonies without a visit for a long time only read the rest once they are needed.
+        if (canBecomeDormant(packageManager.getLastContactInHours()) && compound.hasKey(TAG_CITIZEN_MANAGER) && compound.hasKey(TAG_BUILDING_MANAGER))
+        {
+            dormantData = compound;
+        }
+        else
+        {
+            dormantData = null;
+            readManagersFromNBT(compound);
+        }
+
+        this.colonyTag = compound;
+    }
+
+    /**
+     * Read the citizens, buildings, work orders and requests of the colony.
+     *
+     * @param compound compound to read from.
+     */
+    private void readManagersFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        if (compound.hasKey(TAG_CITIZEN_MANAGER))
+        {
+            citizenManager.readFromNBT(compound.getCompoundTag(TAG_CITIZEN_MANAGER));
+        }
+        else
+        {
+            //Compatability with old version!
+            citizenManager.readFromNBT(compound);
+        }
+
+        if (compound.hasKey(TAG_BUILDING_MANAGER))
+        {
+            buildingManager.readFromNBT(compound.getCompoundTag(TAG_BUILDING_MANAGER));
+        }
+        else
+        {
+            //Compatability with old version!
+            buildingManager.readFromNBT(compound);
+        }
+
+        // Recalculate max after citizens and buildings are loaded.
+        citizenManager.calculateMaxCitizens();
+
+        //  Workload
+        workManager.readFromNBT(compound.getCompoundTag(TAG_WORK));
+
         this.requestManager.reset();
         if (compound.hasKey(TAG_REQUESTMANAGER))
         {
             this.requestManager.deserializeNBT(compound.getCompoundTag(TAG_REQUESTMANAGER));
         }
-
-        this.colonyTag = compound;
     }
 
     /**
      * Get the event handler assigned to the colony.
      *
-     * @return the ColonyPermissionEventHandler.
+     * @return the ColonyPermissionEventHandler or null if the world of the colony is not loaded.
      */
+    @Nullable
     public ColonyPermissionEventHandler getEventHandler()
     {
         return eventHandler;
@@ -751,13 +885,34 @@ public class Colony implements IColony
         // Permissions
         permissions.savePermissions(compound);
 
-        final NBTTagCompound buildingCompound = new NBTTagCompound();
-        buildingManager.writeToNBT(buildingCompound);
-        compound.setTag(TAG_BUILDING_MANAGER, buildingCompound);
+        if (dormantData == null)
+        {
+            final NBTTagCompound buildingCompound = new NBTTagCompound();
+            buildingManager.writeToNBT(buildingCompound);
+            compound.setTag(TAG_BUILDING_MANAGER, buildingCompound);
+
+            final NBTTagCompound citizenCompound = new NBTTagCompound();
+            citizenManager.writeToNBT(citizenCompound);
+            compound.setTag(TAG_CITIZEN_MANAGER, citizenCompound);
 
-        final NBTTagCompound citizenCompound = new NBTTagCompound();
-        citizenManager.writeToNBT(citizenCompound);
-        compound.setTag(TAG_CITIZEN_MANAGER, citizenCompound);
+            //  Workload
+            @NotNull final NBTTagCompound workManagerCompound = new NBTTagCompound();
+            workManager.writeToNBT(workManagerCompound);
+            compound.setTag(TAG_WORK, workManagerCompound);
+
+            compound.setTag(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
+        }
+        else
+        {
+            // Dormant colonies did not change, keep their saved data.
+            for (final String key : new String[] {TAG_BUILDING_MANAGER, TAG_CITIZEN_MANAGER, TAG_WORK, TAG_REQUESTMANAGER})
+            {
+                if (dormantData.hasKey(key))
+                {
+                    compound.setTag(key, dormantData.getTag(key));
+                }
+            }
+        }
 
         colonyHappinessManager.getLockedHappinessModifier().ifPresent(d -> compound.setDouble(TAG_HAPPINESS_MODIFIER, d));
 
@@ -765,11 +920,6 @@ public class Colony implements IColony
         statsManager.writeToNBT(statsCompound);
         compound.setTag(TAG_STATS_MANAGER, statsCompound);
 
-        //  Workload
-        @NotNull final NBTTagCompound workManagerCompound = new NBTTagCompound();
-        workManager.writeToNBT(workManagerCompound);
-        compound.setTag(TAG_WORK, workManagerCompound);
-
         progressManager.writeToNBT(compound);
         eventManager.writeToNBT(compound);
 
@@ -807,7 +957,6 @@ public class Colony implements IColony
         compound.setInteger(TAG_ABANDONED, packageManager.getLastContactInHours());
         compound.setBoolean(TAG_MANUAL_HOUSING, manualHousing);
         compound.setBoolean(TAG_MOVE_IN, moveIn);
-        compound.setTag(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
         compound.setString(TAG_STYLE, style);
         compound.setBoolean(TAG_RAIDABLE, raidManager.canHaveRaiderEvents());
         compound.setBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
@@ -843,9 +992,8 @@ public class Colony implements IColony
     public void onWorldLoad(@NotNull final World w)
     {
         this.world = w;
-        // Register a new event handler
+        // Events inside the colony are routed to this handler by the ColonyPermissionDispatcher.
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
     }
 
     /**
@@ -864,11 +1012,7 @@ public class Colony implements IColony
              */
             return;
         }
-        if (eventHandler != null)
-        {
-            MinecraftForge.EVENT_BUS.unregister(eventHandler);
-        }
-
+        eventHandler = null;
         world = null;
     }
 
@@ -892,6 +1036,7 @@ public class Colony implements IColony
     @NotNull
     public IWorkManager getWorkManager()
     {
+        hydrate();
         return workManager;
     }
 
@@ -1099,7 +1244,7 @@ public class Colony implements IColony
     @Override
     public boolean hasTownHall()
     {
-        return buildingManager.hasTownHall();
+        return getBuildingManager().hasTownHall();
     }
 
     /**
@@ -1116,7 +1261,7 @@ public class Colony implements IColony
     @Override
     public boolean hasWarehouse()
     {
-        return buildingManager.hasWarehouse();
+        return getBuildingManager().hasWarehouse();
     }
 
     @Override
@@ -1140,6 +1285,7 @@ public class Colony implements IColony
     @Override
     public IRequestManager getRequestManager()
     {
+        hydrate();
         return requestManager;
     }
 
@@ -1162,7 +1308,7 @@ public class Colony implements IColony
     @Override
     public IRequester getRequesterBuildingForPosition(@NotNull final BlockPos pos)
     {
-        return buildingManager.getBuilding(pos);
+        return getBuildingManager().getBuilding(pos);
     }
 
     @Override
@@ -1313,17 +1459,18 @@ public class Colony implements IColony
     @Override
     public double getOverallHappiness()
     {
-        if (citizenManager.getCitizens().size() <= 0)
+        final List<ICitizenData> citizens = getCitizenManager().getCitizens();
+        if (citizens.size() <= 0)
         {
             return (HappinessData.MAX_HAPPINESS + HappinessData.MIN_HAPPINESS) / 2.0;
         }
 
         double happinesSum = 0;
-        for (final ICitizenData citizen : citizenManager.getCitizens())
+        for (final ICitizenData citizen : citizens)
         {
             happinesSum += citizen.getCitizenHappinessHandler().getHappiness();
         }
-        final double happinessAverage = happinesSum / citizenManager.getCitizens().size();
+        final double happinessAverage = happinesSum / citizens.size();
         return Math.min(happinessAverage + happinessData.getTotalHappinessModifier(), HappinessData.MAX_HAPPINESS);
     }
 
@@ -1379,6 +1526,7 @@ public class Colony implements IColony
     @Override
     public IBuildingManager getBuildingManager()
     {
+        hydrate();
         return buildingManager;
     }
 
@@ -1390,6 +1538,7 @@ public class Colony implements IColony
     @Override
     public ICitizenManager getCitizenManager()
     {
+        hydrate();
         return citizenManager;
     }
 
@@ -1731,13 +1880,56 @@ public class Colony implements IColony
     @Override
     public void addLoadedChunk(final long chunkPos)
     {
+        hydrate();
         loadedChunks.add(chunkPos);
+        blockSnapshot.addChunk(chunkPos);
     }
 
     @Override
     public void removeLoadedChunk(final long chunkPos)
     {
         loadedChunks.remove(chunkPos);
+        blockSnapshot.removeChunk(chunkPos);
+    }
+
+    /**
+     * Get the pathfinding block snapshot of the loaded colony chunks.
+     *
+     * @return the snapshot.
+     */
+    public ColonyBlockSnapshot getBlockSnapshot()
+    {
+        return blockSnapshot;
+    }
+
+    /**
+     * Get the cache of finished paths of the citizens.
+     *
+     * @return the cache.
+     */
+    public ColonyPathCache getPathCache()
+    {
+        return pathCache;
+    }
+
+    /**
+     * Get the region graph of the loaded colony chunks.
+     *
+     * @return the graph.
+     */
+    public ColonyRegionGraph getRegionGraph()
+    {
+        return regionGraph;
+    }
+
+    /**
+     * Get the bytes and time spent on serializing the views of the colony.
+     *
+     * @return the statistics.
+     */
+    public ViewSyncStatistics getViewSyncStatistics()
+    {
+        return viewSyncStatistics;
     }
 
     @Override
@@ -9,8 +9,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -19,6 +22,7 @@ import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
  * Data structure for storing colonies, optimized for performance.
+ * Keeps a grid of the colony centers for closest colony lookups and an immutable snapshot for iteration.
  *
  * @param <T> Type of IColony (Colony or ColonyView)
  * @author Colton
@@ -33,6 +37,35 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
 
     private int size = 0;
 
+    /**
+     * Size of a cell of the center grid, as shift of the block coordinates.
+     */
+    private static final int CELL_SHIFT = 8;
+
+    /**
+     * Colonies by grid cell of their center.
+     */
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    /**
+     * The grid cell of every indexed colony, by id.
+     */
+    private final Map<Integer, Long> colonyCells = new HashMap<>();
+
+    /**
+     * Bounds of the cells which ever held a colony, only grow until the list is cleared.
+     */
+    private int minCellX = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int minCellZ = Integer.MAX_VALUE;
+    private int maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Immutable snapshot of all colonies, null if it has to be rebuilt.
+     */
+    @Nullable
+    private List<T> snapshot = null;
+
     /**
      * Creates a new Colony, adds it to the list, and returns it.
      *
@@ -58,6 +91,8 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         final Colony colony = new Colony(colonyID, world, position);
         size++;
         list[colony.getID()] = colony;
+        updatePosition(get(colony.getID()));
+        snapshot = null;
         return colony;
     }
 
@@ -111,6 +146,8 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         topID = colony.getID();
 
         list[colony.getID()] = colony;
+        updatePosition(colony);
+        snapshot = null;
     }
 
     /**
@@ -155,6 +192,8 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
 
         size--;
         list[id] = null;
+        removeFromGrid(id);
+        snapshot = null;
 
         if (!nullIndices.contains(id))
         {
@@ -173,6 +212,13 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         }
 
         nullIndices.clear();
+        cells.clear();
+        colonyCells.clear();
+        minCellX = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        minCellZ = Integer.MAX_VALUE;
+        maxCellZ = Integer.MIN_VALUE;
+        snapshot = null;
 
         topID = 0;
         size = 0;
@@ -225,6 +271,176 @@ public final class ColonyList<T extends IColony> implements Iterable<T>
         return copyList;
     }
 
+    /**
+     * Get an immutable list of all colonies.
+     * The list is shared until colonies are added or removed, so this is cheap to call every tick.
+     *
+     * @return List of Colonies.
+     */
+    @NotNull
+    public List<T> getSnapshot()
+    {
+        if (snapshot == null)
+        {
+            snapshot = Collections.unmodifiableList(getCopyAsList());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Update the grid cell of a colony, has to be called whenever the center of a colony in the list changed.
+     *
+     * @param colony the colony.
+     */
+    public void updatePosition(@NotNull final T colony)
+    {
+        final BlockPos center = colony.getCenter();
+        final Long oldCell = colonyCells.get(colony.getID());
+        if (center == null)
+        {
+            removeFromGrid(colony.getID());
+            return;
+        }
+
+        final int cellX = center.getX() >> CELL_SHIFT;
+        final int cellZ = center.getZ() >> CELL_SHIFT;
+        final long cell = getCellKey(cellX, cellZ);
+        if (oldCell != null && oldCell == cell)
+        {
+            return;
+        }
+
+        removeFromGrid(colony.getID());
+        cells.computeIfAbsent(cell, key -> new ArrayList<>()).add(colony);
+        colonyCells.put(colony.getID(), cell);
+        minCellX = Math.min(minCellX, cellX);
+        maxCellX = Math.max(maxCellX, cellX);
+        minCellZ = Math.min(minCellZ, cellZ);
+        maxCellZ = Math.max(maxCellZ, cellZ);
+    }
+
+    /**
+     * Remove a colony from the center grid.
+     *
+     * @param id the id of the colony.
+     */
+    private void removeFromGrid(final int id)
+    {
+        final Long cell = colonyCells.remove(id);
+        if (cell == null)
+        {
+            return;
+        }
+
+        final List<T> cellColonies = cells.get(cell);
+        cellColonies.removeIf(colony -> colony.getID() == id);
+        if (cellColonies.isEmpty())
+        {
+            cells.remove(cell);
+        }
+    }
+
+    /**
+     * Get the colony with the center closest to a position.
+     * Searches the grid in rings around the position and falls back to a scan over all colonies once that would be cheaper.
+     *
+     * @param pos the position.
+     * @return the closest colony or null if there is none with a center.
+     */
+    @Nullable
+    public T getClosest(@NotNull final BlockPos pos)
+    {
+        if (colonyCells.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        final int maxRing = Math.max(Math.max(cellX - minCellX, maxCellX - cellX), Math.max(cellZ - minCellZ, maxCellZ - cellZ));
+
+        T closest = null;
+        long closestDist = Long.MAX_VALUE;
+        int visitedCells = 0;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            // Colonies in this ring are at least (ring - 1) cells away.
+            final long ringDist = (long) Math.max(0, ring - 1) << CELL_SHIFT;
+            if (closest != null && ringDist * ringDist > closestDist)
+            {
+                break;
+            }
+
+            visitedCells += ring == 0 ? 1 : ring * 8;
+            if (visitedCells > size)
+            {
+                return getClosestByScan(pos);
+            }
+
+            for (int dx = -ring; dx <= ring; dx++)
+            {
+                final boolean edgeX = dx == -ring || dx == ring;
+                for (int dz = -ring; dz <= ring; dz += edgeX ? 1 : Math.max(1, ring * 2))
+                {
+                    final List<T> cellColonies = cells.get(getCellKey(cellX + dx, cellZ + dz));
+                    if (cellColonies == null)
+                    {
+                        continue;
+                    }
+
+                    for (final T colony : cellColonies)
+                    {
+                        final long dist = colony.getDistanceSquared(pos);
+                        if (dist < closestDist)
+                        {
+                            closest = colony;
+                            closestDist = dist;
+                        }
+                    }
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the closest colony by checking all colonies of the grid.
+     *
+     * @param pos the position.
+     * @return the closest colony.
+     */
+    @Nullable
+    private T getClosestByScan(@NotNull final BlockPos pos)
+    {
+        T closest = null;
+        long closestDist = Long.MAX_VALUE;
+        for (final List<T> cellColonies : cells.values())
+        {
+            for (final T colony : cellColonies)
+            {
+                final long dist = colony.getDistanceSquared(pos);
+                if (dist < closestDist)
+                {
+                    closest = colony;
+                    closestDist = dist;
+                }
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Pack a grid cell into a long.
+     *
+     * @param cellX the cell x.
+     * @param cellZ the cell z.
+     * @return the key.
+     */
+    private static long getCellKey(final int cellX, final int cellZ)
+    {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
     /**
      * Makes an iterator for the list.
      *
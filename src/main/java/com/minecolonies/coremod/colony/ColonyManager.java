@@ -17,6 +17,7 @@ import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ColonySaveQueue;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
@@ -28,7 +29,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -209,15 +209,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
@@ -298,8 +289,15 @@ public final class ColonyManager implements IColonyManager
         Log.getLogger().warn("Colony at place " + pos + " is null! " + w.provider.getDimension());
 
         //  Fallback - there might be a AbstractBuilding for this block, but it's outside of it's owning colony's radius.
+        //  Dormant colonies are only loaded if the position is close enough to possibly belong to them.
+        final long maxDistance = getMinimumDistanceBetweenTownHalls();
         for (@NotNull final IColony otherColony : getColonies(w))
         {
+            if (otherColony instanceof Colony && ((Colony) otherColony).isDormant() && otherColony.getDistanceSquared(pos) > maxDistance * maxDistance)
+            {
+                continue;
+            }
+
             final IBuilding building = otherColony.getBuildingManager().getBuilding(pos);
             if (building != null)
             {
@@ -558,26 +556,12 @@ public final class ColonyManager implements IColonyManager
             return closestColony;
         }
 
-        @Nullable IColonyView closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
         if (colonyViews.containsKey(w.provider.getDimension()))
         {
-            for (@NotNull final IColonyView c : colonyViews.get(w.provider.getDimension()))
-            {
-                if (c.getDimension() == w.provider.getDimension() && c.getCenter() != null)
-                {
-                    final long dist = c.getDistanceSquared(pos);
-                    if (dist < closestDist)
-                    {
-                        closestColony = c;
-                        closestDist = dist;
-                    }
-                }
-            }
+            return colonyViews.get(w.provider.getDimension()).getClosest(pos);
         }
 
-        return closestColony;
+        return null;
     }
 
     /**
@@ -617,23 +601,14 @@ public final class ColonyManager implements IColonyManager
             return closestColony;
         }
 
-        @Nullable IColony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull final IColony c : getColonies(w))
+        final IColonyManagerCapability managerCap = w.getCapability(COLONY_MANAGER_CAP, null);
+        if (managerCap == null)
         {
-            if (c.getDimension() == w.provider.getDimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return null;
         }
 
-        return closestColony;
+        return managerCap.getClosestColony(pos);
     }
 
     /**
@@ -966,6 +941,7 @@ public final class ColonyManager implements IColonyManager
             if (loaded)
             {
                 BackUpHelper.backupColonyData();
+                ColonySaveQueue.reset();
                 loaded = false;
             }
         }
@@ -998,6 +974,8 @@ public final class ColonyManager implements IColonyManager
             }
         }
         view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        // The center is only known once the view received its data.
+        colonyViews.get(dim).updatePosition(view);
     }
 
     /**
@@ -1081,6 +1059,26 @@ public final class ColonyManager implements IColonyManager
         view.handleColonyViewWorkOrderMessage(buf);
     }
 
+    /**
+     * Returns result of {@link ColonyView#handleColonyViewRequestsMessage(ByteBuf)}
+     * if {@link #getColonyView(int, int)} gives a not-null result.
+     * If {@link #getColonyView(int, int)} is null, returns null.
+     *
+     * @param colonyId ID of the colony.
+     * @param buf      {@link ByteBuf} with request system data.
+     * @param dim      the dimension.
+     */
+    @Override
+    public void handleColonyViewRequestsMessage(final int colonyId, final ByteBuf buf, final int dim)
+    {
+        final IColonyView view = getColonyView(colonyId, dim);
+        if (view == null)
+        {
+            return;
+        }
+        view.handleColonyViewRequestsMessage(buf);
+    }
+
     /**
      * Returns result of {@link ColonyView#handleColonyViewRemoveCitizenMessage(int)}
      * if {@link #getColonyView(int, int)} gives a not-null result. If {@link
@@ -1,5 +1,7 @@
 package com.minecolonies.coremod.colony;
 
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
 import net.minecraft.block.state.IBlockState;
@@ -13,7 +15,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal and block change events.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -21,8 +23,17 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
+        if (oldState == newState || worldIn.isRemote)
+        {
+            return;
+        }
 
+        // Drop the pathfinding flags of the changed section, so path jobs read the new block.
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(worldIn, pos);
+        if (colony instanceof Colony)
+        {
+            ((Colony) colony).getBlockSnapshot().invalidate(pos);
+        }
     }
 
     @Override
@@ -10,21 +10,27 @@ import com.minecolonies.api.colony.permissions.Action;
 import com.minecolonies.api.colony.permissions.IPermissions;
 import com.minecolonies.api.colony.permissions.Player;
 import com.minecolonies.api.colony.permissions.Rank;
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.WorkOrderView;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
@@ -34,6 +40,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
@@ -41,7 +48,10 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_LIST;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TOKEN;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
@@ -51,10 +61,23 @@ import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 public final class ColonyView implements IColonyView
 {
     /**
-     * Max allowed NBTTagCompound in bytes 
+     * Max bytes of request system data per packet.
      */
     private static final int MAX_BYTES_NBTCOMPOUND = (int) 1e6;
 
+    /**
+     * Size of the header of a request system buffer: the reset flag, the base size and the base fragment size.
+     */
+    private static final int REQUEST_BUFFER_HEADER_SIZE = 9;
+
+    /**
+     * Entry types of a request system buffer.
+     */
+    private static final byte REQUEST_ENTRY_END     = 0;
+    private static final byte REQUEST_ENTRY_REMOVED = 1;
+    private static final byte REQUEST_ENTRY_CHANGED = 2;
+    private static final byte REQUEST_ENTRY_ASSIGNMENT = 3;
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, WorkOrderView>    workOrders    = new HashMap<>();
@@ -146,7 +169,13 @@ public final class ColonyView implements IColonyView
     /**
      * The request manager on the colony view side.
      */
-    private IRequestManager requestManager;
+    private IStandardRequestManager requestManager;
+
+    /**
+     * The fragments of a request system base received so far, null if none is pending.
+     */
+    @Nullable
+    private ByteBuf pendingRequestBase;
 
     /**
      * Wether the colony is raided
@@ -218,11 +247,10 @@ public final class ColonyView implements IColonyView
     /**
      * Populate an NBT compound for a network packet representing a ColonyView.
      *
-     * @param colony            Colony to write data about.
-     * @param buf               {@link ByteBuf} to write data in.
-     * @param hasNewSubscribers true if there is a new subscription.
+     * @param colony Colony to write data about.
+     * @param buf    {@link ByteBuf} to write data in.
      */
-    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf, boolean hasNewSubscribers)
+    public static void serializeNetworkData(@NotNull Colony colony, @NotNull ByteBuf buf)
     {
         //  General Attributes
         ByteBufUtils.writeUTF8String(buf, colony.getName());
@@ -263,25 +291,7 @@ public final class ColonyView implements IColonyView
         buf.writeBoolean(colony.canMoveIn());
         //  Citizens are sent as a separate packet
 
-        if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
-        {
-            final int preSize = buf.writerIndex();
-            final int preState = buf.readerIndex();
-            buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            final int postSize = buf.writerIndex();
-            if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
-            {
-                colony.getRequestManager().reset();
-                buf.setIndex(preState, preSize);
-                buf.writeBoolean(true);
-                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
-            }
-        }
-        else
-        {
-            buf.writeBoolean(false);
-        }
+        //  The request system is sent as separate packets
 
         buf.writeInt(colony.getRaiderManager().getLastSpawnPoints().size());
         for (final BlockPos block : colony.getRaiderManager().getLastSpawnPoints())
@@ -769,13 +779,6 @@ public final class ColonyView implements IColonyView
         this.manualHousing = buf.readBoolean();
         this.moveIn = buf.readBoolean();
 
-        if (buf.readBoolean())
-        {
-            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
-        }
-
         final int barbSpawnListSize = buf.readInt();
         for (int i = 0; i < barbSpawnListSize; i++)
         {
@@ -828,6 +831,214 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    /**
+     * Write request system changes into one or more buffers, starting a new buffer whenever one grows too large.
+     * The base is split into fragments which the receiver puts together, changed assignments, removed and changed requests follow as entries.
+     * Only the first buffer carries the reset flag.
+     *
+     * @param reset       if the receiver has to drop all requests it knows.
+     * @param base        the request system without its requests, null if unchanged.
+     * @param assignments the request assignments of the resolvers whose requests changed.
+     * @param requests    the created or changed requests.
+     * @param removed     the tokens of the removed requests.
+     * @return the buffers to send, in order.
+     */
+    @NotNull
+    public static List<ByteBuf> serializeRequestNetworkData(
+      final boolean reset,
+      @Nullable final NBTTagCompound base,
+      @NotNull final Collection<NBTTagCompound> assignments,
+      @NotNull final Collection<NBTTagCompound> requests,
+      @NotNull final Collection<NBTTagCompound> removed)
+    {
+        final ByteBuf baseBytes = Unpooled.buffer();
+        if (base != null)
+        {
+            ByteBufUtils.writeTag(baseBytes, base);
+        }
+        final int baseSize = baseBytes.readableBytes();
+
+        final List<ByteBuf> buffers = new ArrayList<>();
+        ByteBuf buf = Unpooled.buffer();
+        buf.writeBoolean(reset);
+        while (true)
+        {
+            final int fragmentSize = Math.min(baseBytes.readableBytes(), MAX_BYTES_NBTCOMPOUND);
+            buf.writeInt(baseSize);
+            buf.writeInt(fragmentSize);
+            buf.writeBytes(baseBytes, fragmentSize);
+            if (!baseBytes.isReadable())
+            {
+                break;
+            }
+
+            buf.writeByte(REQUEST_ENTRY_END);
+            buffers.add(buf);
+            buf = Unpooled.buffer();
+            buf.writeBoolean(false);
+        }
+
+        for (final NBTTagCompound assignment : assignments)
+        {
+            buf = writeRequestEntry(buffers, buf, REQUEST_ENTRY_ASSIGNMENT, assignment);
+        }
+        for (final NBTTagCompound token : removed)
+        {
+            buf = writeRequestEntry(buffers, buf, REQUEST_ENTRY_REMOVED, token);
+        }
+        for (final NBTTagCompound request : requests)
+        {
+            buf = writeRequestEntry(buffers, buf, REQUEST_ENTRY_CHANGED, request);
+        }
+        buf.writeByte(REQUEST_ENTRY_END);
+        buffers.add(buf);
+        return buffers;
+    }
+
+    /**
+     * Write an entry into a request system buffer, or into a new one if the buffer would grow too large.
+     *
+     * @param buffers the finished buffers, the full buffer is added to them.
+     * @param buf     the current buffer.
+     * @param type    the entry type.
+     * @param data    the entry data.
+     * @return the buffer to continue with.
+     */
+    @NotNull
+    private static ByteBuf writeRequestEntry(@NotNull final List<ByteBuf> buffers, @NotNull final ByteBuf buf, final byte type, @NotNull final NBTTagCompound data)
+    {
+        final int preSize = buf.writerIndex();
+        buf.writeByte(type);
+        ByteBufUtils.writeTag(buf, data);
+        if (preSize <= REQUEST_BUFFER_HEADER_SIZE || buf.writerIndex() < MAX_BYTES_NBTCOMPOUND)
+        {
+            return buf;
+        }
+
+        buf.writerIndex(preSize);
+        buf.writeByte(REQUEST_ENTRY_END);
+        buffers.add(buf);
+
+        final ByteBuf next = Unpooled.buffer();
+        next.writeBoolean(false);
+        next.writeInt(0);
+        next.writeInt(0);
+        next.writeByte(type);
+        ByteBufUtils.writeTag(next, data);
+        return next;
+    }
+
+    /**
+     * Apply request system changes written by {@link #serializeRequestNetworkData}.
+     *
+     * @param buf Network data.
+     * @return null == no response.
+     */
+    @Override
+    @Nullable
+    public IMessage handleColonyViewRequestsMessage(@NotNull final ByteBuf buf)
+    {
+        if (buf.readBoolean())
+        {
+            pendingRequestBase = null;
+            if (requestManager != null)
+            {
+                requestManager.getRequestIdentitiesDataStore().getIdentities().clear();
+            }
+        }
+
+        final int baseSize = buf.readInt();
+        final int fragmentSize = buf.readInt();
+        if (baseSize > 0)
+        {
+            if (pendingRequestBase == null)
+            {
+                pendingRequestBase = Unpooled.buffer(baseSize);
+            }
+            pendingRequestBase.writeBytes(buf, fragmentSize);
+            if (pendingRequestBase.readableBytes() >= baseSize)
+            {
+                applyRequestBase(ByteBufUtils.readTag(pendingRequestBase));
+                pendingRequestBase = null;
+            }
+        }
+
+        for (byte type = buf.readByte(); type != REQUEST_ENTRY_END; type = buf.readByte())
+        {
+            final NBTTagCompound data = ByteBufUtils.readTag(buf);
+            if (requestManager == null)
+            {
+                continue;
+            }
+
+            if (type == REQUEST_ENTRY_ASSIGNMENT)
+            {
+                applyRequestAssignment(data);
+            }
+            else if (type == REQUEST_ENTRY_REMOVED)
+            {
+                final IToken<?> token = StandardFactoryController.getInstance().deserialize(data);
+                requestManager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            }
+            else
+            {
+                final IRequest<?> request = StandardFactoryController.getInstance().deserialize(data);
+                requestManager.getRequestIdentitiesDataStore().getIdentities().forcePut(request.getId(), request);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Replace the requests assigned to a resolver, or drop the resolver from the assignments if it has none left.
+     *
+     * @param data the serialized assignments of the resolver.
+     */
+    private void applyRequestAssignment(@NotNull final NBTTagCompound data)
+    {
+        final IToken<?> resolver = StandardFactoryController.getInstance().deserialize(data.getCompoundTag(TAG_TOKEN));
+        final Collection<IToken<?>> requests = NBTUtils.streamCompound(data.getTagList(TAG_LIST, Constants.NBT.TAG_COMPOUND))
+                                                 .map(compound -> (IToken<?>) StandardFactoryController.getInstance().deserialize(compound))
+                                                 .collect(Collectors.toList());
+
+        final Map<IToken<?>, Collection<IToken<?>>> assignments = requestManager.getRequestResolverRequestAssignmentDataStore().getAssignments();
+        if (requests.isEmpty())
+        {
+            assignments.remove(resolver);
+        }
+        else
+        {
+            assignments.put(resolver, requests);
+        }
+    }
+
+    /**
+     * Replace the request system without its requests, keeping the requests the view already knows.
+     *
+     * @param base the serialized request system.
+     */
+    private void applyRequestBase(@Nullable final NBTTagCompound base)
+    {
+        if (base == null)
+        {
+            return;
+        }
+
+        final List<IRequest<?>> knownRequests = new ArrayList<>();
+        if (requestManager != null)
+        {
+            knownRequests.addAll(requestManager.getRequestIdentitiesDataStore().getIdentities().values());
+        }
+
+        requestManager = new StandardRequestManager(this);
+        requestManager.deserializeNBT(base);
+        for (final IRequest<?> request : knownRequests)
+        {
+            requestManager.getRequestIdentitiesDataStore().getIdentities().forcePut(request.getId(), request);
+        }
+    }
+
     /**
      * Update a ColonyView's workOrders given a network data ColonyView update
      * packet. This uses a full-replacement - workOrders do not get updated and
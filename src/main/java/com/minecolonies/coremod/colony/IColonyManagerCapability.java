@@ -4,9 +4,10 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.coremod.util.ColonySaveQueue;
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -17,6 +18,12 @@ import org.jetbrains.annotations.NotNull;
 import javax.annotation.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -53,10 +60,19 @@ public interface IColonyManagerCapability
     /**
      * Get a list of all colonies.
      *
-     * @return a complete list.
+     * @return an immutable list, shared until colonies are added or removed.
      */
     List<IColony> getColonies();
 
+    /**
+     * Get the colony with the center closest to a position.
+     *
+     * @param pos the position.
+     * @return the colony or null if there is none.
+     */
+    @Nullable
+    IColony getClosestColony(@NotNull final BlockPos pos);
+
     /**
      * add a new colony to the capability.
      *
@@ -103,7 +119,13 @@ public interface IColonyManagerCapability
         @Override
         public List<IColony> getColonies()
         {
-            return colonies.getCopyAsList();
+            return colonies.getSnapshot();
+        }
+
+        @Override
+        public IColony getClosestColony(@NotNull final BlockPos pos)
+        {
+            return colonies.getClosest(pos);
         }
 
         @Override
@@ -128,7 +150,18 @@ public interface IColonyManagerCapability
         public NBTBase writeNBT(@NotNull final Capability<IColonyManagerCapability> capability, @NotNull final IColonyManagerCapability instance, @Nullable final EnumFacing side)
         {
             final NBTTagCompound compound = new NBTTagCompound();
-            compound.setTag(TAG_COLONIES, instance.getColonies().stream().map(IColony::getColonyTag).filter(Objects::nonNull).collect(NBTUtils.toNBTTagList()));
+            final NBTTagList colonies = new NBTTagList();
+            for (final IColony colony : instance.getColonies())
+            {
+                // Only colonies which were active since their last save are serialized again, the tag is shared with the colony file writer.
+                final NBTTagCompound colonyTag = colony.getColonyTag();
+                if (colonyTag != null)
+                {
+                    colonies.appendTag(colonyTag);
+                    ColonySaveQueue.queueColony(colony, colonyTag);
+                }
+            }
+            compound.setTag(TAG_COLONIES, colonies);
             return compound;
         }
 
@@ -141,17 +174,30 @@ public interface IColonyManagerCapability
             {
                 final NBTTagCompound compound = (NBTTagCompound) nbt;
 
-                // Load all colonies from Nbt
+                // Parse all colonies from Nbt, this does not touch the world and runs in parallel.
+                final NBTTagList colonyTags = compound.getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND);
+                final long parseStart = System.nanoTime();
+                final List<IColony> loaded = parseColonies(colonyTags);
+                final long parseTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - parseStart);
+
+                // Hook them up on the calling thread in their saved order.
+                final long registerStart = System.nanoTime();
                 Multimap<BlockPos, IColony> tempColonies = ArrayListMultimap.create();
-                for (final NBTBase tag : compound.getTagList(TAG_COLONIES, Constants.NBT.TAG_COMPOUND))
+                int dormant = 0;
+                for (final IColony colony : loaded)
                 {
-                    final IColony colony = Colony.loadColony((NBTTagCompound) tag, null);
                     if (colony != null)
                     {
                         tempColonies.put(colony.getCenter(), colony);
                         instance.addColony(colony);
+                        if (colony instanceof Colony && ((Colony) colony).isDormant())
+                        {
+                            dormant++;
+                        }
                     }
                 }
+                Log.getLogger().info("Parsed " + colonyTags.tagCount() + " colonies in " + parseTime + " ms, registered them in "
+                                       + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - registerStart) + " ms, " + dormant + " of them are dormant");
 
                 // Check colonies for duplicates causing issues.
                 for (final BlockPos pos:tempColonies.keySet())
@@ -169,5 +215,55 @@ public interface IColonyManagerCapability
                 }
             }
         }
+
+        /**
+         * Parse a list of colony tags, in parallel if there is more than one.
+         *
+         * @param colonyTags the tags.
+         * @return the colonies in the order of the tags, null for colonies which failed to load.
+         */
+        @NotNull
+        private static List<IColony> parseColonies(@NotNull final NBTTagList colonyTags)
+        {
+            final int count = colonyTags.tagCount();
+            if (count > 1)
+            {
+                final ClassLoader loader = Colony.class.getClassLoader();
+                final ForkJoinPool pool = new ForkJoinPool(Math.min(count, Runtime.getRuntime().availableProcessors()), forkJoinPool -> {
+                    final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                    thread.setName("Minecolonies Colony Loading-" + thread.getPoolIndex());
+                    thread.setContextClassLoader(loader);
+                    return thread;
+                }, null, false);
+
+                try
+                {
+                    return pool.submit(() -> IntStream.range(0, count)
+                                               .parallel()
+                                               .mapToObj(i -> (IColony) Colony.loadColony(colonyTags.getCompoundTagAt(i), null))
+                                               .collect(Collectors.toList())).get();
+                }
+                catch (final InterruptedException e)
+                {
+                    Thread.currentThread().interrupt();
+                    Log.getLogger().warn("Interrupted while loading colonies in parallel, loading them one by one", e);
+                }
+                catch (final ExecutionException e)
+                {
+                    Log.getLogger().warn("Failed loading colonies in parallel, loading them one by one", e);
+                }
+                finally
+                {
+                    pool.shutdown();
+                }
+            }
+
+            final List<IColony> colonies = new ArrayList<>(count);
+            for (int i = 0; i < count; i++)
+            {
+                colonies.add(Colony.loadColony(colonyTags.getCompoundTagAt(i), null));
+            }
+            return colonies;
+        }
     }
 }
@@ -13,6 +13,8 @@ import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeManager;
+import com.minecolonies.api.crafting.InventoryCensus;
 import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -150,12 +152,22 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Nullable
     public IRecipeStorage getFirstRecipe(final ItemStack stack)
     {
+        final IRecipeManager recipeManager = IColonyManager.getInstance().getRecipeManager();
+        final Set<IToken> candidates = recipeManager.getRecipeIdsForOutput(stack);
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if (storage != null && storage.getPrimaryOutput().isItemEqual(stack))
+            if (candidates.contains(token))
             {
-                return storage;
+                final IRecipeStorage storage = recipeManager.getRecipes().get(token);
+                if (storage != null)
+                {
+                    return storage;
+                }
             }
         }
         return null;
@@ -170,9 +182,10 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Nullable
     public IRecipeStorage getFirstRecipe(final Predicate<ItemStack> stackPredicate)
     {
+        final Map<IToken, IRecipeStorage> allRecipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = allRecipes.get(token);
             if (storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
                 return storage;
@@ -202,13 +215,25 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final ItemStack tempStack, int count)
     {
+        final IRecipeManager recipeManager = IColonyManager.getInstance().getRecipeManager();
+        final Set<IToken> candidates = recipeManager.getRecipeIdsForOutput(tempStack);
+        if (candidates.isEmpty())
+        {
+            return null;
+        }
+
+        InventoryCensus census = null;
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
-            if(storage != null && storage.getPrimaryOutput().isItemEqual(tempStack))
+            final IRecipeStorage storage = candidates.contains(token) ? recipeManager.getRecipes().get(token) : null;
+            if(storage != null)
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if (storage.canFullFillRecipe(count, handlers.toArray(new IItemHandler[0])))
+                // One census of the building inventories for all candidate recipes.
+                if (census == null)
+                {
+                    census = new InventoryCensus(getHandlers());
+                }
+                if (storage.canFullFillRecipe(count, census))
                 {
                     return storage;
                 }
@@ -220,13 +245,18 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
     @Override
     public IRecipeStorage getFirstFullFillableRecipe(final Predicate<ItemStack> stackPredicate, final int count)
     {
+        final Map<IToken, IRecipeStorage> allRecipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
+        InventoryCensus census = null;
         for(final IToken token : recipes)
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = allRecipes.get(token);
             if(storage != null && stackPredicate.test(storage.getPrimaryOutput()))
             {
-                final List<IItemHandler> handlers = getHandlers();
-                if(storage.canFullFillRecipe(count, handlers.toArray(new IItemHandler[0])))
+                if (census == null)
+                {
+                    census = new InventoryCensus(getHandlers());
+                }
+                if(storage.canFullFillRecipe(count, census))
                 {
                     return storage;
                 }
@@ -488,9 +518,10 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
             buf.writeInt(data == null ? 0 : data.getId());
         }
         final List<IRecipeStorage> storages = new ArrayList<>();
+        final Map<IToken, IRecipeStorage> allRecipes = IColonyManager.getInstance().getRecipeManager().getRecipes();
         for(final IToken token: new ArrayList<>(recipes))
         {
-            final IRecipeStorage storage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
+            final IRecipeStorage storage = allRecipes.get(token);
             if(storage == null)
             {
                 removeRecipe(token);
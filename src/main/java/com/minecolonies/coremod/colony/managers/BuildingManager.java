@@ -501,7 +501,7 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    sendBuildingView(building, players);
                 }
             }
         }
@@ -519,12 +519,31 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    sendBuildingView(building, players);
                 }
             }
         }
     }
 
+    /**
+     * Serialize the view of a building once and send it to all given players.
+     *
+     * @param building the building.
+     * @param players  the players to send it to.
+     */
+    private void sendBuildingView(@NotNull final IBuilding building, @NotNull final Set<EntityPlayerMP> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
+        colony.getViewSyncStatistics().record(message.getDataSize(), System.nanoTime() - start);
+        players.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
+    }
+
     /**
      * Add a Field to the Colony.
      *
@@ -174,9 +174,13 @@ public class CitizenManager implements ICitizenManager
             {
                 if (citizen.getCitizenEntity().isPresent())
                 {
-                    if (citizen.isDirty() || !newSubscribers.isEmpty())
+                    final int viewParts = newSubscribers.isEmpty() ? citizen.getSyncViewParts() : ICitizenData.VIEW_ALL;
+                    if (viewParts != 0)
                     {
-                        players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
+                        final long start = System.nanoTime();
+                        final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen, viewParts);
+                        colony.getViewSyncStatistics().record(message.getDataSize(), System.nanoTime() - start);
+                        players.forEach(player -> MineColonies.getNetwork().sendTo(message, player));
                     }
                 }
             }
@@ -394,8 +398,9 @@ public class CitizenManager implements ICitizenManager
     @Override
     public void clearDirty()
     {
-        isCitizensDirty = false;
         citizens.values().forEach(ICitizenData::clearDirty);
+        // Keep updating while rate limited view parts are held back.
+        isCitizensDirty = citizens.values().stream().anyMatch(ICitizenData::isDirty);
     }
 
     @Override
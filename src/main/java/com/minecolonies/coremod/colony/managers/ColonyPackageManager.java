@@ -8,9 +8,11 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.permissions.Permissions;
+import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewMessage;
+import com.minecolonies.coremod.network.messages.ColonyViewRequestsMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewWorkOrderMessage;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
 import io.netty.buffer.ByteBuf;
@@ -20,6 +22,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static com.minecolonies.api.util.constant.ColonyConstants.UPDATE_SUBSCRIBERS_INTERVAL;
@@ -143,6 +146,9 @@ public class ColonyPackageManager implements IColonyPackageManager
             //ColonyView
             sendColonyViewPackets();
 
+            //RequestSystem
+            sendRequestSystemPackets();
+
             //Permissions
             sendPermissionsPackets();
 
@@ -153,6 +159,8 @@ public class ColonyPackageManager implements IColonyPackageManager
             colony.getBuildingManager().sendPackets(closeSubscribers, newSubscribers);
 
             sendSchematicsPackets();
+
+            colony.getViewSyncStatistics().finishUpdate();
         }
 
         isDirty = false;
@@ -168,11 +176,43 @@ public class ColonyPackageManager implements IColonyPackageManager
         if (isDirty || !newSubscribers.isEmpty())
         {
             final ByteBuf colonyByteBuf = Unpooled.buffer();
-            ColonyView.serializeNetworkData(colony, colonyByteBuf, !newSubscribers.isEmpty());
+            ColonyView.serializeNetworkData(colony, colonyByteBuf);
             final Set<EntityPlayerMP> players = isDirty ? closeSubscribers : newSubscribers;
             players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, newSubscribers.contains(player)), player));
         }
-        colony.getRequestManager().setDirty(false);
+    }
+
+    @Override
+    public void sendRequestSystemPackets()
+    {
+        if (!(colony.getRequestManager() instanceof StandardRequestManager))
+        {
+            return;
+        }
+
+        final StandardRequestManager requestManager = (StandardRequestManager) colony.getRequestManager();
+        if (requestManager.isDirty() || !newSubscribers.isEmpty())
+        {
+            // Always collect the changes, even if only new subscribers are waiting, so they are not sent twice later.
+            final StandardRequestManager.SyncChanges changes = requestManager.collectSyncChanges();
+            if (!changes.isEmpty())
+            {
+                final List<ByteBuf> delta =
+                  ColonyView.serializeRequestNetworkData(changes.isReset(), changes.getBase(), changes.getChangedAssignments(), changes.getChangedRequests(), changes.getRemovedRequests());
+                closeSubscribers.stream()
+                  .filter(player -> !newSubscribers.contains(player))
+                  .forEach(player -> delta.forEach(buf -> MineColonies.getNetwork().sendTo(new ColonyViewRequestsMessage(colony, buf), player)));
+            }
+
+            if (!newSubscribers.isEmpty())
+            {
+                final StandardRequestManager.SyncChanges snapshot = changes.isReset() ? changes : requestManager.getSyncSnapshot();
+                final List<ByteBuf> buffers =
+                  ColonyView.serializeRequestNetworkData(true, snapshot.getBase(), snapshot.getChangedAssignments(), snapshot.getChangedRequests(), snapshot.getRemovedRequests());
+                newSubscribers.forEach(player -> buffers.forEach(buf -> MineColonies.getNetwork().sendTo(new ColonyViewRequestsMessage(colony, buf), player)));
+            }
+        }
+        requestManager.setDirty(false);
     }
 
     @Override
@@ -0,0 +1,102 @@
+package com.minecolonies.coremod.colony.managers;
+
+/**
+ * Bytes and serialization time spent on the view packets of a colony.
+ */
+public class ViewSyncStatistics
+{
+    /**
+     * Values of the update which is currently sent.
+     */
+    private long currentBytes = 0;
+    private long currentNanos = 0;
+
+    /**
+     * Values of the last finished update.
+     */
+    private long lastBytes = 0;
+    private long lastNanos = 0;
+
+    /**
+     * Totals since the colony was loaded.
+     */
+    private long totalBytes   = 0;
+    private long totalNanos   = 0;
+    private long totalUpdates = 0;
+
+    /**
+     * Record a serialized view payload, which is sent to all subscribers.
+     *
+     * @param bytes the size of the payload.
+     * @param nanos the time it took to serialize it.
+     */
+    public void record(final long bytes, final long nanos)
+    {
+        currentBytes += bytes;
+        currentNanos += nanos;
+    }
+
+    /**
+     * Finish the current update, called once all view packets of the update were sent.
+     */
+    public void finishUpdate()
+    {
+        lastBytes = currentBytes;
+        lastNanos = currentNanos;
+        totalBytes += currentBytes;
+        totalNanos += currentNanos;
+        totalUpdates++;
+        currentBytes = 0;
+        currentNanos = 0;
+    }
+
+    /**
+     * Get the serialized bytes of the last update.
+     *
+     * @return the amount of bytes.
+     */
+    public long getLastBytes()
+    {
+        return lastBytes;
+    }
+
+    /**
+     * Get the serialization time of the last update.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getLastNanos()
+    {
+        return lastNanos;
+    }
+
+    /**
+     * Get the serialized bytes of all updates.
+     *
+     * @return the amount of bytes.
+     */
+    public long getTotalBytes()
+    {
+        return totalBytes;
+    }
+
+    /**
+     * Get the serialization time of all updates.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * Get the amount of finished updates.
+     *
+     * @return the amount.
+     */
+    public long getTotalUpdates()
+    {
+        return totalUpdates;
+    }
+}
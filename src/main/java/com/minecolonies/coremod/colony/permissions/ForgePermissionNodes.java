@@ -19,6 +19,7 @@ public enum ForgePermissionNodes
     CHECK_FOR_AUTO_DELETES("com.minecolonies.coremod.CheckForAutoDeletes", DefaultPermissionLevel.OP, "Can RaidAllTonight...."),
     WHO_AM_I("com.minecolonies.coremod.WhoAmI", DefaultPermissionLevel.OP, "Can WhoAmI...."),
     WHERE_AM_I("com.minecolonies.coremod.WhereAmI", DefaultPermissionLevel.OP, "Can WhereAmI...."),
+    PATHFINDING_STATS("com.minecolonies.coremod.PathfindingStats", DefaultPermissionLevel.OP, "Can view pathfinding statistics."),
     LIST_COLONIES("com.minecolonies.coremod.ListColonies", DefaultPermissionLevel.OP, "Can ListColonies...."),
     REQUEST_SYSTEM_RESET_ALL("com.minecolonies.coremod.RequestSystemResetAll", DefaultPermissionLevel.OP, "Can RequestSystemResetAll...."),
     BACKUP("com.minecolonies.coremod.Backup", DefaultPermissionLevel.OP, "Can back up colony data."),
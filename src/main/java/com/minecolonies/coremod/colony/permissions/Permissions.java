@@ -10,10 +10,12 @@ import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.util.AchievementUtils;
 import com.mojang.authlib.GameProfile;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.nbt.NBTTagString;
+import net.minecraft.server.management.PlayerProfileCache;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
@@ -21,6 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_NAME;
@@ -80,6 +83,19 @@ public class Permissions implements IPermissions
     @NotNull
     private final Map<Rank, Integer> permissionMap = new EnumMap<>(Rank.class);
 
+    /**
+     * Effective action flags per player, computed on the first check and dropped whenever ranks or flags change.
+     * Concurrent, permission checks also come from other threads than the server thread.
+     */
+    @NotNull
+    private final Map<UUID, Integer> playerFlagsCache = new ConcurrentHashMap<>();
+
+    /**
+     * Serialized players and permissions for the views, shared by all viewers until ranks or flags change.
+     */
+    @Nullable
+    private byte[] viewNetworkData = null;
+
     /**
      * Used to check if the permissions have to by synchronized.
      */
@@ -99,6 +115,11 @@ public class Permissions implements IPermissions
      */
     private static final int permissionsVersion = 1;
 
+    /**
+     * The flags of all actions combined.
+     */
+    private static final int ALL_ACTIONS = Arrays.stream(Action.values()).mapToInt(Action::getFlag).reduce(0, Utils::setFlag);
+
     /**
      * Saves the permissionMap with allowed actions.
      *
@@ -219,6 +240,7 @@ public class Permissions implements IPermissions
      */
     private void markDirty()
     {
+        invalidateCache();
         dirty = true;
         if(colony != null)
         {
@@ -226,6 +248,15 @@ public class Permissions implements IPermissions
         }
     }
 
+    /**
+     * Drops the cached player flags and view data after ranks or flags changed.
+     */
+    private void invalidateCache()
+    {
+        playerFlagsCache.clear();
+        viewNetworkData = null;
+    }
+
     /**
      * Stores the list of promotion/demotion ranks.
      *
@@ -307,7 +338,7 @@ public class Permissions implements IPermissions
 
             final Rank rank = Rank.valueOf(ownerCompound.getString(TAG_RANK));
 
-            final GameProfile player = FMLCommonHandler.instance().getMinecraftServerInstance().getPlayerProfileCache().getProfileByUUID(id);
+            final GameProfile player = getCachedProfile(id);
 
             if (player != null)
             {
@@ -359,9 +390,27 @@ public class Permissions implements IPermissions
                 }
             }
         }
+        invalidateCache();
         restoreOwnerIfNull();
     }
 
+    /**
+     * Look up a profile in the profile cache of the server.
+     * The cache reorders its entries on every lookup, colonies may be loaded on several threads at once.
+     *
+     * @param id the id of the player.
+     * @return the profile or null if it is not cached.
+     */
+    @Nullable
+    private static GameProfile getCachedProfile(@NotNull final UUID id)
+    {
+        final PlayerProfileCache cache = FMLCommonHandler.instance().getMinecraftServerInstance().getPlayerProfileCache();
+        synchronized (cache)
+        {
+            return cache.getProfileByUUID(id);
+        }
+    }
+
     /**
      * Restores the owner from other variables if he is null on loading.
      */
@@ -370,11 +419,12 @@ public class Permissions implements IPermissions
         final Map.Entry<UUID, Player> owner = getOwnerEntry();
         if (owner == null && ownerUUID != null)
         {
-            final GameProfile player = FMLCommonHandler.instance().getMinecraftServerInstance().getPlayerProfileCache().getProfileByUUID(ownerUUID);
+            final GameProfile player = getCachedProfile(ownerUUID);
 
             if (player != null)
             {
                 players.put(ownerUUID, new Player(ownerUUID, player.getName(), Rank.OWNER));
+                invalidateCache();
             }
         }
     }
@@ -513,8 +563,37 @@ public class Permissions implements IPermissions
     @Override
     public boolean hasPermission(final Rank rank, @NotNull final Action action)
     {
-        return (rank == Rank.OWNER && action != Action.GUARDS_ATTACK)
-                 || Utils.testFlag(permissionMap.get(rank), action.getFlag());
+        return Utils.testFlag(getRankFlags(rank), action.getFlag());
+    }
+
+    /**
+     * Get the actions a rank is allowed to perform.
+     * The owner may do everything but attacking guards, unless that is granted explicitly.
+     *
+     * @param rank the rank.
+     * @return the action flags.
+     */
+    private int getRankFlags(final Rank rank)
+    {
+        final Integer flags = permissionMap.get(rank);
+        final int rankFlags = flags == null ? 0 : flags;
+        if (rank == Rank.OWNER)
+        {
+            return Utils.setFlag(rankFlags, Utils.unsetFlag(ALL_ACTIONS, Action.GUARDS_ATTACK.getFlag()));
+        }
+        return rankFlags;
+    }
+
+    /**
+     * Get the actions a player is allowed to perform, cached until ranks or flags change.
+     *
+     * @param id the UUID of the player.
+     * @return the action flags.
+     */
+    public int getPlayerFlags(@NotNull final UUID id)
+    {
+        // Computed under the lock of the entry, a clear after a rank change waits for it and drops the outdated flags.
+        return playerFlagsCache.computeIfAbsent(id, playerId -> getRankFlags(getRank(playerId)));
     }
 
     /**
@@ -566,7 +645,7 @@ public class Permissions implements IPermissions
     @Override
     public boolean hasPermission(@NotNull final EntityPlayer player, @NotNull final Action action)
     {
-        return hasPermission(getRank(player), action);
+        return Utils.testFlag(getPlayerFlags(player.getGameProfile().getId()), action.getFlag());
     }
 
     /**
@@ -797,6 +876,23 @@ public class Permissions implements IPermissions
     {
         ByteBufUtils.writeUTF8String(buf, viewerRank.name());
 
+        if (viewNetworkData == null)
+        {
+            final ByteBuf dataBuf = Unpooled.buffer();
+            serializePlayersAndPermissions(dataBuf);
+            viewNetworkData = new byte[dataBuf.readableBytes()];
+            dataBuf.readBytes(viewNetworkData);
+        }
+        buf.writeBytes(viewNetworkData);
+    }
+
+    /**
+     * Serializes the players and the permissions of the ranks, the part of the view data which is the same for all viewers.
+     *
+     * @param buf {@link ByteBuf} to write to.
+     */
+    private void serializePlayersAndPermissions(@NotNull final ByteBuf buf)
+    {
         //  Owners
         buf.writeInt(players.size());
         for (@NotNull final Map.Entry<UUID, Player> player : players.entrySet())
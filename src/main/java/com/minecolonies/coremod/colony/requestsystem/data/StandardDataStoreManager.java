@@ -65,6 +65,19 @@ public class StandardDataStoreManager implements IDataStoreManager
         storeMap.clear();
     }
 
+    /**
+     * Create a shallow copy of this manager with one of the stores replaced.
+     *
+     * @param store the store to use instead of the store with the same id.
+     * @return the copy.
+     */
+    public StandardDataStoreManager copyReplacing(@NotNull final IDataStore store)
+    {
+        final Map<IToken<?>, IDataStore> copy = new HashMap<>(storeMap);
+        copy.put(store.getId(), store);
+        return new StandardDataStoreManager(copy);
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardDataStoreManager>
     {
 
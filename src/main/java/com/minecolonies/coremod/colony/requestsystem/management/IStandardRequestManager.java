@@ -2,6 +2,8 @@ package com.minecolonies.coremod.colony.requestsystem.management;
 
 import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import org.jetbrains.annotations.NotNull;
@@ -40,4 +42,30 @@ public interface IStandardRequestManager extends IRequestManager
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
+
+    /**
+     * Called when a request got registered, its changes are synced to the colony views from now on.
+     *
+     * @param request the request.
+     */
+    void onRequestRegistered(@NotNull IRequest<?> request);
+
+    /**
+     * Called when a request is about to be removed, its removal is synced to the colony views.
+     *
+     * @param request the request.
+     */
+    void onRequestRemoved(@NotNull IRequest<?> request);
+
+    /**
+     * Called when resolvers or providers changed, so the request system without its requests is synced again.
+     */
+    void onAssignmentsChanged();
+
+    /**
+     * Called when the requests assigned to a resolver changed, only the assignments of that resolver are synced again.
+     *
+     * @param resolver the token of the resolver.
+     */
+    void onRequestAssignmentChanged(@NotNull IToken<?> resolver);
 }
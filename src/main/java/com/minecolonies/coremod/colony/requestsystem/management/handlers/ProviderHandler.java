@@ -62,6 +62,7 @@ public class ProviderHandler implements IProviderHandler
         resolverListBuilder.addAll(manager.getResolverHandler().registerResolvers(provider.getResolvers()));
 
         manager.getProviderResolverAssignmentDataStore().getAssignments().put(provider.getId(), resolverListBuilder.build());
+        manager.onAssignmentsChanged();
         manager.getColony().markDirty();
     }
 
@@ -90,6 +91,7 @@ public class ProviderHandler implements IProviderHandler
 
         //Removing the data from the maps.
         manager.getProviderResolverAssignmentDataStore().getAssignments().remove(token);
+        manager.onAssignmentsChanged();
         manager.getColony().markDirty();
         manager.getLogger().debug(String.format("Removed provider: %s", token));
     }
@@ -148,6 +150,7 @@ public class ProviderHandler implements IProviderHandler
     {
         manager.getLogger().debug("Removing resolver without assigned requests: " + resolverToken);
         manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolverToken);
+        manager.onRequestAssignmentChanged(resolverToken);
 
         manager.getResolverHandler().removeResolver(resolverToken);
     }
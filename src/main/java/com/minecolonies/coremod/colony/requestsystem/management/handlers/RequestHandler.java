@@ -12,8 +12,6 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
@@ -71,6 +69,7 @@ public class RequestHandler implements IRequestHandler
         manager.getLogger().debug("Registering request: " + request);
 
         manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.onRequestRegistered(request);
     }
 
     /**
@@ -134,23 +133,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        final List<IRequestResolver<?>> resolvers = manager.getResolverHandler().getResolversForRequestType(request.getType());
 
         for (final IRequestResolver<?> resolver : resolvers)
         {
@@ -238,6 +221,7 @@ public class RequestHandler implements IRequestHandler
             {
                 manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(currentlyAssignedResolver.getId());
             }
+            manager.onRequestAssignmentChanged(currentlyAssignedResolver.getId());
         }
 
         currentlyAssignedResolver.onAssignedRequestCancelled(new WrappedStaticStateRequestManager(manager), request);
@@ -347,6 +331,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
+            manager.onRequestRemoved(request);
             manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
             return;
         }
@@ -440,6 +425,7 @@ public class RequestHandler implements IRequestHandler
             {
                 manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
             }
+            manager.onRequestAssignmentChanged(resolver.getId());
         }
 
         if (request.hasParent())
@@ -497,7 +483,7 @@ public class RequestHandler implements IRequestHandler
     public void cleanRequestData(final IToken<?> token)
     {
         manager.getLogger().debug("Removing " + token + " from the Manager as it has been completed and its package has been received by the requester.");
-        getRequest(token);
+        final IRequest<?> request = getRequest(token);
 
         if (isAssigned(token))
         {
@@ -507,8 +493,10 @@ public class RequestHandler implements IRequestHandler
             {
                 manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
             }
+            manager.onRequestAssignmentChanged(resolver.getId());
         }
 
+        manager.onRequestRemoved(request);
         manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
     }
 
@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import com.minecolonies.api.colony.requestsystem.data.IRequestableTypeRequestResolverAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
@@ -28,6 +29,18 @@ public class ResolverHandler implements IResolverHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The resolvers able to handle a request type, ordered by priority, by request type.
+     * Built lazily and cleared whenever a resolver is registered or removed.
+     */
+    private final Map<TypeToken<?>, List<IRequestResolver<?>>> resolversByRequestType = new HashMap<>();
+
+    /**
+     * The assignment data store the index was built from, the store is replaced when the manager is loaded.
+     */
+    @Nullable
+    private IRequestableTypeRequestResolverAssignmentDataStore indexedDataStore;
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -98,6 +111,8 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Registering resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).add(resolver.getId());
         });
+        resolversByRequestType.clear();
+        manager.onAssignmentsChanged();
 
         return resolver.getId();
     }
@@ -230,6 +245,55 @@ public class ResolverHandler implements IResolverHandler
             manager.getLogger().debug("Removing resolver: " + resolver + " with request type: " + c);
             manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().get(c).remove(resolver.getId());
         });
+        resolversByRequestType.clear();
+        manager.onAssignmentsChanged();
+    }
+
+    /**
+     * Method to get the resolvers which can handle a given request type.
+     * <p>
+     * <p>
+     * The resolvers are ordered by descending priority, resolvers of the same priority are ordered
+     * by how specific their request type is. The list is computed once per request type and reused
+     * until a resolver is registered or removed.
+     * </p>
+     *
+     * @param requestType The type of the request.
+     * @return An unmodifiable list of the resolvers for the given type.
+     */
+    @Override
+    @SuppressWarnings(RAWTYPES)
+    public List<IRequestResolver<?>> getResolversForRequestType(final TypeToken<?> requestType)
+    {
+        final IRequestableTypeRequestResolverAssignmentDataStore dataStore = manager.getRequestableTypeRequestResolverAssignmentDataStore();
+        if (dataStore != indexedDataStore)
+        {
+            resolversByRequestType.clear();
+            indexedDataStore = dataStore;
+        }
+
+        final List<IRequestResolver<?>> cachedResolvers = resolversByRequestType.get(requestType);
+        if (cachedResolvers != null)
+        {
+            return cachedResolvers;
+        }
+
+        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(requestType);
+        requestTypes.remove(TypeConstants.OBJECT);
+
+        final List<TypeToken> typeIndexList = new ArrayList<>(requestTypes);
+
+        final List<IRequestResolver<?>> resolvers = Collections.unmodifiableList(new ArrayList<>(
+          requestTypes.stream()
+            .filter(typeToken -> dataStore.getAssignments().containsKey(typeToken))
+            .flatMap(type -> dataStore.getAssignments().get(type).stream().map(this::getResolver))
+            .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+            .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                      .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+            .collect(Collectors.toCollection(LinkedHashSet::new))));
+
+        resolversByRequestType.put(requestType, resolvers);
+        return resolvers;
     }
 
     /**
@@ -288,6 +352,7 @@ public class ResolverHandler implements IResolverHandler
         manager.getLogger().debug("Adding request: " + request + " to resolver: " + resolver);
 
         manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).add(request.getId());
+        manager.onRequestAssignmentChanged(resolver.getId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
     }
@@ -324,6 +389,7 @@ public class ResolverHandler implements IResolverHandler
         {
             manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
         }
+        manager.onRequestAssignmentChanged(resolver.getId());
     }
 
     /**
@@ -2,21 +2,28 @@ package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
-import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.crafting.IRecipeManager;
 import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.*;
 
+/**
+ * Global store of the recipes known to the colonies.
+ * <p>
+ * Colonies are parsed in parallel at server start and buildings register their recipes while being parsed,
+ * so all state is guarded by the lock of {@link #lock}.
+ */
 public class StandardRecipeManager implements IRecipeManager
 {
     /**
@@ -29,57 +36,189 @@ public class StandardRecipeManager implements IRecipeManager
      */
     private final BiMap<IToken, IRecipeStorage> recipes = HashBiMap.create();
 
+    /**
+     * Synchronized view of the recipes, its monitor guards the recipes and the indices.
+     */
+    private final Map<IToken, IRecipeStorage> lock = Collections.synchronizedMap(recipes);
+
+    /**
+     * Read only view of the recipes.
+     */
+    private final Map<IToken, IRecipeStorage> recipesView = Collections.unmodifiableMap(lock);
+
+    /**
+     * The recipe tokens by the canonical hash of their recipe.
+     */
+    private final Map<Integer, List<IToken>> recipesByHash = new HashMap<>();
+
+    /**
+     * The recipe tokens by their primary output, damage sensitive and ignoring NBT like {@link ItemStack#isItemEqual(ItemStack)}.
+     */
+    private final Map<ItemStorage, Set<IToken>> recipesByOutput = new HashMap<>();
+
     @Override
-    public ImmutableMap<IToken, IRecipeStorage> getRecipes()
+    public Map<IToken, IRecipeStorage> getRecipes()
     {
-        return ImmutableMap.copyOf(recipes);
+        return recipesView;
     }
 
     @Override
     public IToken addRecipe(final IRecipeStorage storage)
     {
-        recipes.put(storage.getToken(), storage);
-        return storage.getToken();
+        synchronized (lock)
+        {
+            final IRecipeStorage previous = recipes.put(storage.getToken(), storage);
+            if (previous != null)
+            {
+                unindex(previous);
+            }
+
+            recipesByHash.computeIfAbsent(getCanonicalHash(storage), hash -> new ArrayList<>()).add(storage.getToken());
+            if (!ItemStackUtils.isEmpty(storage.getPrimaryOutput()))
+            {
+                recipesByOutput.computeIfAbsent(getOutputKey(storage.getPrimaryOutput()), key -> new HashSet<>()).add(storage.getToken());
+            }
+            return storage.getToken();
+        }
+    }
+
+    /**
+     * Remove a recipe from the lookup indices.
+     *
+     * @param storage the recipe.
+     */
+    private void unindex(@NotNull final IRecipeStorage storage)
+    {
+        final int hash = getCanonicalHash(storage);
+        final List<IToken> sameHash = recipesByHash.get(hash);
+        if (sameHash != null)
+        {
+            sameHash.remove(storage.getToken());
+            if (sameHash.isEmpty())
+            {
+                recipesByHash.remove(hash);
+            }
+        }
+
+        if (!ItemStackUtils.isEmpty(storage.getPrimaryOutput()))
+        {
+            final ItemStorage key = getOutputKey(storage.getPrimaryOutput());
+            final Set<IToken> sameOutput = recipesByOutput.get(key);
+            if (sameOutput != null)
+            {
+                sameOutput.remove(storage.getToken());
+                if (sameOutput.isEmpty())
+                {
+                    recipesByOutput.remove(key);
+                }
+            }
+        }
+    }
+
+    @NotNull
+    @Override
+    public Set<IToken> getRecipeIdsForOutput(@NotNull final ItemStack output)
+    {
+        if (ItemStackUtils.isEmpty(output))
+        {
+            return Collections.emptySet();
+        }
+
+        synchronized (lock)
+        {
+            final Set<IToken> tokens = recipesByOutput.get(getOutputKey(output));
+            return tokens == null ? Collections.emptySet() : ImmutableSet.copyOf(tokens);
+        }
     }
 
     @Override
     public IToken checkOrAddRecipe(final IRecipeStorage storage)
     {
-        final IToken token = getRecipeId(storage);
-        if(token == null)
+        // Look up and add in one step, two colonies may register the same recipe at once.
+        synchronized (lock)
         {
-            return addRecipe(storage);
+            final IToken token = getRecipeId(storage);
+            if(token == null)
+            {
+                return addRecipe(storage);
+            }
+            return token;
         }
-        return token;
     }
 
     @Override
     public IToken getRecipeId(final IRecipeStorage storage)
     {
-        for(final Map.Entry<IToken, IRecipeStorage> tempStorage: recipes.entrySet())
+        synchronized (lock)
         {
-            if(tempStorage.getValue().equals(storage))
+            final List<IToken> sameHash = recipesByHash.get(getCanonicalHash(storage));
+            if (sameHash == null)
+            {
+                return null;
+            }
+
+            for(final IToken token : sameHash)
             {
-                return tempStorage.getKey();
+                if(recipes.get(token).equals(storage))
+                {
+                    return token;
+                }
             }
+            return null;
+        }
+    }
+
+    /**
+     * Hash a recipe consistently with {@link com.minecolonies.api.crafting.RecipeStorage#equals(Object)}.
+     * The hash of the storage itself can not be used, it depends on the identity of the stacks.
+     *
+     * @param storage the recipe.
+     * @return the hash.
+     */
+    private static int getCanonicalHash(@NotNull final IRecipeStorage storage)
+    {
+        int result = storage.getGridSize();
+        for (final ItemStack stack : storage.getInput())
+        {
+            result = 31 * result + Objects.hashCode(stack.getItem());
+            result = 31 * result + stack.getItemDamage();
         }
-        return null;
+        // Only the item, the durability of the output is ignored.
+        result = 31 * result + Objects.hashCode(storage.getPrimaryOutput().getItem());
+        result = 31 * result + Objects.hashCode(storage.getIntermediate());
+        return result;
+    }
+
+    /**
+     * Get the key of a stack in the output index.
+     *
+     * @param stack the stack.
+     * @return the key.
+     */
+    private static ItemStorage getOutputKey(@NotNull final ItemStack stack)
+    {
+        return new ItemStorage(stack, false, true);
     }
 
     @Override
     public void writeToNBT(@NotNull final NBTTagCompound compound)
     {
+        final List<IRecipeStorage> storages;
+        synchronized (lock)
+        {
+            storages = new ArrayList<>(recipes.values());
+        }
         @NotNull final NBTTagList recipesTagList =
-                recipes.entrySet().stream().map(entry ->  StandardFactoryController.getInstance().serialize(entry.getValue())).collect(NBTUtils.toNBTTagList());
+                storages.stream().map(storage ->  StandardFactoryController.getInstance().serialize(storage)).collect(NBTUtils.toNBTTagList());
         compound.setTag(TAG_RECIPES, recipesTagList);
     }
 
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
-        recipes.putAll(NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
+        NBTUtils.streamCompound(compound.getTagList(TAG_RECIPES, Constants.NBT.TAG_COMPOUND))
                 .map(recipeCompound -> (IRecipeStorage) StandardFactoryController.getInstance().deserialize(recipeCompound))
                 .filter(Objects::nonNull)
-                .collect(Collectors.toMap(IRecipeStorage::getToken, recipe -> recipe)));
+                .forEach(this::addRecipe);
     }
 }
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.manager;
 
+import com.google.common.collect.HashBiMap;
 import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.IColony;
@@ -16,11 +17,16 @@ import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestR
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.Constants;
+import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardDataStoreManager;
+import com.minecolonies.coremod.colony.requestsystem.data.StandardRequestIdentitiesDataStore;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
+import com.minecolonies.coremod.colony.requestsystem.requests.AbstractRequest;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import org.apache.logging.log4j.LogManager;
@@ -28,7 +34,7 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Collection;
+import java.util.*;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -78,6 +84,36 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     private boolean dirty = true;
 
+    /**
+     * The tokens of the requests registered since the last sync.
+     */
+    private final Set<IToken<?>> registeredSinceSync = new HashSet<>();
+
+    /**
+     * The tokens of the requests registered or changed since the last sync, in order of their first change.
+     */
+    private final Set<IToken<?>> changedSinceSync = new LinkedHashSet<>();
+
+    /**
+     * The tokens of the synced requests removed since the last sync.
+     */
+    private final Set<IToken<?>> removedSinceSync = new HashSet<>();
+
+    /**
+     * If resolvers or providers changed since the last sync.
+     */
+    private boolean assignmentsChangedSinceSync = true;
+
+    /**
+     * The tokens of the resolvers whose assigned requests changed since the last sync.
+     */
+    private final Set<IToken<?>> requestAssignmentsChangedSinceSync = new LinkedHashSet<>();
+
+    /**
+     * If the colony views have to receive the whole request system with the next sync, set when it was loaded or reset.
+     */
+    private boolean resyncAll = true;
+
     /**
      * Colony of the manager.
      */
@@ -396,6 +432,7 @@ public class StandardRequestManager implements IStandardRequestManager
 
         version = -1;
         getUpdateHandler().handleUpdate();
+        trackLoadedRequests();
     }
 
     /**
@@ -405,11 +442,22 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     @Override
     public NBTTagCompound serializeNBT()
+    {
+        return serializeNBT(dataStoreManager);
+    }
+
+    /**
+     * Serialize the request system with the given data stores.
+     *
+     * @param dataStores the data stores to write.
+     * @return The NBTData that describes the request system.
+     */
+    private NBTTagCompound serializeNBT(@NotNull final IDataStoreManager dataStores)
     {
         final NBTTagCompound systemCompound = new NBTTagCompound();
         systemCompound.setInteger(NBT_VERSION, version);
 
-        systemCompound.setTag(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager));
+        systemCompound.setTag(NBT_DATASTORE, getFactoryController().serialize(dataStores));
         systemCompound.setTag(NBT_ID_REQUEST_IDENTITIES, getFactoryController().serialize(requestIdentitiesDataStoreId));
         systemCompound.setTag(NBT_ID_REQUEST_RESOLVER_IDENTITIES, getFactoryController().serialize(requestResolverIdentitiesDataStoreId));
         systemCompound.setTag(NBT_ID_PROVIDER_ASSIGNMENTS, getFactoryController().serialize(providerRequestResolverAssignmentDataStoreId));
@@ -477,6 +525,188 @@ public class StandardRequestManager implements IStandardRequestManager
         }
 
         updateIfRequired();
+        trackLoadedRequests();
+    }
+
+    /**
+     * Serialize the request system with an empty request identities store, the requests are synced on their own.
+     *
+     * @return The NBTData that describes the request system without its requests.
+     */
+    private NBTTagCompound serializeNBTWithoutRequests()
+    {
+        if (!(dataStoreManager instanceof StandardDataStoreManager))
+        {
+            return serializeNBT();
+        }
+
+        final IDataStore emptyRequests = new StandardRequestIdentitiesDataStore(requestIdentitiesDataStoreId, HashBiMap.create());
+        return serializeNBT(((StandardDataStoreManager) dataStoreManager).copyReplacing(emptyRequests));
+    }
+
+    /**
+     * Start tracking the changes of all requests in the data stores and resync everything with the next sync.
+     */
+    private void trackLoadedRequests()
+    {
+        for (final IRequest<?> request : getRequestIdentitiesDataStore().getIdentities().values())
+        {
+            trackChanges(request);
+        }
+
+        registeredSinceSync.clear();
+        changedSinceSync.clear();
+        removedSinceSync.clear();
+        requestAssignmentsChangedSinceSync.clear();
+        resyncAll = true;
+    }
+
+    /**
+     * Record the changes of a request for the next sync.
+     *
+     * @param request the request.
+     */
+    private void trackChanges(@NotNull final IRequest<?> request)
+    {
+        if (request instanceof AbstractRequest)
+        {
+            ((AbstractRequest<?>) request).setChangeListener(changedSinceSync::add);
+        }
+    }
+
+    @Override
+    public void onRequestRegistered(@NotNull final IRequest<?> request)
+    {
+        trackChanges(request);
+        registeredSinceSync.add(request.getId());
+        changedSinceSync.add(request.getId());
+    }
+
+    @Override
+    public void onRequestRemoved(@NotNull final IRequest<?> request)
+    {
+        if (request instanceof AbstractRequest)
+        {
+            ((AbstractRequest<?>) request).setChangeListener(null);
+        }
+
+        changedSinceSync.remove(request.getId());
+        // Views never heard of requests which came and went between two syncs.
+        if (!registeredSinceSync.remove(request.getId()))
+        {
+            removedSinceSync.add(request.getId());
+        }
+    }
+
+    @Override
+    public void onAssignmentsChanged()
+    {
+        assignmentsChangedSinceSync = true;
+    }
+
+    @Override
+    public void onRequestAssignmentChanged(@NotNull final IToken<?> resolver)
+    {
+        requestAssignmentsChangedSinceSync.add(resolver);
+    }
+
+    /**
+     * Collect the changes of the request system since the last call, to sync them to the colony views.
+     * Only the requests which were registered, changed or removed since then are serialized,
+     * as well as the request assignments of the resolvers whose requests changed.
+     * The request system without its requests is only serialized when resolvers or providers changed.
+     *
+     * @return the changes.
+     */
+    @NotNull
+    public SyncChanges collectSyncChanges()
+    {
+        if (resyncAll)
+        {
+            final SyncChanges snapshot = getSyncSnapshot();
+            clearSyncChanges();
+            return snapshot;
+        }
+
+        final NBTTagCompound base = assignmentsChangedSinceSync ? serializeNBTWithoutRequests() : null;
+
+        // The base already carries all assignments.
+        final List<NBTTagCompound> assignments = new ArrayList<>();
+        if (base == null)
+        {
+            final Map<IToken<?>, Collection<IToken<?>>> requestAssignments = getRequestResolverRequestAssignmentDataStore().getAssignments();
+            for (final IToken<?> resolver : requestAssignmentsChangedSinceSync)
+            {
+                assignments.add(serializeRequestAssignment(resolver, requestAssignments.getOrDefault(resolver, Collections.emptyList())));
+            }
+        }
+
+        final Map<IToken<?>, IRequest<?>> requests = getRequestIdentitiesDataStore().getIdentities();
+        final List<NBTTagCompound> changed = new ArrayList<>(changedSinceSync.size());
+        for (final IToken<?> token : changedSinceSync)
+        {
+            final IRequest<?> request = requests.get(token);
+            if (request != null)
+            {
+                changed.add(getFactoryController().serialize(request));
+            }
+        }
+
+        final List<NBTTagCompound> removed = new ArrayList<>(removedSinceSync.size());
+        for (final IToken<?> token : removedSinceSync)
+        {
+            removed.add(getFactoryController().serialize(token));
+        }
+
+        clearSyncChanges();
+        return new SyncChanges(false, base, assignments, changed, removed);
+    }
+
+    /**
+     * Serialize the requests assigned to a resolver, in the entry format of the assignment data store.
+     *
+     * @param resolver the token of the resolver.
+     * @param requests the tokens of the assigned requests, empty if the resolver has none left.
+     * @return the serialized assignments.
+     */
+    @NotNull
+    private NBTTagCompound serializeRequestAssignment(@NotNull final IToken<?> resolver, @NotNull final Collection<IToken<?>> requests)
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag(NbtTagConstants.TAG_TOKEN, getFactoryController().serialize(resolver));
+        compound.setTag(NbtTagConstants.TAG_LIST, requests.stream().map(getFactoryController()::serialize).collect(NBTUtils.toNBTTagList()));
+        return compound;
+    }
+
+    /**
+     * Serialize the whole request system, to send it to new subscribers.
+     * Does not touch the changes recorded for the next sync.
+     *
+     * @return the changes which replace everything a view knows.
+     */
+    @NotNull
+    public SyncChanges getSyncSnapshot()
+    {
+        final Collection<IRequest<?>> requests = getRequestIdentitiesDataStore().getIdentities().values();
+        final List<NBTTagCompound> serialized = new ArrayList<>(requests.size());
+        for (final IRequest<?> request : requests)
+        {
+            serialized.add(getFactoryController().serialize(request));
+        }
+        return new SyncChanges(true, serializeNBTWithoutRequests(), Collections.emptyList(), serialized, Collections.emptyList());
+    }
+
+    /**
+     * Forget the changes recorded since the last sync.
+     */
+    private void clearSyncChanges()
+    {
+        registeredSinceSync.clear();
+        changedSinceSync.clear();
+        removedSinceSync.clear();
+        requestAssignmentsChangedSinceSync.clear();
+        assignmentsChangedSinceSync = false;
+        resyncAll = false;
     }
 
     private <T> void executeDeserializationStepOrMarkForUpdate(@NotNull final NBTTagCompound nbt, @NotNull final String key, @NotNull final BiFunction<NBTTagCompound, String, T> extractor, @NotNull final Consumer<T> valueConsumer)
@@ -603,4 +833,92 @@ public class StandardRequestManager implements IStandardRequestManager
     {
         this.version = currentVersion;
     }
+
+    /**
+     * The changes of the request system since the last sync.
+     */
+    public static final class SyncChanges
+    {
+        /**
+         * If the views have to drop all requests they know before applying the changes.
+         */
+        private final boolean reset;
+
+        /**
+         * The request system without its requests, null if it did not change.
+         */
+        @Nullable
+        private final NBTTagCompound base;
+
+        /**
+         * The request assignments of the resolvers whose requests changed, empty if the base is synced.
+         */
+        @NotNull
+        private final List<NBTTagCompound> changedAssignments;
+
+        /**
+         * The created or updated requests.
+         */
+        @NotNull
+        private final List<NBTTagCompound> changedRequests;
+
+        /**
+         * The tokens of the removed requests.
+         */
+        @NotNull
+        private final List<NBTTagCompound> removedRequests;
+
+        private SyncChanges(
+          final boolean reset,
+          @Nullable final NBTTagCompound base,
+          @NotNull final List<NBTTagCompound> changedAssignments,
+          @NotNull final List<NBTTagCompound> changedRequests,
+          @NotNull final List<NBTTagCompound> removedRequests)
+        {
+            this.reset = reset;
+            this.base = base;
+            this.changedAssignments = changedAssignments;
+            this.changedRequests = changedRequests;
+            this.removedRequests = removedRequests;
+        }
+
+        public boolean isReset()
+        {
+            return reset;
+        }
+
+        @Nullable
+        public NBTTagCompound getBase()
+        {
+            return base;
+        }
+
+        @NotNull
+        public List<NBTTagCompound> getChangedAssignments()
+        {
+            return changedAssignments;
+        }
+
+        @NotNull
+        public List<NBTTagCompound> getChangedRequests()
+        {
+            return changedRequests;
+        }
+
+        @NotNull
+        public List<NBTTagCompound> getRemovedRequests()
+        {
+            return removedRequests;
+        }
+
+        /**
+         * Check if nothing changed.
+         *
+         * @return true if so.
+         */
+        public boolean isEmpty()
+        {
+            return !reset && base == null && changedAssignments.isEmpty() && changedRequests.isEmpty() && removedRequests.isEmpty();
+        }
+    }
 }
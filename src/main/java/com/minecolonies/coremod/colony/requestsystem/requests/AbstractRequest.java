@@ -23,6 +23,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -54,6 +55,18 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
 
     private ImmutableList<ItemStack> itemExamples;
 
+    /**
+     * The cached signature of this request and its parents, built on first use.
+     */
+    @Nullable
+    private RequestAncestry ancestry;
+
+    /**
+     * Notified with the token of this request when its synced data changes, set while the request is known to a manager.
+     */
+    @Nullable
+    private Consumer<IToken<?>> changeListener;
+
     protected AbstractRequest(@NotNull final IRequester requester, @NotNull final IToken token, @NotNull final R requested)
     {
         this.requester = requester;
@@ -138,6 +151,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
     {
         this.state = state;
+        onChanged();
         manager.getLogger().debug("Updated state from: " + getId() + " to: " + state);
 
         if (this.hasParent() && this.getParent() != null)
@@ -191,6 +205,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setResult(@NotNull final R result)
     {
         this.result = result;
+        onChanged();
     }
 
     /**
@@ -227,6 +242,55 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void setParent(@Nullable final T parent)
     {
         this.parent = parent;
+        this.ancestry = null;
+        if (!children.isEmpty())
+        {
+            // The signatures of the descendants contain the old parents.
+            RequestAncestry.invalidateDescendants();
+        }
+        onChanged();
+    }
+
+    /**
+     * Get the cached signature of this request and its parents.
+     *
+     * @return the signature or null if it was not built yet.
+     */
+    @Nullable
+    RequestAncestry getAncestry()
+    {
+        return ancestry;
+    }
+
+    /**
+     * Cache the signature of this request and its parents.
+     *
+     * @param ancestry the signature.
+     */
+    void setAncestry(@Nullable final RequestAncestry ancestry)
+    {
+        this.ancestry = ancestry;
+    }
+
+    /**
+     * Set the listener which is notified with the token of this request whenever its synced data changes.
+     *
+     * @param changeListener the listener, or null to stop notifying.
+     */
+    public void setChangeListener(@Nullable final Consumer<IToken<?>> changeListener)
+    {
+        this.changeListener = changeListener;
+    }
+
+    /**
+     * Notify the change listener, if any, that this request changed.
+     */
+    private void onChanged()
+    {
+        if (changeListener != null)
+        {
+            changeListener.accept(token);
+        }
     }
 
     /**
@@ -249,6 +313,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void addChild(@NotNull final T child)
     {
         this.children.add(child);
+        onChanged();
     }
 
     /**
@@ -288,6 +353,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void removeChild(@NotNull final T child)
     {
         this.children.remove(child);
+        onChanged();
     }
 
     /**
@@ -402,6 +468,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void overrideCurrentDeliveries(@NotNull final ImmutableList<ItemStack> stacks)
     {
         this.deliveries = Lists.newArrayList(stacks);
+        onChanged();
     }
 
     @Override
@@ -409,6 +476,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     {
         this.deliveries.add(stack);
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        onChanged();
     }
 
     @NotNull
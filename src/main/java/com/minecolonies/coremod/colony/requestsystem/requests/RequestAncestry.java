@@ -0,0 +1,266 @@
+package com.minecolonies.coremod.colony.requestsystem.requests;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.crafting.AbstractCrafting;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.minecolonies.api.util.constant.Constants.MAX_CRAFTING_CYCLE_DEPTH;
+
+/**
+ * Signature of the requestables of a request and all of its parents.
+ * <p>
+ * Built once per request and cached on it, the signature of a request extends the one of its parent,
+ * so checking a request for a crafting cycle is a lookup instead of a walk up the parent chain.
+ * A cached signature is dropped when its request gets a new parent. When a request with children gets a new parent,
+ * the epoch is bumped, which outdates all cached signatures, as the request does not know its descendants.
+ * Requestables are bucketed by their item, and by class if they have none, then compared with equals,
+ * their own hash codes depend on the identity of their stacks.
+ */
+public final class RequestAncestry
+{
+    /**
+     * Bumped whenever a request with children gets a new parent.
+     */
+    private static final AtomicInteger epoch = new AtomicInteger();
+
+    /**
+     * The parent the signature was built for.
+     */
+    @Nullable
+    private final IToken<?> parent;
+
+    /**
+     * The epoch the signature was built in.
+     */
+    private final int builtEpoch;
+
+    /**
+     * The requestables of the request and its parents by bucket.
+     */
+    @NotNull
+    private final Map<Object, List<IRequestable>> requestables;
+
+    /**
+     * The amount of parents.
+     */
+    private final int depth;
+
+    /**
+     * If a requestable appears twice in the chain or the chain is too long.
+     */
+    private final boolean cyclic;
+
+    /**
+     * Create a signature.
+     *
+     * @param parent       the parent the signature was built for.
+     * @param requestables the requestables by bucket.
+     * @param depth        the amount of parents.
+     * @param cyclic       if a requestable appears twice or the chain is too long.
+     */
+    private RequestAncestry(@Nullable final IToken<?> parent, @NotNull final Map<Object, List<IRequestable>> requestables, final int depth, final boolean cyclic)
+    {
+        this.parent = parent;
+        this.builtEpoch = epoch.get();
+        this.requestables = requestables;
+        this.depth = depth;
+        this.cyclic = cyclic;
+    }
+
+    /**
+     * Outdate all cached signatures, called when a request with children gets a new parent.
+     */
+    static void invalidateDescendants()
+    {
+        epoch.incrementAndGet();
+    }
+
+    /**
+     * Get the signature of a request, building it and the missing ones of its parents if it has no up to date one.
+     * The parents are walked at most {@link com.minecolonies.api.util.constant.Constants#MAX_CRAFTING_CYCLE_DEPTH} levels,
+     * a longer chain is a cycle.
+     *
+     * @param manager the request manager, used to look up the parents.
+     * @param request the request.
+     * @return the signature.
+     */
+    @NotNull
+    public static RequestAncestry of(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+        final RequestAncestry cached = getCached(request);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        // The request and its parents without an up to date signature, up to the first parent which has one.
+        final List<IRequest<?>> chain = new ArrayList<>();
+        chain.add(request);
+        RequestAncestry base = null;
+        IRequest<?> parentRequest = getParentRequest(manager, request);
+        while (parentRequest != null)
+        {
+            base = getCached(parentRequest);
+            if (base != null)
+            {
+                break;
+            }
+            if (chain.size() > MAX_CRAFTING_CYCLE_DEPTH)
+            {
+                // Too many parents, they may even loop. Nothing in the chain is known well enough to be cached.
+                return new RequestAncestry(request.getParent(), Collections.emptyMap(), MAX_CRAFTING_CYCLE_DEPTH + 1, true);
+            }
+            chain.add(parentRequest);
+            parentRequest = getParentRequest(manager, parentRequest);
+        }
+
+        RequestAncestry ancestry = base;
+        for (int i = chain.size() - 1; i >= 0; i--)
+        {
+            ancestry = build(chain.get(i), ancestry);
+            if (chain.get(i) instanceof AbstractRequest)
+            {
+                ((AbstractRequest<?>) chain.get(i)).setAncestry(ancestry);
+            }
+        }
+        return ancestry;
+    }
+
+    /**
+     * Get the cached signature of a request if it is still up to date.
+     *
+     * @param request the request.
+     * @return the signature or null if there is none or it is outdated.
+     */
+    @Nullable
+    private static RequestAncestry getCached(@NotNull final IRequest<?> request)
+    {
+        if (!(request instanceof AbstractRequest))
+        {
+            return null;
+        }
+
+        final RequestAncestry cached = ((AbstractRequest<?>) request).getAncestry();
+        if (cached == null || cached.builtEpoch != epoch.get() || !Objects.equals(cached.parent, request.getParent()))
+        {
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Build the signature of a request from the one of its parent.
+     *
+     * @param request        the request.
+     * @param parentAncestry the signature of the parent, null if it has no known parent.
+     * @return the signature.
+     */
+    @NotNull
+    private static RequestAncestry build(@NotNull final IRequest<?> request, @Nullable final RequestAncestry parentAncestry)
+    {
+        final IToken<?> parentToken = request.getParent();
+        if (parentAncestry == null)
+        {
+            final Map<Object, List<IRequestable>> own = new HashMap<>();
+            own.computeIfAbsent(getBucket(request.getRequest()), key -> new ArrayList<>()).add(request.getRequest());
+            return new RequestAncestry(parentToken, own, 0, false);
+        }
+
+        if (parentAncestry.cyclic || parentAncestry.depth >= MAX_CRAFTING_CYCLE_DEPTH || parentAncestry.contains(request.getRequest()))
+        {
+            // Already a cycle, no need to copy the requestables any further.
+            return new RequestAncestry(parentToken, parentAncestry.requestables, parentAncestry.depth + 1, true);
+        }
+
+        final Map<Object, List<IRequestable>> requestables = new HashMap<>(parentAncestry.requestables.size() + 1);
+        parentAncestry.requestables.forEach((bucket, list) -> requestables.put(bucket, new ArrayList<>(list)));
+        requestables.computeIfAbsent(getBucket(request.getRequest()), key -> new ArrayList<>()).add(request.getRequest());
+        return new RequestAncestry(parentToken, requestables, parentAncestry.depth + 1, false);
+    }
+
+    /**
+     * Get the parent request of a request.
+     *
+     * @param manager the request manager.
+     * @param request the request.
+     * @return the parent or null if it has none or it is unknown to the manager.
+     */
+    @Nullable
+    private static IRequest<?> getParentRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+        if (!request.hasParent() || request.getParent() == null)
+        {
+            return null;
+        }
+
+        try
+        {
+            return manager.getRequestForToken(request.getParent());
+        }
+        catch (final IllegalArgumentException ex)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Get the bucket of a requestable, equal requestables have to end up in the same bucket.
+     *
+     * @param requestable the requestable.
+     * @return the bucket.
+     */
+    @NotNull
+    private static Object getBucket(@NotNull final IRequestable requestable)
+    {
+        // Only the item, stacks may be equal regardless of their damage.
+        if (requestable instanceof Stack)
+        {
+            return ((Stack) requestable).getStack().getItem();
+        }
+        if (requestable instanceof AbstractCrafting)
+        {
+            return ((AbstractCrafting) requestable).getStack().getItem();
+        }
+        return requestable.getClass();
+    }
+
+    /**
+     * Check if the request or one of its parents requests something equal to the given requestable.
+     *
+     * @param requestable the requestable.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final IRequestable requestable)
+    {
+        final List<IRequestable> bucket = requestables.get(getBucket(requestable));
+        return bucket != null && bucket.contains(requestable);
+    }
+
+    /**
+     * Check if the chain of the request contains a requestable twice or has more than {@link com.minecolonies.api.util.constant.Constants#MAX_CRAFTING_CYCLE_DEPTH} parents.
+     *
+     * @return true if so.
+     */
+    public boolean isCycle()
+    {
+        return cyclic;
+    }
+
+    /**
+     * Get the amount of parents of the request.
+     *
+     * @return the amount.
+     */
+    public int getDepth()
+    {
+        return depth;
+    }
+}
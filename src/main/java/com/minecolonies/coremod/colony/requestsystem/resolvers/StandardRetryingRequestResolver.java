@@ -29,16 +29,43 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
     private static final Integer CONST_RETRYING_ID_SCALE = -20000;
 
+    /**
+     * Amount of buckets of the timer wheel, has to be a power of two.
+     */
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
     private       IRequestManager manager;
     private final ILocation       location;
     private final IToken<?>       id;
     private       IToken<?>       current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * The update at which each waiting request is due for its next retry.
+     */
+    private final HashMap<IToken<?>, Long> dueUpdates = new HashMap<>();
+
+    /**
+     * Timer wheel, the requests due at an update are in the bucket of the update number modulo the wheel size.
+     */
+    private final List<Set<IToken<?>>> wheel = new ArrayList<>(WHEEL_SIZE);
+
+    /**
+     * Amount of updates performed so far.
+     */
+    private long currentUpdate = 0;
+
+    /**
+     * Amount of retries attempted and of retries which found another resolver.
+     */
+    private int retriesAttempted = 0;
+    private int retriesSucceeded = 0;
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
+        this.setupWheel();
 
         this.id = factoryController.getNewInstance(TypeConstants.ITOKEN, manager.getColony().getID() * CONST_RETRYING_ID_SCALE);
         this.location = factoryController.getNewInstance(TypeConstants.ILOCATION, manager.getColony().getCenter(), manager.getColony().getDimension());
@@ -48,6 +75,43 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         this.id = id;
         this.location = location;
+        this.setupWheel();
+    }
+
+    private void setupWheel()
+    {
+        for (int i = 0; i < WHEEL_SIZE; i++)
+        {
+            wheel.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Schedule the next retry of a request, replacing its previous schedule.
+     *
+     * @param token the token of the request.
+     * @param delay the amount of updates until the retry.
+     */
+    private void schedule(final IToken<?> token, final int delay)
+    {
+        unschedule(token);
+        final long dueUpdate = currentUpdate + Math.max(1, delay);
+        dueUpdates.put(token, dueUpdate);
+        wheel.get((int) (dueUpdate & WHEEL_MASK)).add(token);
+    }
+
+    /**
+     * Remove the scheduled retry of a request.
+     *
+     * @param token the token of the request.
+     */
+    private void unschedule(final IToken<?> token)
+    {
+        final Long dueUpdate = dueUpdates.remove(token);
+        if (dueUpdate != null)
+        {
+            wheel.get((int) (dueUpdate & WHEEL_MASK)).remove(token);
+        }
     }
 
     @Override
@@ -104,7 +168,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
+        schedule(request.getId(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
     }
 
@@ -123,7 +187,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         if (assignedRequests.containsKey(request.getId()))
         {
-            delays.remove(request.getId());
+            unschedule(request.getId());
             assignedRequests.remove(request.getId());
         }
     }
@@ -144,53 +208,91 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void update()
     {
-        manager.getLogger().debug("Starting reassignment.");
+        currentUpdate++;
 
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
-
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        final Set<IToken<?>> bucket = wheel.get((int) (currentUpdate & WHEEL_MASK));
+        if (bucket.isEmpty())
+        {
+            return;
+        }
 
-            Integer currentAttempt = assignedRequests.get(t);
+        manager.getLogger().debug("Starting reassignment.");
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+        //Only the requests of the current bucket which are due now, the others wait for a later round of the wheel.
+        final List<IToken<?>> retryables = bucket.stream().filter(t -> dueUpdates.get(t) <= currentUpdate).collect(Collectors.toList());
 
-            try
+        int budget = Math.max(1, Configurations.requestSystem.maximalRetriesPerUpdate);
+        for (final IToken<?> t : retryables)
+        {
+            if (budget-- <= 0)
             {
-                resultingResolver = manager.reassignRequest(t, blackList);
+                //Over budget, spread the remaining retries over the next updates.
+                schedule(t, 1);
+                continue;
             }
-            catch (Exception ex)
+
+            unschedule(t);
+            if (!retry(t))
             {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
+                manager.getLogger().debug("Failed to reassign a retryable request: " + t);
             }
+        }
+
+        manager.getLogger().debug("Finished reassignment.");
+    }
+
+    /**
+     * Try to reassign a due request.
+     *
+     * @param t the token of the request.
+     * @return true if a resolver was found.
+     */
+    private boolean retry(final IToken<?> t)
+    {
+        final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
+        Integer currentAttempt = assignedRequests.get(t);
+        retriesAttempted++;
+
+        this.setCurrent(t);
+        final IToken<?> resultingResolver;
+
+        try
+        {
+            resultingResolver = manager.reassignRequest(t, blackList);
+        }
+        catch (Exception ex)
+        {
             this.setCurrent(null);
+            assignedRequests.remove(t);
+            unschedule(t);
+            return false;
+        }
 
-            assignedRequests.put(t, ++currentAttempt);
+        this.setCurrent(null);
 
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        assignedRequests.put(t, ++currentAttempt);
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            retriesSucceeded++;
+            assignedRequests.remove(t);
+            unschedule(t);
+        }
 
-        successfully.forEach(t -> {
-            manager.getLogger().debug("Failed to reassign a retryable request: " + id);
-        });
+        return resultingResolver != null;
+    }
 
-        manager.getLogger().debug("Finished reassignment.");
+    @Override
+    public int getRetriesAttempted()
+    {
+        return retriesAttempted;
+    }
+
+    @Override
+    public int getRetriesSucceeded()
+    {
+        return retriesSucceeded;
     }
 
     @Override
@@ -203,7 +305,8 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
-        delays.clear();
+        dueUpdates.clear();
+        wheel.forEach(Set::clear);
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -248,12 +351,20 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.assignedRequests.clear();
         this.assignedRequests.putAll(newAssignedRequests);
 
-        this.delays.clear();
-        this.delays.putAll(newDelays);
+        this.dueUpdates.clear();
+        this.wheel.forEach(Set::clear);
+        newDelays.forEach(this::schedule);
     }
 
+    /**
+     * Get the remaining delays of the waiting requests.
+     *
+     * @return a new map from request token to the amount of updates until its next retry.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        dueUpdates.forEach((token, dueUpdate) -> delays.put(token, (int) (dueUpdate - currentUpdate)));
         return delays;
     }
 
@@ -111,12 +111,18 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
         final Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
 
         final int totalRequested = request.getRequest().getCount();
-        final int totalAvailable = wareHouses.stream()
-                                     .map(wareHouse -> wareHouse.getMatchingItemStacksInWarehouse(itemStack -> request.getRequest().matches(itemStack)))
-                                     .filter(itemStacks -> !itemStacks.isEmpty())
-                                     .flatMap(List::stream)
-                                     .mapToInt(ItemStack::getCount)
-                                     .sum();
+        int totalAvailable = 0;
+        for (final TileEntityWareHouse wareHouse : wareHouses)
+        {
+            if (wareHouse != null)
+            {
+                totalAvailable += wareHouse.getCountOfMatchingItemStacksInWarehouse(itemStack -> request.getRequest().matches(itemStack), totalRequested - totalAvailable);
+                if (totalAvailable >= totalRequested)
+                {
+                    break;
+                }
+            }
+        }
 
         if (totalAvailable >= totalRequested)
             return Lists.newArrayList();
@@ -14,6 +14,7 @@ import com.minecolonies.api.crafting.IRecipeStorage;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
 import com.minecolonies.coremod.colony.requestsystem.requesters.IBuildingBasedRequester;
+import com.minecolonies.coremod.colony.requestsystem.requests.RequestAncestry;
 import net.minecraft.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -21,8 +22,6 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.function.Predicate;
 
-import static com.minecolonies.api.util.constant.Constants.MAX_CRAFTING_CYCLE_DEPTH;
-
 /**
  * Abstract crafting resolver for all crafting tasks.
  */
@@ -106,6 +105,7 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
 
     /**
      * Method to check if a crafting cycle can be created.
+     * Uses the ancestry signature cached on the request, so repeated checks do not walk the parent chain.
      *
      * @param manager the manager.
      * @param request the request.
@@ -117,48 +117,13 @@ public abstract class AbstractCraftingRequestResolver extends AbstractRequestRes
       @NotNull final IRequest<?> request,
       @NotNull final IRequest<? extends IDeliverable> target)
     {
-        return createsCraftingCycle(manager, request, target, 0, new ArrayList<>());
-    }
-
-    /**
-     * Method to check if a crafting cycle can be created.
-     *
-     * @param manager the manager.
-     * @param request the request.
-     * @param target the target to create.
-     * @param count the itemCount.
-     * @param reqs the list of reqs.
-     * @return true if possible.
-     */
-    protected boolean createsCraftingCycle(
-      @NotNull final IRequestManager manager,
-      @NotNull final IRequest<?> request,
-      @NotNull final IRequest<? extends IDeliverable> target,
-      final int count,
-      final List<IRequestable> reqs)
-    {
-        if (reqs.contains(request.getRequest()))
+        final RequestAncestry ancestry = RequestAncestry.of(manager, request);
+        if (ancestry.isCycle())
         {
             return true;
         }
-        reqs.add(request.getRequest());
-
-        if (count > MAX_CRAFTING_CYCLE_DEPTH)
-        {
-            return true;
-        }
-
-        if (!request.equals(target) && request.getRequest().equals(target.getRequest()))
-        {
-            return true;
-        }
-
-        if (!request.hasParent())
-        {
-            return false;
-        }
 
-        return createsCraftingCycle(manager, manager.getRequestForToken(request.getParent()), target, count+1, reqs);
+        return !request.equals(target) && ancestry.contains(target.getRequest());
     }
 
     /**
@@ -71,11 +71,12 @@ public class StandardRetryingRequestResolverFactory implements IFactory<IRequest
 
             return assignmentCompound;
         }).collect(NBTUtils.toNBTTagList()));
-        compound.setTag(NBT_DELAYS, standardRetryingRequestResolver.getDelays().keySet().stream().map(t -> {
+        final Map<IToken<?>, Integer> delays = standardRetryingRequestResolver.getDelays();
+        compound.setTag(NBT_DELAYS, delays.keySet().stream().map(t -> {
             final NBTTagCompound delayCompound = new NBTTagCompound();
 
             delayCompound.setTag(NBT_TOKEN, controller.serialize(t));
-            delayCompound.setInteger(NBT_VALUE, standardRetryingRequestResolver.getDelays().get(t));
+            delayCompound.setInteger(NBT_VALUE, delays.get(t));
 
             return delayCompound;
         }).collect(NBTUtils.toNBTTagList()));
@@ -67,6 +67,12 @@ public enum ActionMenuType implements IMenuType
             ForgePermissionNodes.WHO_AM_I,
             WhoAmICommand.class
             )),
+    PATHFINDING_STATS(new ActionMenu(
+            "PathfindingStats",
+            "pathfinding",
+            ForgePermissionNodes.PATHFINDING_STATS,
+            PathfindingStatsCommand.class
+            )),
     WHERE_AM_I(new ActionMenu(
             "WhereAmI",
             "whereami",
@@ -62,6 +62,7 @@ public enum NavigationMenuType implements IMenuType
             ActionMenuType.CHECK_FOR_AUTO_DELETES,
             ActionMenuType.WHO_AM_I,
             ActionMenuType.WHERE_AM_I,
+            ActionMenuType.PATHFINDING_STATS,
             ActionMenuType.SCAN,
             ActionMenuType.LOOT_GEN
     ))
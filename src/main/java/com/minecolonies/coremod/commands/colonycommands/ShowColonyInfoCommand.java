@@ -2,9 +2,13 @@ package com.minecolonies.coremod.commands.colonycommands;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.managers.ViewSyncStatistics;
 import com.minecolonies.coremod.commands.AbstractSingleCommand;
 import com.minecolonies.coremod.commands.ActionMenuState;
 import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.util.ChunkClaimSyncHelper;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.command.CommandException;
 import net.minecraft.command.ICommandSender;
@@ -40,6 +44,10 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
     private static final String LAST_CONTACT_TEXT          = "Last contact with Owner or Officer: %d hours ago!";
     private static final String IS_DELETABLE               = "If true this colony cannot be deleted: ";
     private static final String CANNOT_BE_RAIDED           = "This colony is unable to be raided";
+    private static final String REQUEST_RETRIES_TEXT       = "§2Request retries: §f%d of %d found a resolver";
+    private static final String VIEW_SYNC_TEXT             = "§2View sync: §flast update %d bytes in %.2f ms, %d updates with %d bytes in %.2f ms in total";
+    private static final String CLAIM_SYNC_TEXT            = "§2Claim sync: §f%d packets with %d chunks sent since the server started";
+    private static final double NANOS_PER_MILLI            = 1_000_000D;
 
     /**
      * no-args constructor called by new CommandEntryPoint executer.
@@ -210,6 +218,21 @@ public class ShowColonyInfoCommand extends AbstractSingleCommand implements IAct
         {
             sender.sendMessage(new TextComponentString(CANNOT_BE_RAIDED));
         }
+
+        final IRetryingRequestResolver retryingResolver = colony.getRequestManager().getRetryingRequestResolver();
+        sender.sendMessage(new TextComponentString(String.format(REQUEST_RETRIES_TEXT, retryingResolver.getRetriesSucceeded(), retryingResolver.getRetriesAttempted())));
+
+        if (colony instanceof Colony)
+        {
+            final ViewSyncStatistics statistics = ((Colony) colony).getViewSyncStatistics();
+            sender.sendMessage(new TextComponentString(String.format(VIEW_SYNC_TEXT,
+              statistics.getLastBytes(),
+              statistics.getLastNanos() / NANOS_PER_MILLI,
+              statistics.getTotalUpdates(),
+              statistics.getTotalBytes(),
+              statistics.getTotalNanos() / NANOS_PER_MILLI)));
+        }
+        sender.sendMessage(new TextComponentString(String.format(CLAIM_SYNC_TEXT, ChunkClaimSyncHelper.getPacketsSent(), ChunkClaimSyncHelper.getChunksSent())));
     }
 
     @NotNull
@@ -22,6 +22,7 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
 {
     public static final String DESC                   = "backup";
     public static final String NO_PERMISSION_MESSAGE  = "You do not have permission to backup colony data!";
+    public static final String BACKUP_STARTED_MESSAGE = "Backing up colony data, progress is shown in the server log.";
     public static final String BACKUP_SUCCESS_MESSAGE = "Successfully backed up colony data!";
     public static final String BACKUP_FAILURE_MESSAGE = "Failed to back up colony data!";
 
@@ -62,14 +63,18 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
         {
             server.addScheduledTask(() ->
             {
-                if (BackUpHelper.backupColonyData())
+                sender.sendMessage(new TextComponentString(BACKUP_STARTED_MESSAGE));
+                BackUpHelper.backupColonyData().thenAccept(success -> server.addScheduledTask(() ->
                 {
-                    sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
-                }
-                else
-                {
-                    sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
-                }
+                    if (success)
+                    {
+                        sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
+                    }
+                    else
+                    {
+                        sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
+                    }
+                }));
             });
         }
         else
@@ -0,0 +1,86 @@
+package com.minecolonies.coremod.commands.generalcommands;
+
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.ColonyPathCache;
+import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Command printing the queue depth, wait and run times of the pathfinding executor.
+ */
+public class PathfindingStatsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    public static final String DESC                  = "pathfinding";
+    public static final String NO_PERMISSION_MESSAGE = "You do not have permission to view the pathfinding statistics!";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public PathfindingStatsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public PathfindingStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    private void executeShared(@NotNull final ICommandSender sender)
+    {
+        if (isPlayerOpped(sender))
+        {
+            sender.sendMessage(new TextComponentString(Pathfinding.getStatistics()));
+            sender.sendMessage(new TextComponentString(ColonyPathCache.getStatistics()));
+        }
+        else
+        {
+            sender.sendMessage(new TextComponentString(NO_PERMISSION_MESSAGE));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
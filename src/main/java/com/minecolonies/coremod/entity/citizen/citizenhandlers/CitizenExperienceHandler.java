@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.entity.citizen.citizenhandlers;
 
+import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenExperienceHandler;
 import com.minecolonies.api.util.CompatibilityUtils;
@@ -130,7 +131,7 @@ public class CitizenExperienceHandler implements ICitizenExperienceHandler
             citizen.getCitizenData().levelUp();
         }
         updateLevel();
-        citizen.markDirty();
+        citizen.getCitizenData().markDirty(ICitizenData.VIEW_EXPERIENCE);
     }
 
     /**
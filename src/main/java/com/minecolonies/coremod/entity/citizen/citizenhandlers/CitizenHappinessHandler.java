@@ -146,7 +146,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             foodModifier = 0;
         }
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -167,7 +167,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         processDailyHappinessForFarmData();
         processDailyHappinessForToolData();
 
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     private void processDailyHappinessForHomeData(final boolean hasHouse)
@@ -316,7 +316,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
 
             if (prevDamageModifier != damageModifier)
             {
-                citizen.markDirty();
+                citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
             }
         }
     }
@@ -340,7 +340,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         }
 
         field.isCanFarm(canFarm);
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -373,7 +373,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             needsTool.remove(toolType);
         }
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -391,7 +391,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             houseModifier = (MAX_HOUSE_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_HOUSE)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -411,7 +411,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             jobModifier = (MAX_JOB_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_JOB)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(ICitizenData.VIEW_HAPPINESS);
     }
 
     /**
@@ -3,12 +3,15 @@ package com.minecolonies.coremod.entity.pathfinding;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -106,8 +109,8 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess       world;
     protected final  PathResult         result;
     private final    int                maxRange;
-    private final    Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final    Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    private final    NodeHeap           nodesOpen                    = new NodeHeap();
+    private final    NodeMap            nodesVisited                 = new NodeMap();
     //  Debug Rendering
     protected        boolean            debugDrawEnabled             = false;
     @Nullable
@@ -141,6 +144,31 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private WeakReference<EntityLivingBase> entity;
 
+    /**
+     * The lane this job is scheduled in by the executor.
+     */
+    private PathJobPriority priority = PathJobPriority.NORMAL;
+
+    /**
+     * The shared block flags of the colony of the entity, null if the entity has no colony.
+     */
+    @Nullable
+    private final ColonyBlockSnapshot blockSnapshot;
+
+    /**
+     * Corners of the area covered by the world cache of this job.
+     * The cache reads air outside of it, so the shared snapshot is only filled from inside.
+     */
+    @NotNull
+    private final BlockPos cacheMin;
+    @NotNull
+    private final BlockPos cacheMax;
+
+    /**
+     * Position reused for the neighbour lookups in walk, only turned into a real BlockPos when a node is created.
+     */
+    private final BlockPos.MutableBlockPos walkPos = new BlockPos.MutableBlockPos();
+
     /**
      * AbstractPathJob constructor.
      *
@@ -173,7 +201,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         final int maxX = Math.max(start.getX(), end.getX()) + (range / 2);
         final int maxZ = Math.max(start.getZ(), end.getZ()) + (range / 2);
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.cacheMin = new BlockPos(minX, MIN_Y, minZ);
+        this.cacheMax = new BlockPos(maxX, MAX_Y, maxZ);
+        this.world = new ChunkCache(world, cacheMin, cacheMax, range);
 
         this.start = new BlockPos(start);
         this.maxRange = range;
@@ -190,6 +220,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             debugNodesPath = new HashSet<>();
         }
         this.entity = new WeakReference<>(entity);
+        this.blockSnapshot = findBlockSnapshot(entity);
     }
 
     /**
@@ -214,7 +245,9 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         final int range = (int)Math.sqrt(Math.pow(maxX - minX, 2) + Math.pow(maxZ - minZ, 2)) * 2;
 
-        this.world = new ChunkCache(world, new BlockPos(minX, MIN_Y, minZ), new BlockPos(maxX, MAX_Y, maxZ), range);
+        this.cacheMin = new BlockPos(minX, MIN_Y, minZ);
+        this.cacheMax = new BlockPos(maxX, MAX_Y, maxZ);
+        this.world = new ChunkCache(world, cacheMin, cacheMax, range);
 
         this.start = new BlockPos((minX + maxX) / 2, (startRestriction.getY() + endRestriction.getY()) / 2, (minZ + maxZ) / 2);
         this.maxRange = range;
@@ -231,6 +264,68 @@ public abstract class AbstractPathJob implements Callable<Path>
             debugNodesPath = new HashSet<>();
         }
         this.entity = new WeakReference<>(entity);
+        this.blockSnapshot = findBlockSnapshot(entity);
+    }
+
+    /**
+     * Constructor of a job searching one segment of the path of another job, in the world cache of that job.
+     * Only to be used from within the search of the parent job.
+     *
+     * @param parent the job the segment belongs to.
+     * @param start  the start position of the segment.
+     * @param result path result of the segment.
+     */
+    protected AbstractPathJob(@NotNull final AbstractPathJob parent, @NotNull final BlockPos start, final PathResult result)
+    {
+        this.world = parent.world;
+        this.cacheMin = parent.cacheMin;
+        this.cacheMax = parent.cacheMax;
+        this.start = new BlockPos(start);
+        this.maxRange = parent.maxRange;
+        this.result = result;
+
+        if (Configurations.pathfinding.pathfindingDebugDraw)
+        {
+            debugDrawEnabled = true;
+            debugNodesVisited = new HashSet<>();
+            debugNodesNotVisited = new HashSet<>();
+            debugNodesPath = new HashSet<>();
+        }
+        this.entity = parent.entity;
+        this.blockSnapshot = parent.blockSnapshot;
+    }
+
+    /**
+     * Find the colony of the entity.
+     *
+     * @param entity the entity.
+     * @return the colony or null if the entity is not a citizen of a colony.
+     */
+    @Nullable
+    protected static Colony findColony(@Nullable final EntityLivingBase entity)
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            final IColony colony = ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColony();
+            if (colony instanceof Colony)
+            {
+                return (Colony) colony;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the block snapshot of the colony of the entity.
+     *
+     * @param entity the entity.
+     * @return the snapshot or null if the entity is not a citizen of a colony.
+     */
+    @Nullable
+    private static ColonyBlockSnapshot findBlockSnapshot(@Nullable final EntityLivingBase entity)
+    {
+        final Colony colony = findColony(entity);
+        return colony == null ? null : colony.getBlockSnapshot();
     }
 
     private static boolean onLadderGoingUp(@NotNull final Node currentNode, @NotNull final BlockPos dPos)
@@ -368,10 +463,25 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return cost to move from the parent to the new position.
      */
     protected static double computeCost(@NotNull final BlockPos dPos, final boolean isSwimming, final boolean onPath)
+    {
+        return computeCost(dPos.getX(), dPos.getY(), dPos.getZ(), isSwimming, onPath);
+    }
+
+    /**
+     * Compute the cost (immediate 'g' value) of moving from the parent space to the new space.
+     *
+     * @param dX         the x delta from the parent to the new space.
+     * @param dY         the y delta from the parent to the new space.
+     * @param dZ         the z delta from the parent to the new space.
+     * @param isSwimming true is the current node would require the citizen to swim.
+     * @param onPath     checks if the node is on a path.
+     * @return cost to move from the parent to the new position.
+     */
+    protected static double computeCost(final int dX, final int dY, final int dZ, final boolean isSwimming, final boolean onPath)
     {
         double cost = 1D;
 
-        if (dPos.getY() != 0 && (dPos.getX() != 0 || dPos.getZ() != 0))
+        if (dY != 0 && (dX != 0 || dZ != 0))
         {
             //  Tax the cost for jumping, dropping (warning: also taxes stairs)
             cost *= JUMP_DROP_COST;
@@ -406,9 +516,9 @@ public abstract class AbstractPathJob implements Callable<Path>
         return node != null && node.isClosed();
     }
 
-    private static boolean calculateSwimming(@NotNull final IBlockAccess world, @NotNull final BlockPos pos, @Nullable final Node node)
+    private boolean calculateSwimming(@NotNull final BlockPos pos, @Nullable final Node node)
     {
-        return (node == null) ? world.getBlockState(pos.down()).getMaterial().isLiquid() : node.isSwimming();
+        return (node == null) ? isLiquid(pos.down()) : node.isSwimming();
     }
 
     public PathResult getResult()
@@ -416,6 +526,37 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the entity this job is calculated for.
+     *
+     * @return the entity or null if it got unloaded already.
+     */
+    @Nullable
+    public EntityLivingBase getEntity()
+    {
+        return entity.get();
+    }
+
+    /**
+     * Get the scheduling priority of this job.
+     *
+     * @return the priority.
+     */
+    public PathJobPriority getPriority()
+    {
+        return priority;
+    }
+
+    /**
+     * Set the scheduling priority of this job, has to be done before enqueueing it.
+     *
+     * @param priority the priority to set.
+     */
+    public void setPriority(@NotNull final PathJobPriority priority)
+    {
+        this.priority = priority;
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -433,10 +574,28 @@ public abstract class AbstractPathJob implements Callable<Path>
             // Log everything, so exceptions of the pathfinding-thread show in Log
             Log.getLogger().warn("Pathfinding Exception", e);
         }
+        finally
+        {
+            releaseNodes();
+        }
 
         return null;
     }
 
+    /**
+     * Hand the nodes of this job back to the pool of the worker thread.
+     * Not done with debug drawing enabled, as the debug sets keep referencing the nodes.
+     */
+    private void releaseNodes()
+    {
+        nodesOpen.clear();
+        if (!debugDrawEnabled)
+        {
+            nodesVisited.forEachNode(NodePool.get()::release);
+        }
+        nodesVisited.clear();
+    }
+
     /**
      * Perform the search.
      *
@@ -592,14 +751,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     @NotNull
     private Node getAndSetupStartNode()
     {
-        @NotNull final Node startNode = new Node(start,
-                                                  computeHeuristic(start));
+        final double heuristic = computeHeuristic(start);
+        @NotNull final Node startNode = NodePool.get().obtain(null, start, 0, heuristic, heuristic);
 
         if (isLadder(start))
         {
             startNode.setLadder();
         }
-        else if (world.getBlockState(start).getMaterial().isLiquid())
+        else if (isLiquid(start))
         {
             startNode.setSwimming();
         }
@@ -745,7 +904,8 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
+        final BlockPos.MutableBlockPos pos =
+          walkPos.setPos(parent.pos.getX() + dPos.getX(), parent.pos.getY() + dPos.getY(), parent.pos.getZ() + dPos.getZ());
 
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
@@ -760,14 +920,19 @@ public abstract class AbstractPathJob implements Callable<Path>
             return false;
         }
 
-        BlockPos yFix = BlockPos.ORIGIN;
+        int costDX = dPos.getX();
+        int costDY = dPos.getY();
+        int costDZ = dPos.getZ();
 
         if (pos.getY() != newY)
         {
-            yFix = dPos.add(0, newY - pos.getY(), 0);
+            //  The delta plus the y fixed delta, as it always has been weighted.
+            costDX *= 2;
+            costDY = costDY * 2 + newY - pos.getY();
+            costDZ *= 2;
 
             //  Has this node been visited?
-            pos = new BlockPos(pos.getX(), newY, pos.getZ());
+            pos.setPos(pos.getX(), newY, pos.getZ());
             nodeKey = computeNodeKey(pos);
             node = nodesVisited.get(nodeKey);
             if (nodeClosed(node))
@@ -777,26 +942,24 @@ public abstract class AbstractPathJob implements Callable<Path>
             }
         }
 
-        final boolean isSwimming = calculateSwimming(world, pos, node);
-        final boolean onRoad = BlockUtils.isPathBlock(world.getBlockState(pos.down()).getBlock());
+        final boolean isSwimming = calculateSwimming(pos, node);
+        final boolean onRoad = isPathBlock(pos.down());
         //  Cost may have changed due to a jump up or drop
-        final double stepCost = computeCost(dPos.add(yFix), isSwimming, onRoad);
+        final double stepCost = computeCost(costDX, costDY, costDZ, isSwimming, onRoad);
         final double heuristic = computeHeuristic(pos);
         final double cost = parent.getCost() + stepCost;
         final double score = cost + heuristic;
 
         if (node == null)
         {
-            node = createNode(parent, pos, nodeKey, isSwimming, heuristic, cost, score);
+            node = createNode(parent, pos.toImmutable(), nodeKey, isSwimming, heuristic, cost, score);
+            nodesOpen.offer(node);
         }
         else if (updateCurrentNode(parent, node, heuristic, cost, score))
         {
-
             return false;
         }
 
-        nodesOpen.offer(node);
-
         //  Jump Point Search-ish optimization:
         // If this node was a (heuristic-based) improvement on our parent,
         // lets go another step in the same direction...
@@ -818,8 +981,7 @@ public abstract class AbstractPathJob implements Callable<Path>
                              final Node parent, @NotNull final BlockPos pos, final int nodeKey,
                              final boolean isSwimming, final double heuristic, final double cost, final double score)
     {
-        final Node node;
-        node = new Node(parent, pos, cost, heuristic, score);
+        final Node node = NodePool.get().obtain(parent, pos, cost, heuristic, score);
         nodesVisited.put(nodeKey, node);
         if (debugDrawEnabled)
         {
@@ -848,7 +1010,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return true;
         }
 
-        if (!nodesOpen.remove(node))
+        if (!nodesOpen.contains(node))
         {
             return true;
         }
@@ -858,6 +1020,8 @@ public abstract class AbstractPathJob implements Callable<Path>
         node.setCost(cost);
         node.setHeuristic(heuristic);
         node.setScore(score);
+        //  Decrease-key in place instead of removing and re-adding the node
+        nodesOpen.update(node);
         return false;
     }
 
@@ -878,15 +1042,14 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         //  Now check the block we want to move to
-        final IBlockState target = world.getBlockState(pos);
-        if (!isPassable(target))
+        if (!isPassableState(pos))
         {
-            return handleTargeNotPassable(parent, pos, target);
+            return handleTargeNotPassable(parent, pos);
         }
 
         //  Do we have something to stand on in the target space?
-        final IBlockState below = world.getBlockState(pos.down());
-        final SurfaceType walkability = isWalkableSurface(below, pos);
+        final BlockPos below = pos.down();
+        final SurfaceType walkability = getSurfaceType(below);
         if (walkability == SurfaceType.WALKABLE)
         {
             //  Level path
@@ -900,16 +1063,16 @@ public abstract class AbstractPathJob implements Callable<Path>
         return handleNotStanding(parent, pos, below);
     }
 
-    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState below)
+    private int handleNotStanding(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final BlockPos below)
     {
         final boolean isSwimming = parent != null && parent.isSwimming();
 
-        if (below.getMaterial().isLiquid())
+        if (isLiquid(below))
         {
             return handleInLiquid(pos, below, isSwimming);
         }
 
-        if (isLadder(below.getBlock(), pos.down()))
+        if (isLadder(below))
         {
             return pos.getY();
         }
@@ -928,13 +1091,13 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         for (int i = 2; i <= 4; i++)
         {
-            final IBlockState below = world.getBlockState(pos.down(i));
-            if (isWalkableSurface(below, pos) == SurfaceType.WALKABLE)
+            final BlockPos below = pos.down(i);
+            if (getSurfaceType(below) == SurfaceType.WALKABLE)
             {
                 //  Level path
                 return pos.getY() - i + 1;
             }
-            else if (below.getMaterial() != Material.AIR)
+            else if (!isAir(below))
             {
                 return -1;
             }
@@ -943,7 +1106,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final IBlockState below, final boolean isSwimming)
+    private int handleInLiquid(@NotNull final BlockPos pos, @NotNull final BlockPos below, final boolean isSwimming)
     {
         if (isSwimming)
         {
@@ -951,7 +1114,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return pos.getY();
         }
 
-        if (allowSwimming && below.getMaterial() == Material.WATER)
+        if (allowSwimming && isWater(below))
         {
             //  This is water, and we are allowed to swim
             return pos.getY();
@@ -961,11 +1124,11 @@ public abstract class AbstractPathJob implements Callable<Path>
         return -1;
     }
 
-    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos, @NotNull final IBlockState target)
+    private int handleTargeNotPassable(@Nullable final Node parent, @NotNull final BlockPos pos)
     {
         final boolean canJump = parent != null && !parent.isLadder() && !parent.isSwimming();
         //  Need to try jumping up one, if we can
-        if (!canJump || isWalkableSurface(target, pos) != SurfaceType.WALKABLE)
+        if (!canJump || getSurfaceType(pos) != SurfaceType.WALKABLE)
         {
             return -1;
         }
@@ -982,9 +1145,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             return -1;
         }
 
-        final IBlockState below = world.getBlockState(parent.pos.down());
-        final AxisAlignedBB bb = below.getCollisionBoundingBox(world, pos.down());
-        if (bb != null && bb.maxY < 1)
+        if (hasLowCollision(parent.pos.down()))
         {
             return -1;
         }
@@ -996,8 +1157,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     private boolean checkHeadBlock(@Nullable final Node parent, @NotNull final BlockPos pos)
     {
         BlockPos localPos = pos;
-        final AxisAlignedBB bb = world.getBlockState(localPos).getCollisionBoundingBox(world, localPos);
-        if (bb != null && bb.maxY < 1)
+        if (hasLowCollision(pos))
         {
             localPos = pos.up();
         }
@@ -1009,12 +1169,168 @@ public abstract class AbstractPathJob implements Callable<Path>
 
         if (parent != null)
         {
-            final IBlockState hereState = world.getBlockState(localPos.down());
-            return hereState.getMaterial().isLiquid() && !isPassable(pos);
+            return isLiquid(localPos.down()) && !isPassable(pos);
         }
         return false;
     }
 
+    /**
+     * Get the shared block flags of a position.
+     *
+     * @param pos the position.
+     * @return the flags, or 0 if the position is not covered by the colony snapshot or the world cache of this job.
+     */
+    private int getSnapshotFlags(@NotNull final BlockPos pos)
+    {
+        if (blockSnapshot == null || !canUseBlockSnapshot() || !isInCache(pos))
+        {
+            return 0;
+        }
+        return blockSnapshot.getFlags(world, pos);
+    }
+
+    /**
+     * Check if a position is inside of the area covered by the world cache of this job.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isInCache(@NotNull final BlockPos pos)
+    {
+        return pos.getX() >= cacheMin.getX() && pos.getX() <= cacheMax.getX()
+                 && pos.getZ() >= cacheMin.getZ() && pos.getZ() <= cacheMax.getZ()
+                 && pos.getY() >= cacheMin.getY() && pos.getY() <= cacheMax.getY();
+    }
+
+    /**
+     * Whether this job may use the shared colony block snapshot.
+     * Jobs which change the passability rules must return false, as the snapshot is computed with the base rules.
+     *
+     * @return true if so.
+     */
+    protected boolean canUseBlockSnapshot()
+    {
+        return true;
+    }
+
+    /**
+     * Is the block state at the position passable.
+     *
+     * @param pos the position.
+     * @return true if the block does not block movement.
+     */
+    private boolean isPassableState(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_PASSABLE_STATE) != 0;
+        }
+        return isPassable(world.getBlockState(pos));
+    }
+
+    /**
+     * Get the surface type of the block at a position.
+     *
+     * @param pos the position of the block.
+     * @return the surface type.
+     */
+    @NotNull
+    private SurfaceType getSurfaceType(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            if ((flags & ColonyBlockSnapshot.FLAG_SURFACE_WALKABLE) != 0)
+            {
+                return SurfaceType.WALKABLE;
+            }
+            return (flags & ColonyBlockSnapshot.FLAG_SURFACE_BLOCKED) != 0 ? SurfaceType.NOT_PASSABLE : SurfaceType.DROPABLE;
+        }
+        return isWalkableSurface(world.getBlockState(pos), pos);
+    }
+
+    /**
+     * Check if the block at the position has a collision box lower than a full block.
+     *
+     * @param pos the position of the block.
+     * @return true if so.
+     */
+    private boolean hasLowCollision(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_LOW_COLLISION) != 0;
+        }
+        final AxisAlignedBB bb = world.getBlockState(pos).getCollisionBoundingBox(world, pos);
+        return bb != null && bb.maxY < 1;
+    }
+
+    /**
+     * Check if the block at the position is a liquid.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isLiquid(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_LIQUID) != 0;
+        }
+        return world.getBlockState(pos).getMaterial().isLiquid();
+    }
+
+    /**
+     * Check if the block at the position is water.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isWater(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_WATER) != 0;
+        }
+        return world.getBlockState(pos).getMaterial() == Material.WATER;
+    }
+
+    /**
+     * Check if the block at the position is air.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isAir(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_AIR) != 0;
+        }
+        return world.getBlockState(pos).getMaterial() == Material.AIR;
+    }
+
+    /**
+     * Check if the block at the position is a path block.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isPathBlock(@NotNull final BlockPos pos)
+    {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_PATH_BLOCK) != 0;
+        }
+        return BlockUtils.isPathBlock(world.getBlockState(pos).getBlock());
+    }
+
     /**
      * Is the space passable.
      *
@@ -1022,6 +1338,17 @@ public abstract class AbstractPathJob implements Callable<Path>
      * @return true if the block does not block movement.
      */
     protected boolean isPassable(@NotNull final IBlockState block)
+    {
+        return isPassableBlock(block);
+    }
+
+    /**
+     * The base passable rule, shared with the {@link ColonyBlockSnapshot}.
+     *
+     * @param block the block we are checking.
+     * @return true if the block does not block movement.
+     */
+    static boolean isPassableBlock(@NotNull final IBlockState block)
     {
         if (block.getMaterial() != Material.AIR)
         {
@@ -1043,6 +1370,12 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isPassable(final BlockPos pos)
     {
+        final int flags = getSnapshotFlags(pos);
+        if (flags != 0)
+        {
+            return (flags & ColonyBlockSnapshot.FLAG_PASSABLE) != 0;
+        }
+
         final IBlockState state = world.getBlockState(pos);
         if (state.getBlock().isPassable(world, pos))
         {
@@ -1060,6 +1393,20 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     @NotNull
     protected SurfaceType isWalkableSurface(@NotNull final IBlockState blockState, final BlockPos pos)
+    {
+        return getSurfaceType(world, blockState, pos);
+    }
+
+    /**
+     * The base walkable surface rule, shared with the {@link ColonyBlockSnapshot}.
+     *
+     * @param world      the world.
+     * @param blockState Block to check.
+     * @param pos        the position.
+     * @return the surface type.
+     */
+    @NotNull
+    static SurfaceType getSurfaceType(@NotNull final IBlockAccess world, @NotNull final IBlockState blockState, final BlockPos pos)
     {
         final Block block = blockState.getBlock();
         if (block instanceof BlockFence
@@ -1100,6 +1447,11 @@ public abstract class AbstractPathJob implements Callable<Path>
 
     protected boolean isLadder(final BlockPos pos)
     {
+        // Ladders may depend on the climbing entity, so the snapshot only rules out air.
+        if ((getSnapshotFlags(pos) & ColonyBlockSnapshot.FLAG_AIR) != 0)
+        {
+            return false;
+        }
         return isLadder(world.getBlockState(pos).getBlock(), pos);
     }
 
@@ -1126,7 +1478,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     /**
      * Check if we can walk on a surface, drop into, or neither.
      */
-    private enum SurfaceType
+    enum SurfaceType
     {
         WALKABLE,
         DROPABLE,
@@ -0,0 +1,328 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.BlockUtils;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Shared, read mostly snapshot of the pathfinding relevant block properties inside the loaded chunks of a colony.
+ * <p>
+ * The flags of a block are computed the first time a path job asks for them and are then shared by all path jobs of the colony,
+ * until a block change in the chunk section drops the section again.
+ * Sections are always looked up before the world is read, so a section removed by a block change never receives stale flags
+ * which are visible to later jobs.
+ * <p>
+ * A section stores one byte per block, an index into the palette of flag combinations seen by the snapshot.
+ * Only a few dozen combinations occur in practice, so 4 KiB per section hold what would otherwise take a short per block.
+ * Flags which depend on the entity, like ladders, are not part of the snapshot.
+ */
+public class ColonyBlockSnapshot
+{
+    /**
+     * Flag set on every computed entry, 0 means not computed yet.
+     */
+    public static final int FLAG_KNOWN            = 1;
+    public static final int FLAG_PASSABLE         = 1 << 1;
+    public static final int FLAG_PASSABLE_STATE   = 1 << 2;
+    public static final int FLAG_SURFACE_WALKABLE = 1 << 3;
+    public static final int FLAG_SURFACE_BLOCKED  = 1 << 4;
+    public static final int FLAG_LIQUID           = 1 << 5;
+    public static final int FLAG_WATER            = 1 << 6;
+    public static final int FLAG_AIR              = 1 << 7;
+    public static final int FLAG_LOW_COLLISION    = 1 << 8;
+    public static final int FLAG_PATH_BLOCK       = 1 << 9;
+
+    /**
+     * Amount of flag combinations the palette can hold, index 0 marks entries which are not computed yet.
+     */
+    private static final int PALETTE_SIZE = 256;
+
+    /**
+     * Size and shifts of a chunk section.
+     */
+    private static final int SECTION_SIZE  = 16;
+    private static final int SECTION_MASK  = 15;
+    private static final int SECTION_SHIFT = 4;
+    private static final int MAX_SECTION   = 15;
+
+    /**
+     * Bits of the section key.
+     */
+    private static final int  SECTION_Y_BITS = 4;
+    private static final int  CHUNK_Z_SHIFT  = 32;
+    private static final long CHUNK_X_MASK   = 0xFFFFFFFL;
+
+    /**
+     * The loaded chunks of the colony, the only ones which are cached.
+     */
+    private final Set<Long> chunks = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The cached sections by section key.
+     */
+    private final Map<Long, byte[]> sections = new ConcurrentHashMap<>();
+
+    /**
+     * The flag combinations by palette index.
+     */
+    private final AtomicIntegerArray palette = new AtomicIntegerArray(PALETTE_SIZE);
+
+    /**
+     * The palette index by flag combination.
+     */
+    private final Map<Integer, Integer> paletteIndices = new ConcurrentHashMap<>();
+
+    /**
+     * The amount of used palette indices, including the unused index 0.
+     */
+    private final AtomicInteger paletteCount = new AtomicInteger(1);
+
+    /**
+     * Version per chunk, the modification counter of the whole snapshot at the last block change in the chunk.
+     */
+    private final Map<Long, Integer> chunkVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Modification counter of the whole snapshot, increased on every block change or chunk removal.
+     */
+    private final AtomicInteger modificationCount = new AtomicInteger();
+
+    /**
+     * Add a loaded chunk of the colony.
+     *
+     * @param chunkPos the chunk as long.
+     */
+    public void addChunk(final long chunkPos)
+    {
+        chunks.add(chunkPos);
+    }
+
+    /**
+     * Remove an unloaded or unclaimed chunk and all its cached sections.
+     *
+     * @param chunkPos the chunk as long.
+     */
+    public void removeChunk(final long chunkPos)
+    {
+        chunks.remove(chunkPos);
+        final int chunkX = (int) chunkPos;
+        final int chunkZ = (int) (chunkPos >> CHUNK_Z_SHIFT);
+        for (int sectionY = 0; sectionY <= MAX_SECTION; sectionY++)
+        {
+            sections.remove(sectionKey(chunkX, sectionY, chunkZ));
+        }
+        chunkVersions.put(chunkPos, modificationCount.incrementAndGet());
+    }
+
+    /**
+     * Drop the cached section of a changed block, called on the main thread after the block changed.
+     *
+     * @param pos the changed position.
+     */
+    public void invalidate(@NotNull final BlockPos pos)
+    {
+        final int chunkX = pos.getX() >> SECTION_SHIFT;
+        final int chunkZ = pos.getZ() >> SECTION_SHIFT;
+        sections.remove(sectionKey(chunkX, pos.getY() >> SECTION_SHIFT, chunkZ));
+        chunkVersions.put(ChunkPos.asLong(chunkX, chunkZ), modificationCount.incrementAndGet());
+    }
+
+    /**
+     * Check if a chunk is covered by the snapshot, only changes in covered chunks are tracked.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return true if so.
+     */
+    public boolean isChunkCovered(final int chunkX, final int chunkZ)
+    {
+        return chunks.contains(ChunkPos.asLong(chunkX, chunkZ));
+    }
+
+    /**
+     * Get the modification counter of the whole snapshot.
+     *
+     * @return the counter, changes whenever any covered block changed.
+     */
+    public int getModificationCount()
+    {
+        return modificationCount.get();
+    }
+
+    /**
+     * Get the version of a chunk.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the modification counter of the snapshot at the last change of the chunk, so it changes whenever a block in the chunk changed
+     * and is larger than any {@link #getModificationCount()} taken before that change.
+     */
+    public int getChunkVersion(final int chunkX, final int chunkZ)
+    {
+        return chunkVersions.getOrDefault(ChunkPos.asLong(chunkX, chunkZ), 0);
+    }
+
+    /**
+     * Get the amount of cached sections.
+     *
+     * @return the amount.
+     */
+    public int getSectionCount()
+    {
+        return sections.size();
+    }
+
+    /**
+     * Get the flags of a block, computing them from the world if not known yet.
+     *
+     * @param world the world to read from, only used if the flags are not known yet.
+     *              The computed flags are shared, so it has to return the real block at the position, not a placeholder.
+     * @param pos   the position.
+     * @return the flags or 0 if the position is outside of the loaded chunks of the colony.
+     */
+    public int getFlags(@NotNull final IBlockAccess world, @NotNull final BlockPos pos)
+    {
+        final int y = pos.getY();
+        if (y < 0 || y >= (MAX_SECTION + 1) * SECTION_SIZE)
+        {
+            return 0;
+        }
+
+        final int chunkX = pos.getX() >> SECTION_SHIFT;
+        final int chunkZ = pos.getZ() >> SECTION_SHIFT;
+        if (!chunks.contains(ChunkPos.asLong(chunkX, chunkZ)))
+        {
+            return 0;
+        }
+
+        final byte[] section = sections.computeIfAbsent(sectionKey(chunkX, y >> SECTION_SHIFT, chunkZ), key -> new byte[SECTION_SIZE * SECTION_SIZE * SECTION_SIZE]);
+        final int index = ((y & SECTION_MASK) << (SECTION_SHIFT * 2)) | ((pos.getZ() & SECTION_MASK) << SECTION_SHIFT) | (pos.getX() & SECTION_MASK);
+
+        // A palette entry which is not visible to this thread yet reads as 0 and is simply computed again.
+        final int known = palette.get(section[index] & 0xFF);
+        if (known != 0)
+        {
+            return known;
+        }
+
+        // Concurrent workers may compute the same entry, they will write the same value.
+        final int flags = computeFlags(world, pos);
+        section[index] = (byte) getPaletteIndex(flags);
+        return flags;
+    }
+
+    /**
+     * Get the palette index of a flag combination, adding it if it is new.
+     *
+     * @param flags the flags.
+     * @return the index, or 0 if the palette is full and the flags are not stored.
+     */
+    private int getPaletteIndex(final int flags)
+    {
+        final Integer index = paletteIndices.get(flags);
+        if (index != null)
+        {
+            return index;
+        }
+
+        synchronized (paletteIndices)
+        {
+            final Integer existing = paletteIndices.get(flags);
+            if (existing != null)
+            {
+                return existing;
+            }
+            if (paletteCount.get() >= PALETTE_SIZE)
+            {
+                return 0;
+            }
+
+            final int newIndex = paletteCount.getAndIncrement();
+            palette.set(newIndex, flags);
+            paletteIndices.put(flags, newIndex);
+            return newIndex;
+        }
+    }
+
+    /**
+     * Compute the flags of a block, using the base rules of the {@link AbstractPathJob}.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the flags.
+     */
+    private static int computeFlags(@NotNull final IBlockAccess world, @NotNull final BlockPos pos)
+    {
+        final IBlockState state = world.getBlockState(pos);
+        final Material material = state.getMaterial();
+        int flags = FLAG_KNOWN;
+
+        final boolean passableState = AbstractPathJob.isPassableBlock(state);
+        if (passableState)
+        {
+            flags |= FLAG_PASSABLE_STATE;
+        }
+        if (passableState || state.getBlock().isPassable(world, pos))
+        {
+            flags |= FLAG_PASSABLE;
+        }
+
+        final AbstractPathJob.SurfaceType surfaceType = AbstractPathJob.getSurfaceType(world, state, pos);
+        if (surfaceType == AbstractPathJob.SurfaceType.WALKABLE)
+        {
+            flags |= FLAG_SURFACE_WALKABLE;
+        }
+        else if (surfaceType == AbstractPathJob.SurfaceType.NOT_PASSABLE)
+        {
+            flags |= FLAG_SURFACE_BLOCKED;
+        }
+
+        if (material.isLiquid())
+        {
+            flags |= FLAG_LIQUID;
+        }
+        if (material == Material.WATER)
+        {
+            flags |= FLAG_WATER;
+        }
+        if (material == Material.AIR)
+        {
+            flags |= FLAG_AIR;
+        }
+
+        final AxisAlignedBB bb = state.getCollisionBoundingBox(world, pos);
+        if (bb != null && bb.maxY < 1)
+        {
+            flags |= FLAG_LOW_COLLISION;
+        }
+        if (BlockUtils.isPathBlock(state.getBlock()))
+        {
+            flags |= FLAG_PATH_BLOCK;
+        }
+        return flags;
+    }
+
+    /**
+     * Pack a section position into a long.
+     *
+     * @param chunkX   the chunk x.
+     * @param sectionY the section y.
+     * @param chunkZ   the chunk z.
+     * @return the key.
+     */
+    private static long sectionKey(final int chunkX, final int sectionY, final int chunkZ)
+    {
+        return ((long) chunkZ << CHUNK_Z_SHIFT) | ((chunkX & CHUNK_X_MASK) << SECTION_Y_BITS) | (sectionY & SECTION_MASK);
+    }
+}
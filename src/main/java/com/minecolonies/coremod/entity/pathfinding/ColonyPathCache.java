@@ -0,0 +1,327 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Least recently used cache of finished paths of a colony, keyed on the start and end block of the path.
+ * <p>
+ * A cached path remembers the modification counter of every chunk it crosses in the {@link ColonyBlockSnapshot}
+ * and is dropped as soon as one of them changed, so only paths through loaded colony chunks are cached.
+ */
+public class ColonyPathCache
+{
+    /**
+     * Max amount of cached paths per colony.
+     */
+    private static final int MAX_CACHED_PATHS = 256;
+
+    /**
+     * Hits and misses of all colonies, for the statistics command.
+     */
+    private static final AtomicLong totalHits   = new AtomicLong();
+    private static final AtomicLong totalMisses = new AtomicLong();
+
+    /**
+     * The block snapshot the chunk versions are taken from.
+     */
+    @NotNull
+    private final ColonyBlockSnapshot snapshot;
+
+    /**
+     * The cached paths, in access order.
+     */
+    private final Map<PathKey, CachedPath> paths = new LinkedHashMap<PathKey, CachedPath>(MAX_CACHED_PATHS, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<PathKey, CachedPath> eldest)
+        {
+            return size() > MAX_CACHED_PATHS;
+        }
+    };
+
+    /**
+     * Hits and misses of this colony.
+     */
+    private long hits   = 0;
+    private long misses = 0;
+
+    /**
+     * Create the path cache of a colony.
+     *
+     * @param snapshot the block snapshot of the colony.
+     */
+    public ColonyPathCache(@NotNull final ColonyBlockSnapshot snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Get a copy of a cached path, if it is still valid.
+     *
+     * @param start the start position, as returned by {@link AbstractPathJob#prepareStart}.
+     * @param end   the end position.
+     * @return a fresh copy of the path or null if not cached.
+     */
+    @Nullable
+    public synchronized Path getPath(@NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final PathKey key = new PathKey(start.toLong(), end.toLong());
+        final CachedPath cachedPath = paths.get(key);
+        if (cachedPath == null || !cachedPath.isValid(snapshot))
+        {
+            if (cachedPath != null)
+            {
+                paths.remove(key);
+            }
+            misses++;
+            totalMisses.incrementAndGet();
+            return null;
+        }
+
+        hits++;
+        totalHits.incrementAndGet();
+        return cachedPath.copy();
+    }
+
+    /**
+     * Cache a path which reached its destination.
+     *
+     * @param start             the start position of the path job.
+     * @param end               the end position of the path job.
+     * @param path              the path.
+     * @param modificationCount the modification count of the snapshot when the path job was started.
+     */
+    public synchronized void addPath(@NotNull final BlockPos start, @NotNull final BlockPos end, @NotNull final Path path, final int modificationCount)
+    {
+        if (path.getCurrentPathLength() == 0)
+        {
+            return;
+        }
+
+        final CachedPath cachedPath = CachedPath.create(path, snapshot, modificationCount);
+        if (cachedPath != null)
+        {
+            paths.put(new PathKey(start.toLong(), end.toLong()), cachedPath);
+        }
+    }
+
+    /**
+     * Get the modification count of the block snapshot, to be passed to {@link #addPath} once the path job finished.
+     *
+     * @return the count.
+     */
+    public int getModificationCount()
+    {
+        return snapshot.getModificationCount();
+    }
+
+    /**
+     * Get the amount of cached paths.
+     *
+     * @return the amount.
+     */
+    public synchronized int size()
+    {
+        return paths.size();
+    }
+
+    /**
+     * Get the amount of cache hits of this colony.
+     *
+     * @return the amount.
+     */
+    public synchronized long getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * Get the amount of cache misses of this colony.
+     *
+     * @return the amount.
+     */
+    public synchronized long getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * Get a short summary of the path cache hits and misses of all colonies.
+     *
+     * @return the summary.
+     */
+    public static String getStatistics()
+    {
+        final long hitCount = totalHits.get();
+        final long lookups = hitCount + totalMisses.get();
+        return String.format("Path cache: %d hits, %d misses, hit rate %d%%", hitCount, lookups - hitCount, lookups == 0 ? 0 : hitCount * 100 / lookups);
+    }
+
+    /**
+     * Key of a cached path.
+     */
+    private static final class PathKey
+    {
+        private final long start;
+        private final long end;
+
+        private PathKey(final long start, final long end)
+        {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (!(o instanceof PathKey))
+            {
+                return false;
+            }
+            final PathKey other = (PathKey) o;
+            return start == other.start && end == other.end;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * Long.hashCode(start) + Long.hashCode(end);
+        }
+    }
+
+    /**
+     * A cached path with the versions of the chunks it crosses.
+     */
+    private static final class CachedPath
+    {
+        private final PathPointExtended[] points;
+        private final long[]              chunks;
+        private final int[]               versions;
+
+        private CachedPath(final PathPointExtended[] points, final long[] chunks, final int[] versions)
+        {
+            this.points = points;
+            this.chunks = chunks;
+            this.versions = versions;
+        }
+
+        /**
+         * Create a cached path.
+         *
+         * @param path              the path to cache.
+         * @param snapshot          the snapshot to take the chunk versions from.
+         * @param modificationCount the modification count of the snapshot when the path job was started.
+         * @return the cached path or null if it leaves the loaded colony chunks or one of its chunks changed while it was searched.
+         */
+        @Nullable
+        private static CachedPath create(@NotNull final Path path, @NotNull final ColonyBlockSnapshot snapshot, final int modificationCount)
+        {
+            final int length = path.getCurrentPathLength();
+            final PathPointExtended[] points = new PathPointExtended[length];
+            final long[] chunkBuffer = new long[length];
+            int chunkCount = 0;
+
+            for (int i = 0; i < length; i++)
+            {
+                final PathPoint point = path.getPathPointFromIndex(i);
+                points[i] = copyPoint(point);
+
+                final int chunkX = point.x >> 4;
+                final int chunkZ = point.z >> 4;
+                final long chunk = ChunkPos.asLong(chunkX, chunkZ);
+                // Paths are continuous, so the chunk usually matches the one of the previous point.
+                if (chunkCount > 0 && chunkBuffer[chunkCount - 1] == chunk)
+                {
+                    continue;
+                }
+                if (!snapshot.isChunkCovered(chunkX, chunkZ))
+                {
+                    return null;
+                }
+                chunkBuffer[chunkCount++] = chunk;
+            }
+
+            final long[] chunks = new long[chunkCount];
+            final int[] versions = new int[chunkCount];
+            for (int i = 0; i < chunkCount; i++)
+            {
+                chunks[i] = chunkBuffer[i];
+                versions[i] = snapshot.getChunkVersion((int) chunkBuffer[i], (int) (chunkBuffer[i] >> 32));
+
+                // The chunk changed while the path was searched, the path might already be stale.
+                if (versions[i] > modificationCount)
+                {
+                    return null;
+                }
+            }
+            return new CachedPath(points, chunks, versions);
+        }
+
+        /**
+         * Check if none of the crossed chunks changed since the path was cached.
+         *
+         * @param snapshot the snapshot to check against.
+         * @return true if still valid.
+         */
+        private boolean isValid(@NotNull final ColonyBlockSnapshot snapshot)
+        {
+            for (int i = 0; i < chunks.length; i++)
+            {
+                final int chunkX = (int) chunks[i];
+                final int chunkZ = (int) (chunks[i] >> 32);
+                if (!snapshot.isChunkCovered(chunkX, chunkZ) || snapshot.getChunkVersion(chunkX, chunkZ) != versions[i])
+                {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Create a fresh path from the cached points, paths are mutated while they are followed.
+         *
+         * @return the new path.
+         */
+        @NotNull
+        private Path copy()
+        {
+            final PathPointExtended[] copy = new PathPointExtended[points.length];
+            for (int i = 0; i < points.length; i++)
+            {
+                copy[i] = copyPoint(points[i]);
+            }
+            return new Path(copy);
+        }
+
+        /**
+         * Copy a single path point, keeping the ladder information.
+         *
+         * @param point the point.
+         * @return the copy.
+         */
+        @NotNull
+        private static PathPointExtended copyPoint(@NotNull final PathPoint point)
+        {
+            final PathPointExtended copy = new PathPointExtended(new BlockPos(point.x, point.y, point.z));
+            if (point instanceof PathPointExtended)
+            {
+                copy.setOnLadder(((PathPointExtended) point).isOnLadder());
+                copy.setLadderFacing(((PathPointExtended) point).getLadderFacing());
+            }
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.block.material.Material;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IBlockAccess;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coarse graph of the loaded colony chunks, used to split long trips into short block level searches.
+ * <p>
+ * Two neighbouring chunks are connected if there is at least one portal on their shared border, a position a citizen can stand on
+ * with a standable position at most one block higher or lower right across the border.
+ * The portals of a border are computed the first time a path job crosses it and are recomputed once one of the two chunks changed
+ * according to the modification counters of the {@link ColonyBlockSnapshot}.
+ * Standable positions are checked through the snapshot, so the route only uses chunks which lie completely inside the world cache of the job.
+ */
+public class ColonyRegionGraph
+{
+    /**
+     * Width of a chunk region and the shift to get from block to chunk coordinates.
+     */
+    private static final int REGION_SIZE  = 16;
+    private static final int REGION_SHIFT = 4;
+
+    /**
+     * Highest y level scanned for the surface.
+     */
+    private static final int MAX_Y = 255;
+
+    /**
+     * Depth below the highest block of a column in which standable positions are searched, covers multi floor buildings.
+     */
+    private static final int SURFACE_DEPTH = 24;
+
+    /**
+     * Max amount of regions expanded by a single region search.
+     */
+    private static final int MAX_REGIONS_VISITED = 512;
+
+    /**
+     * The block snapshot the chunks and their modification counters are taken from.
+     */
+    @NotNull
+    private final ColonyBlockSnapshot snapshot;
+
+    /**
+     * Portals between a chunk and its east neighbour, by chunk.
+     */
+    private final Map<Long, Border> eastBorders = new ConcurrentHashMap<>();
+
+    /**
+     * Portals between a chunk and its south neighbour, by chunk.
+     */
+    private final Map<Long, Border> southBorders = new ConcurrentHashMap<>();
+
+    /**
+     * Create the region graph of a colony.
+     *
+     * @param snapshot the block snapshot of the colony.
+     */
+    public ColonyRegionGraph(@NotNull final ColonyBlockSnapshot snapshot)
+    {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Get the amount of computed borders.
+     *
+     * @return the amount.
+     */
+    public int getBorderCount()
+    {
+        return eastBorders.size() + southBorders.size();
+    }
+
+    /**
+     * Search the chunk route from start to end and pick a portal for every border crossed on the way.
+     *
+     * @param world   the world cache of the job, to compute missing portals in.
+     * @param start   the start position.
+     * @param end     the end position.
+     * @param minPos  the lowest corner of the area covered by the world cache.
+     * @param maxPos  the highest corner of the area covered by the world cache.
+     * @return the portals to path through in order, an empty list if start and end share a chunk, or null if there is no route.
+     */
+    @Nullable
+    public List<BlockPos> findWaypoints(
+      @NotNull final IBlockAccess world,
+      @NotNull final BlockPos start,
+      @NotNull final BlockPos end,
+      @NotNull final BlockPos minPos,
+      @NotNull final BlockPos maxPos)
+    {
+        final int startX = start.getX() >> REGION_SHIFT;
+        final int startZ = start.getZ() >> REGION_SHIFT;
+        final int endX = end.getX() >> REGION_SHIFT;
+        final int endZ = end.getZ() >> REGION_SHIFT;
+
+        // Only chunks the world cache covers completely, it reads air outside of its area.
+        final int minX = (minPos.getX() + REGION_SIZE - 1) >> REGION_SHIFT;
+        final int minZ = (minPos.getZ() + REGION_SIZE - 1) >> REGION_SHIFT;
+        final int maxX = ((maxPos.getX() + 1) >> REGION_SHIFT) - 1;
+        final int maxZ = ((maxPos.getZ() + 1) >> REGION_SHIFT) - 1;
+
+        if (startX < minX || startX > maxX || startZ < minZ || startZ > maxZ
+              || endX < minX || endX > maxX || endZ < minZ || endZ > maxZ
+              || !snapshot.isChunkCovered(startX, startZ) || !snapshot.isChunkCovered(endX, endZ))
+        {
+            return null;
+        }
+
+        final List<Long> route = findRoute(world, startX, startZ, endX, endZ, minX, minZ, maxX, maxZ);
+        if (route == null)
+        {
+            return null;
+        }
+
+        final List<BlockPos> waypoints = new ArrayList<>();
+        BlockPos previous = start;
+        for (int i = 1; i < route.size(); i++)
+        {
+            final BlockPos portal = closestPortal(getBorder(world, route.get(i - 1), route.get(i)), previous, end);
+            waypoints.add(portal);
+            previous = portal;
+        }
+        return waypoints;
+    }
+
+    /**
+     * A* over the chunks, every step costs the width of a chunk.
+     *
+     * @return the chunks from start to end or null if there is no route.
+     */
+    @Nullable
+    private List<Long> findRoute(
+      @NotNull final IBlockAccess world,
+      final int startX,
+      final int startZ,
+      final int endX,
+      final int endZ,
+      final int minX,
+      final int minZ,
+      final int maxX,
+      final int maxZ)
+    {
+        final long startChunk = ChunkPos.asLong(startX, startZ);
+        final long endChunk = ChunkPos.asLong(endX, endZ);
+
+        final Map<Long, Long> parents = new HashMap<>();
+        final Map<Long, Integer> costs = new HashMap<>();
+        final PriorityQueue<long[]> open = new PriorityQueue<>(Comparator.comparingLong(entry -> entry[1]));
+
+        costs.put(startChunk, 0);
+        open.add(new long[] {startChunk, heuristic(startX, startZ, endX, endZ)});
+
+        int visited = 0;
+        while (!open.isEmpty() && visited < MAX_REGIONS_VISITED)
+        {
+            final long chunk = open.poll()[0];
+            if (chunk == endChunk)
+            {
+                final LinkedList<Long> route = new LinkedList<>();
+                for (Long current = chunk; current != null; current = parents.get(current))
+                {
+                    route.addFirst(current);
+                }
+                return route;
+            }
+            visited++;
+
+            final int chunkX = getX(chunk);
+            final int chunkZ = getZ(chunk);
+            final int cost = costs.get(chunk) + REGION_SIZE;
+            for (int side = 0; side < 4; side++)
+            {
+                final int nextX = chunkX + (side == 0 ? 1 : (side == 1 ? -1 : 0));
+                final int nextZ = chunkZ + (side == 2 ? 1 : (side == 3 ? -1 : 0));
+                if (nextX < minX || nextX > maxX || nextZ < minZ || nextZ > maxZ || !snapshot.isChunkCovered(nextX, nextZ))
+                {
+                    continue;
+                }
+
+                final long next = ChunkPos.asLong(nextX, nextZ);
+                final Integer knownCost = costs.get(next);
+                if ((knownCost != null && knownCost <= cost) || getBorder(world, chunk, next).portals.length == 0)
+                {
+                    continue;
+                }
+
+                costs.put(next, cost);
+                parents.put(next, chunk);
+                open.add(new long[] {next, cost + heuristic(nextX, nextZ, endX, endZ)});
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Manhattan distance between two chunks in blocks.
+     */
+    private static long heuristic(final int chunkX, final int chunkZ, final int endX, final int endZ)
+    {
+        return (long) (Math.abs(endX - chunkX) + Math.abs(endZ - chunkZ)) * REGION_SIZE;
+    }
+
+    /**
+     * Get the portal minimizing the distance from the previous waypoint over the portal to the end.
+     */
+    @NotNull
+    private static BlockPos closestPortal(@NotNull final Border border, @NotNull final BlockPos previous, @NotNull final BlockPos end)
+    {
+        BlockPos best = border.portals[0];
+        double bestDistance = Double.MAX_VALUE;
+        for (final BlockPos portal : border.portals)
+        {
+            final double distance = Math.sqrt(portal.distanceSq(previous)) + Math.sqrt(portal.distanceSq(end));
+            if (distance < bestDistance)
+            {
+                best = portal;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Get the up to date border between two neighbouring chunks, computing it if missing or outdated.
+     *
+     * @param world the world to compute it in.
+     * @param from  one of the chunks.
+     * @param to    the other chunk.
+     * @return the border.
+     */
+    @NotNull
+    private Border getBorder(@NotNull final IBlockAccess world, final long from, final long to)
+    {
+        final int fromX = getX(from);
+        final int fromZ = getZ(from);
+        final int toX = getX(to);
+        final int toZ = getZ(to);
+
+        // Every border is stored once, at the chunk west or north of it.
+        final boolean east = fromZ == toZ;
+        final int chunkX = Math.min(fromX, toX);
+        final int chunkZ = Math.min(fromZ, toZ);
+        final int otherX = east ? chunkX + 1 : chunkX;
+        final int otherZ = east ? chunkZ : chunkZ + 1;
+
+        final int version = snapshot.getChunkVersion(chunkX, chunkZ);
+        final int otherVersion = snapshot.getChunkVersion(otherX, otherZ);
+
+        final Map<Long, Border> borders = east ? eastBorders : southBorders;
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        final Border border = borders.get(key);
+        if (border != null && border.version == version && border.otherVersion == otherVersion)
+        {
+            return border;
+        }
+
+        final Border newBorder = new Border(computePortals(world, chunkX, chunkZ, east), version, otherVersion);
+        borders.put(key, newBorder);
+        return newBorder;
+    }
+
+    /**
+     * Compute the portals on the east or south border of a chunk.
+     * Neighbouring portals at the same height are merged into the one in their middle.
+     */
+    @NotNull
+    private BlockPos[] computePortals(@NotNull final IBlockAccess world, final int chunkX, final int chunkZ, final boolean east)
+    {
+        final List<BlockPos> portals = new ArrayList<>();
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+
+        int runStart = -1;
+        int runY = -1;
+        for (int offset = 0; offset <= REGION_SIZE; offset++)
+        {
+            int y = -1;
+            if (offset < REGION_SIZE)
+            {
+                final int x = east ? (chunkX << REGION_SHIFT) + REGION_SIZE - 1 : (chunkX << REGION_SHIFT) + offset;
+                final int z = east ? (chunkZ << REGION_SHIFT) + offset : (chunkZ << REGION_SHIFT) + REGION_SIZE - 1;
+                y = findCrossing(world, pos, x, z, east ? x + 1 : x, east ? z : z + 1);
+            }
+
+            if (runStart >= 0 && y != runY)
+            {
+                final int middle = (runStart + offset - 1) / 2;
+                portals.add(east
+                              ? new BlockPos((chunkX << REGION_SHIFT) + REGION_SIZE - 1, runY, (chunkZ << REGION_SHIFT) + middle)
+                              : new BlockPos((chunkX << REGION_SHIFT) + middle, runY, (chunkZ << REGION_SHIFT) + REGION_SIZE - 1));
+                runStart = -1;
+            }
+            if (y >= 0 && runStart < 0)
+            {
+                runStart = offset;
+                runY = y;
+            }
+        }
+        return portals.toArray(new BlockPos[0]);
+    }
+
+    /**
+     * Find the highest standable position of a column from which the neighbouring column can be entered.
+     *
+     * @return the y level or -1 if none.
+     */
+    private int findCrossing(@NotNull final IBlockAccess world, @NotNull final BlockPos.MutableBlockPos pos, final int x, final int z, final int otherX, final int otherZ)
+    {
+        final int top = findTop(world, pos, x, z);
+        final int otherTop = findTop(world, pos, otherX, otherZ);
+        if (top < 0 || otherTop < 0)
+        {
+            return -1;
+        }
+
+        for (int y = top + 1; y > top - SURFACE_DEPTH && y > 0; y--)
+        {
+            if (isStandable(world, pos, x, y, z)
+                  && (isStandable(world, pos, otherX, y, otherZ) || isStandable(world, pos, otherX, y + 1, otherZ) || isStandable(world, pos, otherX, y - 1, otherZ)))
+            {
+                return y;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the highest non air block of a column.
+     *
+     * @return the y level or -1 if the column is empty.
+     */
+    private static int findTop(@NotNull final IBlockAccess world, @NotNull final BlockPos.MutableBlockPos pos, final int x, final int z)
+    {
+        for (int y = MAX_Y; y >= 0; y--)
+        {
+            if (world.getBlockState(pos.setPos(x, y, z)).getMaterial() != Material.AIR)
+            {
+                return y;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check if a citizen can stand at a position, using the flags of the shared snapshot.
+     */
+    private boolean isStandable(@NotNull final IBlockAccess world, @NotNull final BlockPos.MutableBlockPos pos, final int x, final int y, final int z)
+    {
+        if (y <= 0 || y >= MAX_Y)
+        {
+            return false;
+        }
+        return (snapshot.getFlags(world, pos.setPos(x, y - 1, z)) & ColonyBlockSnapshot.FLAG_SURFACE_WALKABLE) != 0
+                 && (snapshot.getFlags(world, pos.setPos(x, y, z)) & ColonyBlockSnapshot.FLAG_PASSABLE) != 0
+                 && (snapshot.getFlags(world, pos.setPos(x, y + 1, z)) & ColonyBlockSnapshot.FLAG_PASSABLE) != 0;
+    }
+
+    private static int getX(final long chunk)
+    {
+        return (int) chunk;
+    }
+
+    private static int getZ(final long chunk)
+    {
+        return (int) (chunk >> 32);
+    }
+
+    /**
+     * The portals of a border with the modification counters of both chunks they were computed for.
+     */
+    private static final class Border
+    {
+        private final BlockPos[] portals;
+        private final int        version;
+        private final int        otherVersion;
+
+        private Border(final BlockPos[] portals, final int version, final int otherVersion)
+        {
+            this.portals = portals;
+            this.version = version;
+            this.otherVersion = otherVersion;
+        }
+    }
+}
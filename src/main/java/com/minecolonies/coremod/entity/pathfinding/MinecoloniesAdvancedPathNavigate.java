@@ -9,6 +9,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
 import net.minecraft.pathfinding.Path;
@@ -24,6 +25,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -49,6 +51,19 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Nullable
     private PathResult pathResult;
 
+    /**
+     * Start and end of the calculated path which is added to the path cache of the colony once it is done, null if it isn't cached.
+     */
+    @Nullable
+    private BlockPos cacheStart;
+    @Nullable
+    private BlockPos cacheEnd;
+
+    /**
+     * Modification count of the colony block snapshot when the cached path job was started.
+     */
+    private int cacheModificationCount;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -88,9 +103,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     {
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
 
-        return setPathJob(
-          new PathJobMoveAwayFromLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, avoid, (int) range, (int) getPathSearchRange(), ourEntity),
-          null, speed);
+        final AbstractPathJob job =
+          new PathJobMoveAwayFromLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, avoid, (int) range, (int) getPathSearchRange(), ourEntity);
+        // Moving away is fleeing or making room, don't let it wait behind regular jobs.
+        job.setPriority(PathJobPriority.HIGH);
+        return setPathJob(job, null, speed);
     }
 
     @Nullable
@@ -98,23 +115,82 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
       @NotNull final AbstractPathJob job,
       final BlockPos dest,
       final double speed)
+    {
+        if (!prepareNewPath(dest, speed))
+        {
+            return null;
+        }
+
+        calculationFuture = Pathfinding.enqueue(job);
+        pathResult = job.getResult();
+        return pathResult;
+    }
+
+    /**
+     * Use a path of the path cache of the colony instead of calculating it.
+     * The path is handed over like a finished path job on the next navigation update.
+     *
+     * @param path  the cached path.
+     * @param dest  the destination.
+     * @param speed the speed to walk.
+     * @return the PathResult.
+     */
+    @Nullable
+    private PathResult setCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        if (!prepareNewPath(dest, speed))
+        {
+            return null;
+        }
+
+        calculationFuture = CompletableFuture.completedFuture(path);
+        pathResult = new PathResult();
+        pathResult.setPathReachesDestination(true);
+        return pathResult;
+    }
+
+    /**
+     * Clear the current path and set up the destination and speed of a new one.
+     *
+     * @param dest  the destination, null if the path job has none.
+     * @param speed the speed to walk.
+     * @return false if the speed is not allowed.
+     */
+    private boolean prepareNewPath(@Nullable final BlockPos dest, final double speed)
     {
         clearPath();
 
         this.destination = dest;
         this.originalDestination = dest;
         this.walkSpeed = speed;
+        this.cacheStart = null;
+        this.cacheEnd = null;
 
         if (speed > MAX_SPEED_ALLOWED)
         {
             Log.getLogger().error("Tried to set a too high speed for entity:" + ourEntity, new Exception());
-            return null;
+            return false;
         }
+        return true;
+    }
 
-
-        calculationFuture = Pathfinding.enqueue(job);
-        pathResult = job.getResult();
-        return pathResult;
+    /**
+     * Get the path cache of the colony of the entity.
+     *
+     * @return the cache or null if the entity is not a citizen of a colony.
+     */
+    @Nullable
+    private ColonyPathCache getPathCache()
+    {
+        if (ourEntity instanceof AbstractEntityCitizen)
+        {
+            final IColony colony = ((AbstractEntityCitizen) ourEntity).getCitizenColonyHandler().getColony();
+            if (colony instanceof Colony)
+            {
+                return ((Colony) colony).getPathCache();
+            }
+        }
+        return null;
     }
 
     @Override
@@ -168,6 +244,22 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
      */
     @Nullable
     public PathResult moveToXYZ(final double x, final double y, final double z, final double speed)
+    {
+        return moveToXYZ(x, y, z, speed, PathJobPriority.NORMAL);
+    }
+
+    /**
+     * Try to move to a certain position.
+     *
+     * @param x        the x target.
+     * @param y        the y target.
+     * @param z        the z target.
+     * @param speed    the speed to walk.
+     * @param priority the priority the path job is scheduled with.
+     * @return the PathResult.
+     */
+    @Nullable
+    private PathResult moveToXYZ(final double x, final double y, final double z, final double speed, @NotNull final PathJobPriority priority)
     {
         final int newX = MathHelper.floor(x);
         final int newY = (int) y;
@@ -187,9 +279,27 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
-          new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
-          dest, speed);
+        final ColonyPathCache pathCache = getPathCache();
+        if (pathCache != null)
+        {
+            final Path cachedPath = pathCache.getPath(start, dest);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+        }
+
+        final AbstractPathJob job = new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity);
+        job.setPriority(priority);
+        final int modificationCount = pathCache == null ? 0 : pathCache.getModificationCount();
+        final PathResult result = setPathJob(job, dest, speed);
+        if (result != null && pathCache != null)
+        {
+            cacheStart = start;
+            cacheEnd = dest;
+            cacheModificationCount = modificationCount;
+        }
+        return result;
     }
 
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speed)
@@ -263,6 +373,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
     /**
      * Deprecated - try to use BlockPos instead
+     * Only used by the wandering and idling AIs, so it is scheduled in the lowest lane.
      */
     @Override
     public boolean tryMoveToXYZ(final double x, final double y, final double z, final double speed)
@@ -272,14 +383,16 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return false;
         }
 
-        moveToXYZ(x, y, z, speed);
+        moveToXYZ(x, y, z, speed, PathJobPriority.LOW);
         return true;
     }
 
     @Override
     public boolean tryMoveToEntityLiving(@NotNull final Entity e, final double speed)
     {
-        return tryMoveToBlockPos(e.getPosition(), speed);
+        final BlockPos pos = e.getPosition();
+        moveToXYZ(pos.getX(), pos.getY(), pos.getZ(), speed, PathJobPriority.HIGH);
+        return true;
     }
 
     // Removes stupid vanilla stuff, causing our pathpoints to occasionally be replaced by vanilla ones.
@@ -343,6 +456,17 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return true;
         }
 
+        if (cacheStart != null && cacheEnd != null && pathResult.isPathReachingDestination())
+        {
+            final ColonyPathCache pathCache = getPathCache();
+            if (pathCache != null)
+            {
+                pathCache.addPath(cacheStart, cacheEnd, calculationFuture.get(), cacheModificationCount);
+            }
+        }
+        cacheStart = null;
+        cacheEnd = null;
+
         setPath(calculationFuture.get(), getSpeed());
 
         pathResult.setPathLength(getPath().getCurrentPathLength());
@@ -615,7 +739,8 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Nullable
     public PathResult moveToEntityLiving(@NotNull final Entity e, final double speed)
     {
-        return moveToXYZ(e.posX, e.posY, e.posZ, speed);
+        // Following an entity is mostly chasing an attack target.
+        return moveToXYZ(e.posX, e.posY, e.posZ, speed, PathJobPriority.HIGH);
     }
 
     /**
@@ -18,14 +18,15 @@ public class Node implements Comparable<Node>
 
     /**
      * The position of the node.
+     * Only reassigned when the node is reused from the {@link NodePool}.
      */
     @NotNull
-    public final BlockPos pos;
+    public BlockPos pos;
 
     /**
      * The hash of the node.
      */
-    private final int hash;
+    private int hash;
 
     /**
      * The parent of the node (Node preceding this node).
@@ -81,6 +82,11 @@ public class Node implements Comparable<Node>
      */
     private boolean swimming = false;
 
+    /**
+     * Index of the node in the open {@link NodeHeap}, -1 if not in it.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -102,6 +108,21 @@ public class Node implements Comparable<Node>
      * @param score     node total score.
      */
     public Node(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        this.pos = pos;
+        init(parent, pos, cost, heuristic, score);
+    }
+
+    /**
+     * (Re)initialize the node, resets all state so a pooled node can be reused.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     */
+    void init(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
     {
         this.parent = parent;
         this.pos = pos;
@@ -110,6 +131,12 @@ public class Node implements Comparable<Node>
         this.heuristic = heuristic;
         this.score = score;
         this.hash = pos.getX() ^ ((pos.getZ() << HASH_A) | (pos.getZ() >> HASH_B)) ^ (pos.getY() << HASH_C);
+        this.counterAdded = 0;
+        this.counterVisited = 0;
+        this.closed = false;
+        this.ladder = false;
+        this.swimming = false;
+        this.heapIndex = -1;
     }
 
     @Override
@@ -314,6 +341,26 @@ public class Node implements Comparable<Node>
         this.heuristic = heuristic;
     }
 
+    /**
+     * Getter of the index in the open heap.
+     *
+     * @return the index or -1 if not in the heap.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the index in the open heap.
+     *
+     * @param heapIndex the index.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
+
     /**
      * Getter of the added counter.
      *
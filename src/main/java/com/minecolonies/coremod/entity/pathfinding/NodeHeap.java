@@ -0,0 +1,203 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Binary min heap of the open nodes, which stores the heap index in the node.
+ * This allows contains checks and decrease-key in O(log n) instead of removing and re-adding the node.
+ */
+public class NodeHeap
+{
+    /**
+     * Default initial capacity.
+     */
+    private static final int DEFAULT_CAPACITY = 500;
+
+    /**
+     * The heap array.
+     */
+    private Node[] heap;
+
+    /**
+     * Amount of nodes in the heap.
+     */
+    private int size;
+
+    /**
+     * Create a new heap with the default capacity.
+     */
+    public NodeHeap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new heap.
+     *
+     * @param capacity the initial capacity.
+     */
+    public NodeHeap(final int capacity)
+    {
+        heap = new Node[Math.max(1, capacity)];
+    }
+
+    /**
+     * Add a node to the heap.
+     *
+     * @param node the node, must not be in the heap already.
+     */
+    public void offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        heap[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Remove and return the node with the lowest score.
+     *
+     * @return the node or null if empty.
+     */
+    @Nullable
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+
+        final Node result = heap[0];
+        size--;
+        if (size > 0)
+        {
+            heap[0] = heap[size];
+            heap[0].setHeapIndex(0);
+            siftDown(0);
+        }
+        heap[size] = null;
+        result.setHeapIndex(-1);
+        return result;
+    }
+
+    /**
+     * Check if the node is in the heap.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final Node node)
+    {
+        final int index = node.getHeapIndex();
+        return index >= 0 && index < size && heap[index] == node;
+    }
+
+    /**
+     * Restore the heap order after the score of a node in the heap changed.
+     *
+     * @param node the changed node.
+     */
+    public void update(@NotNull final Node node)
+    {
+        siftDown(siftUp(node.getHeapIndex()));
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the amount of nodes in the heap.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Remove all nodes, keeps the capacity.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Move the node at the index up until its parent is smaller.
+     *
+     * @param startIndex the index.
+     * @return the final index of the node.
+     */
+    private int siftUp(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        while (index > 0)
+        {
+            final int parentIndex = (index - 1) >>> 1;
+            final Node parent = heap[parentIndex];
+            if (node.compareTo(parent) >= 0)
+            {
+                break;
+            }
+            heap[index] = parent;
+            parent.setHeapIndex(index);
+            index = parentIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+        return index;
+    }
+
+    /**
+     * Move the node at the index down until its children are bigger.
+     *
+     * @param startIndex the index.
+     */
+    private void siftDown(final int startIndex)
+    {
+        int index = startIndex;
+        final Node node = heap[index];
+        final int half = size >>> 1;
+        while (index < half)
+        {
+            int childIndex = (index << 1) + 1;
+            Node child = heap[childIndex];
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < size && heap[rightIndex].compareTo(child) < 0)
+            {
+                childIndex = rightIndex;
+                child = heap[rightIndex];
+            }
+            if (node.compareTo(child) <= 0)
+            {
+                break;
+            }
+            heap[index] = child;
+            child.setHeapIndex(index);
+            index = childIndex;
+        }
+        heap[index] = node;
+        node.setHeapIndex(index);
+    }
+}
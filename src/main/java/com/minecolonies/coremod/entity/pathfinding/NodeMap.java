@@ -0,0 +1,188 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Open addressing map from node key to node, avoids boxing the keys of the visited nodes.
+ */
+public class NodeMap
+{
+    /**
+     * Default initial capacity, has to be a power of two.
+     */
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Multiplier used to spread the node keys over the table.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * The keys, only valid where the value is not null.
+     */
+    private int[] keys;
+
+    /**
+     * The nodes, null marks an empty slot.
+     */
+    private Node[] values;
+
+    /**
+     * Amount of nodes in the map.
+     */
+    private int size;
+
+    /**
+     * Create a new map with the default capacity.
+     */
+    public NodeMap()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new map.
+     *
+     * @param expectedSize the amount of nodes expected.
+     */
+    public NodeMap(final int expectedSize)
+    {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity < expectedSize * 2)
+        {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Node[capacity];
+    }
+
+    /**
+     * Get the node for a key.
+     *
+     * @param key the node key.
+     * @return the node or null if none.
+     */
+    @Nullable
+    public Node get(final int key)
+    {
+        final int mask = values.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                return values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Put a node into the map, replacing the node of the same key.
+     *
+     * @param key  the node key.
+     * @param node the node.
+     */
+    public void put(final int key, @NotNull final Node node)
+    {
+        final int mask = values.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null)
+        {
+            if (keys[index] == key)
+            {
+                values[index] = node;
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        keys[index] = key;
+        values[index] = node;
+        size++;
+
+        // Keep the load factor at 0.5 so probe chains stay short.
+        if (size * 2 > values.length)
+        {
+            grow();
+        }
+    }
+
+    /**
+     * Get the amount of nodes in the map.
+     *
+     * @return the size.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Call the consumer for every node in the map.
+     *
+     * @param consumer the consumer.
+     */
+    public void forEachNode(@NotNull final Consumer<Node> consumer)
+    {
+        for (final Node node : values)
+        {
+            if (node != null)
+            {
+                consumer.accept(node);
+            }
+        }
+    }
+
+    /**
+     * Remove all nodes, keeps the capacity.
+     */
+    public void clear()
+    {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Double the capacity and rehash all entries.
+     */
+    private void grow()
+    {
+        final int[] oldKeys = keys;
+        final Node[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new Node[oldValues.length * 2];
+
+        final int mask = values.length - 1;
+        for (int i = 0; i < oldValues.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                int index = hash(oldKeys[i]) & mask;
+                while (values[index] != null)
+                {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    /**
+     * Spread the key bits, node keys of neighbours only differ in the lowest bits of each coordinate.
+     *
+     * @param key the key.
+     * @return the hash.
+     */
+    private static int hash(final int key)
+    {
+        final int h = key * HASH_MULTIPLIER;
+        return h ^ (h >>> 16);
+    }
+}
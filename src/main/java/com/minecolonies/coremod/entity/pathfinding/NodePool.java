@@ -0,0 +1,80 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Pool of nodes, one per pathfinding worker thread so no synchronization is needed.
+ */
+public final class NodePool
+{
+    /**
+     * Upper limit of nodes kept per thread, roughly the nodes added by a search at the default node limit.
+     */
+    private static final int MAX_POOLED_NODES = 20_000;
+
+    /**
+     * The pool of the current thread.
+     */
+    private static final ThreadLocal<NodePool> POOL = ThreadLocal.withInitial(NodePool::new);
+
+    /**
+     * The free nodes.
+     */
+    private final Deque<Node> freeNodes = new ArrayDeque<>();
+
+    private NodePool()
+    {
+        // Use get().
+    }
+
+    /**
+     * Get the pool of the current thread.
+     *
+     * @return the pool.
+     */
+    public static NodePool get()
+    {
+        return POOL.get();
+    }
+
+    /**
+     * Get a node from the pool or create a new one.
+     *
+     * @param parent    parent node arrives from.
+     * @param pos       coordinate of node.
+     * @param cost      node cost.
+     * @param heuristic heuristic estimate.
+     * @param score     node total score.
+     * @return the initialized node.
+     */
+    @NotNull
+    public Node obtain(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic, final double score)
+    {
+        final Node node = freeNodes.poll();
+        if (node == null)
+        {
+            return new Node(parent, pos, cost, heuristic, score);
+        }
+        node.init(parent, pos, cost, heuristic, score);
+        return node;
+    }
+
+    /**
+     * Return a node to the pool, it must not be referenced anymore.
+     *
+     * @param node the node.
+     */
+    public void release(@NotNull final Node node)
+    {
+        if (freeNodes.size() < MAX_POOLED_NODES)
+        {
+            node.parent = null;
+            freeNodes.push(node);
+        }
+    }
+}
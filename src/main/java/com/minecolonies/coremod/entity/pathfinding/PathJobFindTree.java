@@ -152,4 +152,11 @@ public class PathJobFindTree extends AbstractPathJob
     {
         return super.isPassable(block) || block.getMaterial() == Material.LEAVES || Compatibility.isDynamicTrunkShell(block.getBlock());
     }
+
+    @Override
+    protected boolean canUseBlockSnapshot()
+    {
+        // Leaves are passable for the lumberjack, which the shared snapshot doesn't know about.
+        return false;
+    }
 }
@@ -1,14 +1,20 @@
 package com.minecolonies.coremod.entity.pathfinding;
 
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Job that handles moving to a location.
  */
@@ -18,11 +24,31 @@ public class PathJobMoveToLocation extends AbstractPathJob
     // 1^2 + 1^2 + 1^2 + (epsilon of 0.1F)
     private static final float  DESTINATION_SLACK_ADJACENT = 3.1F;
     private static final double TIE_BREAKER                = 1.001D;
+
+    /**
+     * Min horizontal distance of a trip to be split into segments with the region graph of the colony.
+     */
+    private static final int REGION_SEARCH_MIN_DISTANCE = 48;
+
     @NotNull
     private final BlockPos destination;
     // 0 = exact match
     private float destinationSlack = DESTINATION_SLACK_NONE;
 
+    /**
+     * The region graph of the colony, null for segments and entities without colony.
+     */
+    @Nullable
+    private final ColonyRegionGraph regionGraph;
+
+    /**
+     * Corners of the area covered by the world cache of the job.
+     */
+    @NotNull
+    private final BlockPos minPos;
+    @NotNull
+    private final BlockPos maxPos;
+
     /**
      * Prepares the PathJob for the path finding system.
      *
@@ -37,6 +63,28 @@ public class PathJobMoveToLocation extends AbstractPathJob
         super(world, start, end, range, entity);
 
         this.destination = new BlockPos(end);
+
+        final Colony colony = findColony(entity);
+        this.regionGraph = colony == null ? null : colony.getRegionGraph();
+        this.minPos = new BlockPos(Math.min(start.getX(), end.getX()) - (range / 2), 0, Math.min(start.getZ(), end.getZ()) - (range / 2));
+        this.maxPos = new BlockPos(Math.max(start.getX(), end.getX()) + (range / 2), 0, Math.max(start.getZ(), end.getZ()) + (range / 2));
+    }
+
+    /**
+     * Prepares a job for one segment of a long trip.
+     *
+     * @param parent the job of the whole trip.
+     * @param start  start of the segment.
+     * @param end    end of the segment.
+     */
+    private PathJobMoveToLocation(@NotNull final PathJobMoveToLocation parent, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        super(parent, start, new PathResult());
+
+        this.destination = new BlockPos(end);
+        this.regionGraph = null;
+        this.minPos = parent.minPos;
+        this.maxPos = parent.maxPos;
     }
 
     /**
@@ -60,9 +108,65 @@ public class PathJobMoveToLocation extends AbstractPathJob
             destinationSlack = DESTINATION_SLACK_ADJACENT;
         }
 
+        if (regionGraph != null
+              && Math.abs(start.getX() - destination.getX()) + Math.abs(start.getZ() - destination.getZ()) >= REGION_SEARCH_MIN_DISTANCE)
+        {
+            final List<BlockPos> waypoints = regionGraph.findWaypoints(world, start, destination, minPos, maxPos);
+            if (waypoints != null && !waypoints.isEmpty())
+            {
+                final Path path = searchSegments(waypoints);
+                if (path != null)
+                {
+                    return path;
+                }
+            }
+        }
+
         return super.search();
     }
 
+    /**
+     * Search the trip in segments between the portals of the region graph, every segment gets its own node budget.
+     *
+     * @param waypoints the portals to pass, in order.
+     * @return the joined path or null if a segment could not be found, the whole trip is then searched at once.
+     */
+    @Nullable
+    private Path searchSegments(@NotNull final List<BlockPos> waypoints)
+    {
+        final List<PathPoint> points = new ArrayList<>();
+        BlockPos segmentStart = start;
+        for (int i = 0; i <= waypoints.size(); i++)
+        {
+            if (Thread.currentThread().isInterrupted())
+            {
+                return null;
+            }
+
+            final BlockPos segmentEnd = i < waypoints.size() ? waypoints.get(i) : destination;
+            final PathJobMoveToLocation segment = new PathJobMoveToLocation(this, segmentStart, segmentEnd);
+            final Path path = segment.call();
+            if (path == null || !segment.getResult().isPathReachingDestination())
+            {
+                return null;
+            }
+
+            // Segment paths don't contain their start, so they can be joined directly.
+            for (int j = 0; j < path.getCurrentPathLength(); j++)
+            {
+                points.add(path.getPathPointFromIndex(j));
+            }
+            if (!points.isEmpty())
+            {
+                final PathPoint last = points.get(points.size() - 1);
+                segmentStart = new BlockPos(last.x, last.y, last.z);
+            }
+        }
+
+        getResult().setPathReachesDestination(true);
+        return new Path(points.toArray(new PathPoint[0]));
+    }
+
     @Override
     protected double computeHeuristic(@NotNull final BlockPos pos)
     {
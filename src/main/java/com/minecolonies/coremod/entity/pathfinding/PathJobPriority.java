@@ -0,0 +1,23 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Scheduling lanes of the pathfinding executor.
+ * Jobs of a lower ordinal are always taken from the queue before jobs of a higher ordinal.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Fleeing, fighting and chasing, the citizen is in danger if this takes too long.
+     */
+    HIGH,
+
+    /**
+     * Regular work related movement.
+     */
+    NORMAL,
+
+    /**
+     * Wandering and idling, can wait for everything else.
+     */
+    LOW
+}
@@ -14,23 +14,57 @@ import net.minecraft.pathfinding.Path;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
+    /**
+     * Amount of nanoseconds in a millisecond, used for the statistics.
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000D;
+
+    /**
+     * Seconds an idle worker thread is kept alive.
+     */
+    private static final long KEEP_ALIVE_SECONDS = 10;
+
+    private static final BlockingQueue<Runnable> jobQueue = new PriorityBlockingQueue<>();
     private static ThreadPoolExecutor executor;
 
+    /**
+     * The job of each entity which is still waiting or running, used to cancel stale jobs.
+     */
+    private static final Map<Integer, PathJobTask> pendingJobs = new ConcurrentHashMap<>();
+
+    /**
+     * Ordering of jobs within the same priority lane.
+     */
+    private static final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Statistics of the executor.
+     */
+    private static final AtomicLong completedJobs  = new AtomicLong();
+    private static final AtomicLong cancelledJobs  = new AtomicLong();
+    private static final AtomicLong replacedJobs   = new AtomicLong();
+    private static final AtomicLong totalWaitNanos = new AtomicLong();
+    private static final AtomicLong totalRunNanos  = new AtomicLong();
+    private static final AtomicLong maxWaitNanos   = new AtomicLong();
+
     static
     {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+        executor = createExecutor();
     }
 
     private Pathfinding()
@@ -45,20 +79,54 @@ public final class Pathfinding
     {
         if (executor == null)
         {
-            executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+            executor = createExecutor();
         }
         return executor;
     }
 
+    /**
+     * Create the executor with the configured amount of worker threads.
+     * Core and max size are equal, as a ThreadPoolExecutor never grows beyond its core size with an unbounded queue.
+     *
+     * @return the new executor.
+     */
+    private static ThreadPoolExecutor createExecutor()
+    {
+        final int threads = Math.max(1, Configurations.pathfinding.pathfindingMaxThreadCount);
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor newExecutor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, jobQueue, runnable ->
+        {
+            final Thread thread = new Thread(runnable, "Minecolonies Pathfinding Worker #" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        newExecutor.allowCoreThreadTimeOut(true);
+        return newExecutor;
+    }
+
     /**
      * Add a job to the queue for processing.
+     * A job of the same entity which is still waiting in the queue is cancelled, as its result would be discarded anyway.
      *
      * @param job PathJob
      * @return a Future containing the Path
      */
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return getExecutor().submit(job);
+        final Entity entity = job.getEntity();
+        final PathJobTask task = new PathJobTask(job, entity == null ? null : entity.getEntityId());
+
+        if (task.entityId != null)
+        {
+            final PathJobTask previous = pendingJobs.put(task.entityId, task);
+            if (previous != null && previous.cancel(true))
+            {
+                replacedJobs.incrementAndGet();
+            }
+        }
+
+        getExecutor().execute(task);
+        return task;
     }
 
     /**
@@ -70,6 +138,149 @@ public final class Pathfinding
         getExecutor().shutdown();
         executor = null;
         jobQueue.clear();
+        pendingJobs.clear();
+    }
+
+    /**
+     * Get the amount of jobs waiting for a worker.
+     *
+     * @return the queue depth.
+     */
+    public static int getQueueSize()
+    {
+        return jobQueue.size();
+    }
+
+    /**
+     * Get the amount of workers currently calculating a path.
+     *
+     * @return the amount of active workers.
+     */
+    public static int getActiveWorkers()
+    {
+        return executor == null ? 0 : executor.getActiveCount();
+    }
+
+    /**
+     * Get a human readable summary of the executor statistics.
+     *
+     * @return the statistics in text form.
+     */
+    public static String getStatistics()
+    {
+        final long completed = completedJobs.get();
+        final double averageWait = completed == 0 ? 0 : totalWaitNanos.get() / NANOS_PER_MILLI / completed;
+        final double averageRun = completed == 0 ? 0 : totalRunNanos.get() / NANOS_PER_MILLI / completed;
+        return String.format("Pathfinding: queued %d, active %d/%d, completed %d, cancelled %d (replaced %d), wait avg %.2fms max %.2fms, run avg %.2fms",
+          getQueueSize(),
+          getActiveWorkers(),
+          getExecutor().getMaximumPoolSize(),
+          completed,
+          cancelledJobs.get(),
+          replacedJobs.get(),
+          averageWait,
+          maxWaitNanos.get() / NANOS_PER_MILLI,
+          averageRun);
+    }
+
+    /**
+     * Future of a path job ordered by priority lane and submission order.
+     */
+    private static final class PathJobTask extends FutureTask<Path> implements Comparable<PathJobTask>
+    {
+        /**
+         * The entity id the job belongs to, null if the job has no entity.
+         */
+        @Nullable
+        private final Integer entityId;
+
+        /**
+         * Scheduling lane of the job.
+         */
+        private final PathJobPriority priority;
+
+        /**
+         * Position in the queue within the lane.
+         */
+        private final long order;
+
+        /**
+         * Time the job was enqueued at.
+         */
+        private final long enqueueTime;
+
+        /**
+         * Create a new task for a path job.
+         *
+         * @param job      the job to run.
+         * @param entityId the id of the entity the job belongs to.
+         */
+        private PathJobTask(@NotNull final AbstractPathJob job, @Nullable final Integer entityId)
+        {
+            super(job);
+            this.entityId = entityId;
+            this.priority = job.getPriority();
+            this.order = sequence.getAndIncrement();
+            this.enqueueTime = System.nanoTime();
+        }
+
+        @Override
+        public void run()
+        {
+            if (isDone())
+            {
+                return;
+            }
+
+            final long startTime = System.nanoTime();
+            final long waitTime = startTime - enqueueTime;
+            totalWaitNanos.addAndGet(waitTime);
+            maxWaitNanos.accumulateAndGet(waitTime, Math::max);
+
+            super.run();
+
+            totalRunNanos.addAndGet(System.nanoTime() - startTime);
+            completedJobs.incrementAndGet();
+        }
+
+        @Override
+        protected void done()
+        {
+            if (entityId != null)
+            {
+                pendingJobs.remove(entityId, this);
+            }
+
+            if (isCancelled())
+            {
+                cancelledJobs.incrementAndGet();
+                // Don't keep dead jobs in the queue, they would count towards the queue depth.
+                jobQueue.remove(this);
+            }
+        }
+
+        @Override
+        public int compareTo(@NotNull final PathJobTask other)
+        {
+            final int priorityComparison = priority.compareTo(other.priority);
+            if (priorityComparison != 0)
+            {
+                return priorityComparison;
+            }
+            return Long.compare(order, other.order);
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return Long.hashCode(order);
+        }
     }
 
     /**
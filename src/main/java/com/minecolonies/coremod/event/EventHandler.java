@@ -26,7 +26,7 @@ import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldCapab
 import com.minecolonies.coremod.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.coremod.network.messages.OpenSuggestionWindowMessage;
 import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
-import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
+import com.minecolonies.coremod.util.ChunkClaimSyncHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockBed;
@@ -63,6 +63,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.BlockEvent;
 import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.eventhandler.Event;
@@ -196,6 +197,28 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called after a chunk was sent to a player.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public void onChunkWatch(@NotNull final ChunkWatchEvent.Watch event)
+    {
+        ChunkClaimSyncHelper.watchChunk(event.getPlayer(), event.getChunk());
+    }
+
+    /**
+     * Event called when a chunk is unloaded for a player.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public void onChunkUnWatch(@NotNull final ChunkWatchEvent.UnWatch event)
+    {
+        ChunkClaimSyncHelper.unwatchChunk(event.getPlayer(), event.getChunk());
+    }
+
     /**
      * Event called when the player enters a new chunk.
      *
@@ -210,10 +233,6 @@ public class EventHandler
         if (entity instanceof EntityPlayerMP)
         {
             final World world = entity.getEntityWorld();
-            MineColonies.getNetwork()
-              .sendTo(new UpdateChunkRangeCapabilityMessage(world, event.getNewChunkX(), event.getNewChunkZ(), Configurations.gameplay.workingRangeTownHallChunks),
-                (EntityPlayerMP) event.getEntity());
-
             final Chunk newChunk = world.getChunk(event.getNewChunkX(), event.getNewChunkZ());
             ChunkDataHelper.loadChunk(newChunk, entity.world);
 
@@ -296,6 +315,7 @@ public class EventHandler
                 colony.getPackageManager().removeCloseSubscriber(player);
                 colony.getPackageManager().removeImportantColonyPlayer(player);
             }
+            ChunkClaimSyncHelper.forgetPlayer(player);
         }
     }
 
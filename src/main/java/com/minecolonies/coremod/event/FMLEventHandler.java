@@ -8,6 +8,7 @@ import com.minecolonies.coremod.colony.ColonyManager;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
+import com.minecolonies.coremod.util.ChunkClaimSyncHelper;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.common.config.Config;
@@ -27,7 +28,8 @@ public class FMLEventHandler
 {
     /**
      * Called when the server ticks.
-     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)}.
+     * Calls {@link ColonyManager#onServerTick(TickEvent.ServerTickEvent)}
+     * and sends the chunk claim changes of the tick.
      *
      * @param event {@link net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent}.
      */
@@ -35,6 +37,10 @@ public class FMLEventHandler
     public void onServerTick(final TickEvent.ServerTickEvent event)
     {
         IColonyManager.getInstance().onServerTick(event);
+        if (event.phase == TickEvent.Phase.END)
+        {
+            ChunkClaimSyncHelper.flush();
+        }
     }
 
     /**
@@ -34,6 +34,7 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
 
     /**
      * Creates a message to handle colony views.
+     * The building is serialized once, the message can then be sent to any amount of players.
      *
      * @param building AbstractBuilding to add or update a view.
      */
@@ -63,7 +64,18 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
         buf.writeInt(dimension);
-        buf.writeBytes(buildingData);
+        // Keep the reader index, the same message is sent to every subscriber.
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
+    }
+
+    /**
+     * Get the size of the serialized building.
+     *
+     * @return the size in bytes.
+     */
+    public int getDataSize()
+    {
+        return buildingData.readableBytes();
     }
 
     @Override
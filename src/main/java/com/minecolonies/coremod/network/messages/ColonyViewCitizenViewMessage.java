@@ -33,18 +33,31 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
 
     /**
      * Updates a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     * The citizen is serialized once, the message can then be sent to any amount of players.
      *
      * @param colony  Colony of the citizen
      * @param citizen Citizen data of the citizen to update view
      */
     public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    {
+        this(colony, citizen, ICitizenData.VIEW_ALL);
+    }
+
+    /**
+     * Updates parts of a {@link com.minecolonies.coremod.colony.CitizenDataView} of the citizens.
+     *
+     * @param colony    Colony of the citizen
+     * @param citizen   Citizen data of the citizen to update view
+     * @param viewParts the parts of the view to update, see {@link ICitizenData#VIEW_ALL}.
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, final int viewParts)
     {
         super();
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
         this.citizenBuffer = Unpooled.buffer();
         this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        citizen.serializeViewNetworkData(citizenBuffer, viewParts);
     }
 
     @Override
@@ -62,7 +75,18 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeInt(dimension);
-        buf.writeBytes(citizenBuffer);
+        // Keep the reader index, the same message is sent to every subscriber.
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
+    }
+
+    /**
+     * Get the size of the serialized citizen.
+     *
+     * @return the size in bytes.
+     */
+    public int getDataSize()
+    {
+        return citizenBuffer.readableBytes();
     }
 
     @Override
@@ -0,0 +1,84 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.Colony;
+import io.netty.buffer.ByteBuf;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Update the request system of a ColonyView on the client.
+ */
+public class ColonyViewRequestsMessage extends AbstractMessage<ColonyViewRequestsMessage, IMessage>
+{
+    /**
+     * The colony id.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the colony.
+     */
+    private int dim;
+
+    /**
+     * The buffer with the request system data.
+     */
+    private ByteBuf requestsBuffer;
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyViewRequestsMessage()
+    {
+        super();
+    }
+
+    /**
+     * Update the request system of a ColonyView on the client.
+     *
+     * @param colony Colony of the view to update.
+     * @param buf    the request system data, written by {@link com.minecolonies.coremod.colony.ColonyView#serializeRequestNetworkData}.
+     */
+    public ColonyViewRequestsMessage(@NotNull final Colony colony, @NotNull final ByteBuf buf)
+    {
+        this.colonyId = colony.getID();
+        this.dim = colony.getDimension();
+        this.requestsBuffer = buf.copy();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final ByteBuf newBuf = buf.retain();
+        colonyId = newBuf.readInt();
+        dim = newBuf.readInt();
+        requestsBuffer = newBuf;
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(dim);
+        buf.writeBytes(requestsBuffer);
+    }
+
+    @Override
+    protected void messageOnClientThread(final ColonyViewRequestsMessage message, final MessageContext ctx)
+    {
+        try
+        {
+            if (MineColonies.proxy.getWorldFromMessage(ctx) != null)
+            {
+                IColonyManager.getInstance().handleColonyViewRequestsMessage(message.colonyId, message.requestsBuffer, message.dim);
+            }
+        }
+        finally
+        {
+            message.requestsBuffer.release();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Update the ChunkCapability of a batch of chunks.
+ * Chunk positions are written relative to the smallest chunk of the batch, all numbers as var ints.
+ */
+public class UpdateChunkClaimsMessage extends AbstractMessage<UpdateChunkClaimsMessage, IMessage>
+{
+    /**
+     * Max bytes of a var int.
+     */
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    /**
+     * The claims of the chunks.
+     */
+    private final List<ChunkClaim> claims = new ArrayList<>();
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public UpdateChunkClaimsMessage()
+    {
+        super();
+    }
+
+    /**
+     * Create a message to update the chunk caps on the client side.
+     *
+     * @param claims the claims to send.
+     */
+    public UpdateChunkClaimsMessage(@NotNull final List<ChunkClaim> claims)
+    {
+        super();
+        this.claims.addAll(claims);
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        final int originX = buf.readInt();
+        final int originZ = buf.readInt();
+        final int size = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+        for (int i = 0; i < size; i++)
+        {
+            final int x = originX + ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final int z = originZ + ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final int owningColony = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final int closeSize = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final List<Integer> closeColonies = new ArrayList<>(closeSize);
+            for (int j = 0; j < closeSize; j++)
+            {
+                closeColonies.add(ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES));
+            }
+            claims.add(new ChunkClaim(x, z, owningColony, closeColonies));
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        int originX = Integer.MAX_VALUE;
+        int originZ = Integer.MAX_VALUE;
+        for (final ChunkClaim claim : claims)
+        {
+            originX = Math.min(originX, claim.x);
+            originZ = Math.min(originZ, claim.z);
+        }
+
+        buf.writeInt(originX);
+        buf.writeInt(originZ);
+        ByteBufUtils.writeVarInt(buf, claims.size(), MAX_VAR_INT_BYTES);
+        for (final ChunkClaim claim : claims)
+        {
+            ByteBufUtils.writeVarInt(buf, claim.x - originX, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, claim.z - originZ, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, claim.owningColony, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, claim.closeColonies.size(), MAX_VAR_INT_BYTES);
+            for (final int id : claim.closeColonies)
+            {
+                ByteBufUtils.writeVarInt(buf, id, MAX_VAR_INT_BYTES);
+            }
+        }
+    }
+
+    @Override
+    protected void messageOnClientThread(final UpdateChunkClaimsMessage message, final MessageContext ctx)
+    {
+        if (ctx.getClientHandler().world == null)
+        {
+            return;
+        }
+
+        for (final ChunkClaim claim : message.claims)
+        {
+            final Chunk chunk = ctx.getClientHandler().world.getChunk(claim.x, claim.z);
+            final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+            if (cap != null && (cap.getOwningColony() != claim.owningColony || !cap.getAllCloseColonies().equals(claim.closeColonies)))
+            {
+                cap.reset(chunk);
+                cap.setOwningColony(claim.owningColony, chunk);
+                for (final int id : claim.closeColonies)
+                {
+                    cap.addColony(id, chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * The claim data of a single chunk.
+     */
+    public static final class ChunkClaim
+    {
+        private final int           x;
+        private final int           z;
+        private final int           owningColony;
+        private final List<Integer> closeColonies;
+
+        /**
+         * Create the claim data of a chunk.
+         *
+         * @param x             the chunk x.
+         * @param z             the chunk z.
+         * @param owningColony  the owning colony, 0 if none.
+         * @param closeColonies the close colonies.
+         */
+        public ChunkClaim(final int x, final int z, final int owningColony, @NotNull final List<Integer> closeColonies)
+        {
+            this.x = x;
+            this.z = z;
+            this.owningColony = owningColony;
+            this.closeColonies = closeColonies;
+        }
+
+        public int getX()
+        {
+            return x;
+        }
+
+        public int getZ()
+        {
+            return z;
+        }
+
+        public int getOwningColony()
+        {
+            return owningColony;
+        }
+    }
+}
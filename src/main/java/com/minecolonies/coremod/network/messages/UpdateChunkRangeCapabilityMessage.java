@@ -2,10 +2,8 @@ package com.minecolonies.coremod.network.messages;
 
 import com.minecolonies.api.colony.IColonyTagCapability;
 import io.netty.buffer.ByteBuf;
-import net.minecraft.util.Tuple;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
@@ -13,18 +11,24 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
 import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
 
 /**
- * Update the ChunkCapability with a colony.
+ * Update the owning colony of the ChunkCapability of a range of chunks.
+ * Chunks are sent as runs of neighbouring chunks along the x axis with the same owner,
+ * positions relative to the smallest chunk of the message, all numbers as var ints.
  */
 public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChunkRangeCapabilityMessage, IMessage>
 {
     /**
-     * The colonies tags to send over.
+     * Max bytes of a var int.
      */
-    private final List<Tuple<Tuple<Integer, Integer>, Integer>> colonies = new ArrayList<>();
+    private static final int MAX_VAR_INT_BYTES = 5;
+
+    /**
+     * The runs of chunks with the same owner.
+     */
+    private final List<OwnerRun> runs = new ArrayList<>();
 
     /**
      * Empty constructor used when registering the message.
@@ -35,52 +39,51 @@ public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChu
     }
 
     /**
-     * Create a message to update the chunk cap on the client side.
-     * @param world the world.
-     * @param xC the x pos.
-     * @param zC the z pos.
-     * @param range the range.
+     * Create a message to update the chunk caps on the client side.
+     *
+     * @param runs the runs of chunks to send.
      */
-    public UpdateChunkRangeCapabilityMessage(@NotNull final World world, final int xC, final int zC, final int range)
+    public UpdateChunkRangeCapabilityMessage(@NotNull final List<OwnerRun> runs)
     {
-        for (int x = -range; x <= range; x++ )
-        {
-            for (int z = -range; z <= range; z++ )
-            {
-                final int chunkX = xC + x;
-                final int chunkZ = zC + z;
-                if (world.isBlockLoaded(new BlockPos(chunkX * BLOCKS_PER_CHUNK, 0, chunkZ * BLOCKS_PER_CHUNK)))
-                {
-                    final Chunk chunk = world.getChunk(chunkX, chunkZ);
-                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-                    if (cap != null)
-                    {
-                        colonies.add(new Tuple<>(new Tuple<>(chunkX, chunkZ), cap.getOwningColony()));
-                    }
-                }
-            }
-        }
+        super();
+        this.runs.addAll(runs);
     }
 
     @Override
     public void fromBytes(@NotNull final ByteBuf buf)
     {
-        final int size = buf.readInt();
+        final int originX = buf.readInt();
+        final int originZ = buf.readInt();
+        final int size = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
         for (int i = 0; i < size; i++)
         {
-            colonies.add(new Tuple<>(new Tuple<>(buf.readInt(), buf.readInt()), buf.readInt()));
+            final int x = originX + ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final int z = originZ + ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            final int length = ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES);
+            runs.add(new OwnerRun(x, z, length, ByteBufUtils.readVarInt(buf, MAX_VAR_INT_BYTES)));
         }
     }
 
     @Override
     public void toBytes(@NotNull final ByteBuf buf)
     {
-        buf.writeInt(colonies.size());
-        for (final Tuple<Tuple<Integer, Integer>, Integer> c : colonies)
+        int originX = Integer.MAX_VALUE;
+        int originZ = Integer.MAX_VALUE;
+        for (final OwnerRun run : runs)
         {
-            buf.writeInt(c.getFirst().getFirst());
-            buf.writeInt(c.getFirst().getSecond());
-            buf.writeInt(c.getSecond());
+            originX = Math.min(originX, run.x);
+            originZ = Math.min(originZ, run.z);
+        }
+
+        buf.writeInt(originX);
+        buf.writeInt(originZ);
+        ByteBufUtils.writeVarInt(buf, runs.size(), MAX_VAR_INT_BYTES);
+        for (final OwnerRun run : runs)
+        {
+            ByteBufUtils.writeVarInt(buf, run.x - originX, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, run.z - originZ, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, run.length, MAX_VAR_INT_BYTES);
+            ByteBufUtils.writeVarInt(buf, run.owningColony, MAX_VAR_INT_BYTES);
         }
     }
 
@@ -89,16 +92,46 @@ public class UpdateChunkRangeCapabilityMessage extends AbstractMessage<UpdateChu
     {
         if(ctx.getClientHandler().world != null)
         {
-            for (final Tuple<Tuple<Integer, Integer>, Integer> c : message.colonies)
+            for (final OwnerRun run : message.runs)
             {
-                final Chunk chunk = ctx.getClientHandler().world.getChunk(c.getFirst().getFirst(), c.getFirst().getSecond());
-                final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
-                if (cap != null)
+                for (int x = run.x; x < run.x + run.length; x++)
                 {
-                    cap.setOwningColony(c.getSecond(), chunk);
-                    cap.addColony(c.getSecond(), chunk);
+                    final Chunk chunk = ctx.getClientHandler().world.getChunk(x, run.z);
+                    final IColonyTagCapability cap = chunk.getCapability(CLOSE_COLONY_CAP, null);
+                    if (cap != null)
+                    {
+                        cap.setOwningColony(run.owningColony, chunk);
+                        cap.addColony(run.owningColony, chunk);
+                    }
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A run of neighbouring chunks along the x axis with the same owner.
+     */
+    public static final class OwnerRun
+    {
+        private final int x;
+        private final int z;
+        private final int length;
+        private final int owningColony;
+
+        /**
+         * Create a run of chunks.
+         *
+         * @param x            the x of the first chunk.
+         * @param z            the z of the chunks.
+         * @param length       the amount of chunks.
+         * @param owningColony the owning colony, 0 if none.
+         */
+        public OwnerRun(final int x, final int z, final int length, final int owningColony)
+        {
+            this.x = x;
+            this.z = z;
+            this.length = length;
+            this.owningColony = owningColony;
+        }
+    }
+}
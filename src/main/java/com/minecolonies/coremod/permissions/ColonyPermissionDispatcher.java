@@ -0,0 +1,342 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Single subscriber for all permission relevant events.
+ * Looks up the colony owning the chunk of the event once and passes the event to the {@link ColonyPermissionEventHandler} of that colony only,
+ * instead of letting the handler of every loaded colony check the event.
+ */
+public class ColonyPermissionDispatcher
+{
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are passed to the colony of their building, even if the chunk is not claimed by it.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final World world = event.getWorld();
+        if (!Configurations.gameplay.enableColonyProtection || world.isRemote)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(world, event.getPos());
+            if (building == null)
+            {
+                return;
+            }
+            handler = getHandler(building.getColony());
+        }
+        else
+        {
+            handler = getHandler(world, event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Every colony owning a chunk of an affected block or entity gets the event once.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final World world = event.getWorld();
+        final Set<ColonyPermissionEventHandler> handlers = new LinkedHashSet<>();
+        long lastChunk = Long.MIN_VALUE;
+        for (final BlockPos pos : event.getAffectedBlocks())
+        {
+            // Affected blocks are mostly grouped by chunk, avoid looking up the same chunk over and over.
+            final long chunk = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            if (chunk == lastChunk)
+            {
+                continue;
+            }
+            lastChunk = chunk;
+            addHandler(handlers, world, pos);
+        }
+        for (final Entity entity : event.getAffectedEntities())
+        {
+            addHandler(handlers, entity.getEntityWorld(), entity.getPosition());
+        }
+
+        for (final ColonyPermissionEventHandler handler : handlers)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer().getEntityWorld(), event.getPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getEntityPlayer().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final World world = event.getEntityPlayer().getEntityWorld();
+        final BlockPos pos;
+        if (event.getTarget() == null)
+        {
+            pos = EntityUtils.getPlayerOfFakePlayer(event.getEntityPlayer(), world).getPosition();
+        }
+        else
+        {
+            pos = event.getTarget().getBlockPos();
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(world, pos);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getEntity().getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final World world = event.getEntityPlayer().getEntityWorld();
+        final ColonyPermissionEventHandler handler = getHandler(world, EntityUtils.getPlayerOfFakePlayer(event.getEntityPlayer(), world).getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * Add the handler of the colony owning a position to a set, if there is one.
+     *
+     * @param handlers the set to add to.
+     * @param world    the world.
+     * @param pos      the position.
+     */
+    private static void addHandler(@NotNull final Set<ColonyPermissionEventHandler> handlers, @Nullable final World world, @Nullable final BlockPos pos)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(world, pos);
+        if (handler != null)
+        {
+            handlers.add(handler);
+        }
+    }
+
+    /**
+     * Get the permission handler of the colony owning the chunk of a position.
+     *
+     * @param world the world.
+     * @param pos   the position.
+     * @return the handler or null if the chunk is not owned by a loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final World world, @Nullable final BlockPos pos)
+    {
+        if (world == null || pos == null || !world.isBlockLoaded(pos))
+        {
+            return null;
+        }
+
+        final IColonyTagCapability cap = world.getChunk(pos).getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null || cap.getOwningColony() == 0)
+        {
+            return null;
+        }
+
+        return getHandler(IColonyManager.getInstance().getColonyByDimension(cap.getOwningColony(), world.provider.getDimension()));
+    }
+
+    /**
+     * Get the permission handler of a colony.
+     *
+     * @param colony the colony.
+     * @return the handler or null if there is none.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@Nullable final IColony colony)
+    {
+        if (colony instanceof Colony)
+        {
+            return ((Colony) colony).getEventHandler();
+        }
+        return null;
+    }
+}
@@ -4,7 +4,6 @@ import com.google.common.collect.Lists;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
-import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
@@ -18,9 +17,9 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -33,6 +32,11 @@ import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABI
  */
 public class TileEntityWareHouse extends AbstractTileEntityWareHouse
 {
+    /**
+     * Index of the items in the racks of the warehouse.
+     */
+    private final WarehouseItemIndex itemIndex = new WarehouseItemIndex();
+
     public TileEntityWareHouse()
     {
         super();
@@ -49,8 +53,46 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        return getCountOfMatchingItemStacksInWarehouse(itemStackSelectionPredicate, count) >= count;
+    }
+
+    @Override
+    public int getCountOfMatchingItemStacksInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, final int limit)
+    {
+        if (getBuilding() == null)
+        {
+            return 0;
+        }
+
+        final WarehouseItemIndex index = getItemIndex();
+        int count = index.count(itemStackSelectionPredicate, limit);
+        for (final BlockPos pos : index.getOtherContainers())
+        {
+            if (count >= limit)
+            {
+                return limit;
+            }
+
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null)
+            {
+                count += InventoryUtils.getItemCountInProviderUpTo(entity, itemStackSelectionPredicate, limit - count);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the item index of the warehouse, synchronized with its current containers.
+     * Only to be called while the building is set.
+     *
+     * @return the index.
+     */
+    @NotNull
+    private WarehouseItemIndex getItemIndex()
+    {
+        itemIndex.sync(getWorld(), getBuilding().getAdditionalCountainers(), this);
+        return itemIndex;
     }
 
     /**
@@ -89,14 +131,21 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     {
         if (getBuilding() != null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            final WarehouseItemIndex index = getItemIndex();
+            final BlockPos rackPos = index.getRackWithItem(itemStackSelectionPredicate);
+            if (rackPos != null)
+            {
+                return rackPos;
+            }
 
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
-                     .findFirst().orElse(null);
+            for (final BlockPos pos : index.getOtherContainers())
+            {
+                final TileEntity entity = getWorld().getTileEntity(pos);
+                if (entity != null && InventoryUtils.hasItemInProvider(entity, itemStackSelectionPredicate))
+                {
+                    return pos;
+                }
+            }
         }
 
         return null;
@@ -141,36 +190,48 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     private TileEntity searchRightChestForStack(@NotNull final ItemStack stack)
     {
-        if (InventoryUtils.findSlotInProviderNotFullWithItem(this, stack.getItem(), stack.getItemDamage(), ItemStackUtils.getSize(stack)) != -1)
+        final WarehouseItemIndex index = getItemIndex();
+        @Nullable final TileEntity rack = searchRackWithItem(index, stack, false);
+        if (rack != null)
         {
-            return this;
+            return rack;
         }
 
-        for (@NotNull final BlockPos pos : getBuilding().getAdditionalCountainers())
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
         {
             final TileEntity entity = getWorld().getTileEntity(pos);
-            if (isInRack(stack, entity, false) || isInChest(stack, entity, false))
+            if (isInChest(stack, entity, false))
             {
                 return entity;
             }
         }
 
-        @Nullable final TileEntity chest = searchChestWithSimilarItem(stack);
-        return chest == null ? searchMostEmptySlot() : chest;
+        @Nullable final TileEntity chest = searchChestWithSimilarItem(index, stack);
+        return chest == null ? searchMostEmptySlot(index) : chest;
     }
 
     /**
-     * Check if a similar item is in the rack.
+     * Search a rack which holds the item of the stack and has room for it.
+     * Only the racks the index lists for the item are checked.
      *
+     * @param index             the item index.
      * @param stack             the stack to check.
-     * @param entity            the entity.
      * @param ignoreDamageValue should the damage value be ignored.
-     * @return true if so.
+     * @return the rack or null.
      */
-    private static boolean isInRack(final ItemStack stack, final TileEntity entity, final boolean ignoreDamageValue)
+    @Nullable
+    private TileEntity searchRackWithItem(@NotNull final WarehouseItemIndex index, @NotNull final ItemStack stack, final boolean ignoreDamageValue)
     {
-        return entity instanceof TileEntityRack && !((AbstractTileEntityRack) entity).isEmpty() && ((AbstractTileEntityRack) entity).hasItemStack(stack, ignoreDamageValue)
-                 && InventoryUtils.findSlotInItemHandlerNotFullWithItem(entity.getCapability(ITEM_HANDLER_CAPABILITY, null), stack);
+        for (final AbstractTileEntityRack rack : index.getRacksWithItem(stack, ignoreDamageValue))
+        {
+            // The capability of the hut covers the whole warehouse, only its own inventory is checked.
+            final IItemHandler handler = rack == this ? getInventory() : rack.getCapability(ITEM_HANDLER_CAPABILITY, null);
+            if (InventoryUtils.findSlotInItemHandlerNotFullWithItem(handler, stack))
+            {
+                return rack;
+            }
+        }
+        return null;
     }
 
     /**
@@ -190,16 +251,23 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     /**
      * Searches a chest with a similar item as the incoming stack.
      *
+     * @param index the item index.
      * @param stack the stack.
      * @return the entity of the chest.
      */
     @Nullable
-    private TileEntity searchChestWithSimilarItem(final ItemStack stack)
+    private TileEntity searchChestWithSimilarItem(@NotNull final WarehouseItemIndex index, final ItemStack stack)
     {
-        for (@NotNull final BlockPos pos : getBuilding().getAdditionalCountainers())
+        @Nullable final TileEntity rack = searchRackWithItem(index, stack, true);
+        if (rack != null)
+        {
+            return rack;
+        }
+
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
         {
             final TileEntity entity = getWorld().getTileEntity(pos);
-            if (isInRack(stack, entity, true) || isInChest(stack, entity, true))
+            if (isInChest(stack, entity, true))
             {
                 return entity;
             }
@@ -210,39 +278,31 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     /**
      * Search for the chest with the least items in it.
      *
+     * @param index the item index.
      * @return the tileEntity of this chest.
      */
     @Nullable
-    private TileEntity searchMostEmptySlot()
+    private TileEntity searchMostEmptySlot(@NotNull final WarehouseItemIndex index)
     {
-        int freeSlots = 0;
-        TileEntity emptiestChest = null;
-        for (@NotNull final BlockPos pos : getBuilding().getAdditionalCountainers())
+        for (@NotNull final BlockPos pos : new ArrayList<>(index.getMissingContainers()))
         {
-            final TileEntity entity = getWorld().getTileEntity(pos);
-            if (entity == null)
-            {
-                getBuilding().removeContainerPosition(pos);
-                continue;
-            }
-            final int tempFreeSlots;
-            if (entity instanceof TileEntityRack)
-            {
-                if (((AbstractTileEntityRack) entity).isEmpty())
-                {
-                    return entity;
-                }
+            getBuilding().removeContainerPosition(pos);
+        }
 
-                tempFreeSlots = ((AbstractTileEntityRack) entity).getFreeSlots();
-                if (freeSlots < tempFreeSlots)
-                {
-                    freeSlots = tempFreeSlots;
-                    emptiestChest = entity;
-                }
-            }
-            else if (entity instanceof TileEntityChest && InventoryUtils.getFirstOpenSlotFromProvider(entity) != -1)
+        final AbstractTileEntityRack emptiestRack = index.getRackWithMostFreeSlots();
+        if (emptiestRack != null && emptiestRack.isEmpty())
+        {
+            return emptiestRack;
+        }
+
+        int freeSlots = emptiestRack == null ? 0 : index.getFreeSlots(emptiestRack.getPos());
+        TileEntity emptiestChest = emptiestRack;
+        for (@NotNull final BlockPos pos : index.getOtherContainers())
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity instanceof TileEntityChest && InventoryUtils.getFirstOpenSlotFromProvider(entity) != -1)
             {
-                tempFreeSlots = ((TileEntityChest) entity).getSizeInventory() - InventoryUtils.getAmountOfStacksInProvider(entity);
+                final int tempFreeSlots = ((TileEntityChest) entity).getSizeInventory() - InventoryUtils.getAmountOfStacksInProvider(entity);
                 if (freeSlots < tempFreeSlots)
                 {
                     freeSlots = tempFreeSlots;
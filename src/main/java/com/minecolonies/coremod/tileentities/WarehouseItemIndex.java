@@ -0,0 +1,381 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.tileentities.AbstractTileEntityRack;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index of the items stored in the racks of a warehouse.
+ * <p>
+ * Each rack reports its counted content after every change, the index keeps the positions and amounts per item
+ * and the free slots per rack, so the warehouse does not have to read the rack slots to answer where an item is.
+ * Containers which are no racks do not report changes and are only listed to be checked directly.
+ */
+final class WarehouseItemIndex
+{
+    /**
+     * The indexed racks by position.
+     */
+    private final Map<BlockPos, AbstractTileEntityRack> racks = new HashMap<>();
+
+    /**
+     * The last reported content per rack position.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> contentByRack = new HashMap<>();
+
+    /**
+     * The rack positions and amounts per item.
+     */
+    private final Map<ItemStorage, Map<BlockPos, Integer>> racksByItem = new HashMap<>();
+
+    /**
+     * The total amount per item over all racks.
+     */
+    private final Map<ItemStorage, Integer> totals = new HashMap<>();
+
+    /**
+     * The free slots per rack position.
+     */
+    private final Map<BlockPos, Integer> freeSlots = new HashMap<>();
+
+    /**
+     * Positions of containers which are no racks.
+     */
+    private final List<BlockPos> otherContainers = new ArrayList<>();
+
+    /**
+     * Container positions without a tile entity.
+     */
+    private final List<BlockPos> missingContainers = new ArrayList<>();
+
+    /**
+     * The container positions the index was built for.
+     */
+    private final Set<BlockPos> indexedPositions = new HashSet<>();
+
+    /**
+     * The position of the warehouse hut.
+     */
+    @Nullable
+    private BlockPos hutPos;
+
+    /**
+     * Bring the index in line with the containers of the warehouse.
+     * Rebuilds it if the containers changed and re-indexes racks whose tile entity was replaced, e.g. after a chunk reload.
+     *
+     * @param world      the world.
+     * @param containers the additional containers of the warehouse.
+     * @param self       the tile entity of the warehouse hut, indexed as well.
+     */
+    void sync(@NotNull final World world, @NotNull final List<BlockPos> containers, @NotNull final AbstractTileEntityRack self)
+    {
+        if (indexedPositions.size() != containers.size() || !indexedPositions.containsAll(containers) || racks.get(self.getPos()) != self)
+        {
+            rebuild(world, containers, self);
+            return;
+        }
+
+        for (final Map.Entry<BlockPos, AbstractTileEntityRack> entry : new ArrayList<>(racks.entrySet()))
+        {
+            if (entry.getValue().isInvalid())
+            {
+                final TileEntity entity = world.getTileEntity(entry.getKey());
+                removeRack(entry.getKey());
+                if (entity instanceof AbstractTileEntityRack)
+                {
+                    addRack((AbstractTileEntityRack) entity);
+                }
+                else if (entity != null)
+                {
+                    otherContainers.add(entry.getKey());
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the index from scratch.
+     *
+     * @param world      the world.
+     * @param containers the additional containers of the warehouse.
+     * @param self       the tile entity of the warehouse hut.
+     */
+    private void rebuild(@NotNull final World world, @NotNull final List<BlockPos> containers, @NotNull final AbstractTileEntityRack self)
+    {
+        for (final BlockPos pos : new ArrayList<>(racks.keySet()))
+        {
+            removeRack(pos);
+        }
+        otherContainers.clear();
+        missingContainers.clear();
+        indexedPositions.clear();
+        indexedPositions.addAll(containers);
+
+        hutPos = self.getPos();
+        addRack(self);
+        for (final BlockPos pos : containers)
+        {
+            final TileEntity entity = world.getTileEntity(pos);
+            if (entity == null)
+            {
+                missingContainers.add(pos);
+            }
+            else if (entity instanceof AbstractTileEntityRack)
+            {
+                if (entity != self)
+                {
+                    addRack((AbstractTileEntityRack) entity);
+                }
+            }
+            else
+            {
+                otherContainers.add(pos);
+            }
+        }
+    }
+
+    /**
+     * Start tracking a rack.
+     *
+     * @param rack the rack.
+     */
+    private void addRack(@NotNull final AbstractTileEntityRack rack)
+    {
+        racks.put(rack.getPos(), rack);
+        rack.setContentListener(this::onContentUpdated);
+        onContentUpdated(rack);
+    }
+
+    /**
+     * Stop tracking the rack at a position.
+     *
+     * @param pos the position.
+     */
+    private void removeRack(@NotNull final BlockPos pos)
+    {
+        final AbstractTileEntityRack rack = racks.remove(pos);
+        if (rack != null)
+        {
+            rack.setContentListener(null);
+        }
+        removeContent(pos);
+        freeSlots.remove(pos);
+    }
+
+    /**
+     * Called by a rack after its content was counted again.
+     *
+     * @param rack the rack.
+     */
+    private void onContentUpdated(@NotNull final AbstractTileEntityRack rack)
+    {
+        final BlockPos pos = rack.getPos();
+        if (racks.get(pos) != rack)
+        {
+            // Reported by a rack which is not part of the warehouse anymore.
+            rack.setContentListener(null);
+            return;
+        }
+
+        removeContent(pos);
+        final Map<ItemStorage, Integer> content = new HashMap<>(rack.getAllContent());
+        contentByRack.put(pos, content);
+        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        {
+            racksByItem.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(pos, entry.getValue());
+            totals.merge(entry.getKey(), entry.getValue(), Integer::sum);
+        }
+        freeSlots.put(pos, rack.getFreeSlots());
+    }
+
+    /**
+     * Remove the indexed content of a rack position.
+     *
+     * @param pos the position.
+     */
+    private void removeContent(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> content = contentByRack.remove(pos);
+        if (content == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> entry : content.entrySet())
+        {
+            final Map<BlockPos, Integer> positions = racksByItem.get(entry.getKey());
+            if (positions != null)
+            {
+                positions.remove(pos);
+                if (positions.isEmpty())
+                {
+                    racksByItem.remove(entry.getKey());
+                }
+            }
+
+            final int remaining = totals.getOrDefault(entry.getKey(), 0) - entry.getValue();
+            if (remaining > 0)
+            {
+                totals.put(entry.getKey(), remaining);
+            }
+            else
+            {
+                totals.remove(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Count the items matching a predicate in the racks.
+     *
+     * @param predicate the predicate.
+     * @param limit     the amount after which counting stops.
+     * @return the amount, at most the limit.
+     */
+    int count(@NotNull final Predicate<ItemStack> predicate, final int limit)
+    {
+        int count = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : totals.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                count += entry.getValue();
+                if (count >= limit)
+                {
+                    return limit;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the position of a rack holding an item matching a predicate.
+     *
+     * @param predicate the predicate.
+     * @return the position or null if no rack holds one.
+     */
+    @Nullable
+    BlockPos getRackWithItem(@NotNull final Predicate<ItemStack> predicate)
+    {
+        for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : racksByItem.entrySet())
+        {
+            if (predicate.test(entry.getKey().getItemStack()))
+            {
+                return entry.getValue().keySet().iterator().next();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the racks holding an item like the given stack.
+     *
+     * @param stack             the stack.
+     * @param ignoreDamageValue if the damage value should be ignored.
+     * @return the racks, the ones holding most of the item first.
+     */
+    @NotNull
+    List<AbstractTileEntityRack> getRacksWithItem(@NotNull final ItemStack stack, final boolean ignoreDamageValue)
+    {
+        final ItemStorage compareStorage = new ItemStorage(stack, ignoreDamageValue);
+        final Map<BlockPos, Integer> positions = new HashMap<>();
+        if (ignoreDamageValue)
+        {
+            for (final Map.Entry<ItemStorage, Map<BlockPos, Integer>> entry : racksByItem.entrySet())
+            {
+                if (compareStorage.equals(entry.getKey()))
+                {
+                    entry.getValue().forEach((pos, amount) -> positions.merge(pos, amount, Integer::sum));
+                }
+            }
+        }
+        else if (racksByItem.containsKey(compareStorage))
+        {
+            positions.putAll(racksByItem.get(compareStorage));
+        }
+
+        final List<AbstractTileEntityRack> result = new ArrayList<>();
+        positions.entrySet()
+          .stream()
+          .sorted(Map.Entry.<BlockPos, Integer>comparingByValue().reversed())
+          .forEach(entry -> result.add(racks.get(entry.getKey())));
+        result.removeIf(Objects::isNull);
+        return result;
+    }
+
+    /**
+     * Get the rack with the most free slots, not counting the hut itself.
+     * An empty rack is returned right away.
+     *
+     * @return the rack or null if there is no rack with a free slot.
+     */
+    @Nullable
+    AbstractTileEntityRack getRackWithMostFreeSlots()
+    {
+        AbstractTileEntityRack emptiestRack = null;
+        int mostFreeSlots = 0;
+        for (final Map.Entry<BlockPos, AbstractTileEntityRack> entry : racks.entrySet())
+        {
+            if (entry.getKey().equals(hutPos))
+            {
+                continue;
+            }
+
+            final AbstractTileEntityRack rack = entry.getValue();
+            if (rack.isEmpty())
+            {
+                return rack;
+            }
+
+            final int free = getFreeSlots(entry.getKey());
+            if (mostFreeSlots < free)
+            {
+                mostFreeSlots = free;
+                emptiestRack = rack;
+            }
+        }
+        return emptiestRack;
+    }
+
+    /**
+     * Get the free slots of a rack.
+     *
+     * @param pos the position of the rack.
+     * @return the free slots, 0 if there is no rack.
+     */
+    int getFreeSlots(@NotNull final BlockPos pos)
+    {
+        return freeSlots.getOrDefault(pos, 0);
+    }
+
+    /**
+     * Get the positions of the containers which are no racks.
+     *
+     * @return the positions.
+     */
+    @NotNull
+    List<BlockPos> getOtherContainers()
+    {
+        return otherContainers;
+    }
+
+    /**
+     * Get the container positions which had no tile entity when the index was built.
+     *
+     * @return the positions.
+     */
+    @NotNull
+    List<BlockPos> getMissingContainers()
+    {
+        return missingContainers;
+    }
+}
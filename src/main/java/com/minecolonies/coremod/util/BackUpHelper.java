@@ -1,5 +1,7 @@
 package com.minecolonies.coremod.util;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Files;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -21,9 +23,19 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.StandardCopyOption;
 import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
+import java.util.Enumeration;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipOutputStream;
 
 import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
@@ -37,6 +49,37 @@ public final class BackUpHelper
      */
     private final static int MAX_COLONY_LOAD = 5000;
 
+    /**
+     * Pattern of the colony file names, groups are the id, the dimension and the deleted suffix.
+     */
+    private static final Pattern COLONY_FILE_PATTERN = Pattern.compile("colony(\\d+)_(-?\\d+)\\.dat(\\.deleted)?");
+
+    /**
+     * Pattern of the backup zip names.
+     */
+    private static final Pattern BACKUP_FILE_PATTERN = Pattern.compile("colonies-.+\\.zip");
+
+    /**
+     * Amount of parts of a manifest entry, the hash and the backup holding the file.
+     */
+    private static final int MANIFEST_ENTRY_LENGTH = 2;
+
+    /**
+     * Amount of files after which the backup progress is logged.
+     */
+    private static final int BACKUP_PROGRESS_INTERVAL = 50;
+
+    /**
+     * Every this many backups all files are packed again, so the zip can be unzipped on its own.
+     */
+    @VisibleForTesting
+    static final int FULL_BACKUP_INTERVAL = 10;
+
+    /**
+     * Manifest key of the amount of incremental backups since the last full one.
+     */
+    private static final String MANIFEST_INCREMENTAL_BACKUPS = "incrementalBackups";
+
     /**
      * Private constructor to hide implicit one.
      */
@@ -48,45 +91,114 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data.
+     * <p>
+     * Backups are incremental: every backup zip holds a manifest with the hash of every colony file and the backup zip containing its content,
+     * and only files which changed since the previous backup are packed again. The zips are written on the background thread of the
+     * {@link ColonySaveQueue}, after all pending colony files reached the disk.
+     * Older backup zips may still hold the content of unchanged files, use {@link #restoreBackup(File, File)} to extract a complete backup.
+     * Every {@link #FULL_BACKUP_INTERVAL}th backup packs every file again, it can be unzipped on its own
+     * and older zips are not needed to restore it or any later backup.
      *
-     * @return true if succesful.
+     * @return future completed with true if succesful.
      */
-    public static boolean backupColonyData()
+    public static CompletableFuture<Boolean> backupColonyData()
     {
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        markDeletedColonies(saveDir);
+
+        final File backupFile = getBackupSaveLocation(new Date());
+        return ColonySaveQueue.submit(() -> writeBackup(saveDir, backupFile));
+    }
+
+    /**
+     * Mark the files of colonies which don't exist anymore as deleted.
+     *
+     * @param saveDir the save directory.
+     */
+    private static void markDeletedColonies(@NotNull final File saveDir)
+    {
+        final File[] files = saveDir.listFiles();
+        if (files == null)
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-            final ZipOutputStream zos = new ZipOutputStream(fos);
+            return;
+        }
 
-            for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+        for (final File file : files)
+        {
+            final Matcher matcher = COLONY_FILE_PATTERN.matcher(file.getName());
+            if (matcher.matches() && matcher.group(3) == null)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                final int id = Integer.parseInt(matcher.group(1));
+                final int dim = Integer.parseInt(matcher.group(2));
+                // Colonies of unloaded dimensions are unknown, not deleted.
+                if (DimensionManager.getWorld(dim) != null && IColonyManager.getInstance().getColonyByDimension(id, dim) == null)
                 {
-                    @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
-                    @NotNull final File fileDeleted = new File(saveDir, String.format(FILENAME_COLONY_DELETED, i, dim));
-                    if (file.exists())
-                    {
-                        // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
-                        {
-                            markColonyDeleted(i, dim);
-                            addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
-                        }
-                        else
-                        {
-                            addToZipFile(String.format(FILENAME_COLONY, i, dim), zos, saveDir);
-                        }
-                    }
-                    else if (fileDeleted.exists())
-                    {
-                        addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
-                    }
+                    markColonyDeleted(id, dim);
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
-            zos.close();
+        }
+    }
+
+    /**
+     * Write an incremental backup zip of the colony files.
+     *
+     * @param saveDir    the save directory holding the colony files.
+     * @param backupFile the zip to write.
+     * @return true if succesful.
+     */
+    @VisibleForTesting
+    static boolean writeBackup(@NotNull final File saveDir, @NotNull final File backupFile)
+    {
+        final File[] files = saveDir.listFiles(file -> file.getName().equals(FILENAME_MINECOLONIES) || COLONY_FILE_PATTERN.matcher(file.getName()).matches());
+        if (files == null)
+        {
+            Log.getLogger().warn("Unable to backup colony data, the save directory is missing");
+            return false;
+        }
+
+        final Properties lastManifest = readManifest(new File(saveDir, FILENAME_LAST_BACKUP_MANIFEST));
+        int incrementalBackups = lastManifest.isEmpty() ? 0 : getIncrementalBackups(lastManifest) + 1;
+        if (incrementalBackups >= FULL_BACKUP_INTERVAL)
+        {
+            lastManifest.clear();
+            incrementalBackups = 0;
+        }
+        final Properties manifest = new Properties();
+        manifest.setProperty(MANIFEST_INCREMENTAL_BACKUPS, Integer.toString(incrementalBackups));
+        int packed = 0;
+        int progress = 0;
+
+        try (ZipOutputStream zos = new ZipOutputStream(new FileOutputStream(backupFile)))
+        {
+            for (final File file : files)
+            {
+                final String hash = Files.asByteSource(file).hash(Hashing.sha256()).toString();
+                final String[] lastEntry = lastManifest.getProperty(file.getName(), "").split(" ");
+
+                if (lastEntry.length == MANIFEST_ENTRY_LENGTH && lastEntry[0].equals(hash) && new File(saveDir, lastEntry[1]).exists())
+                {
+                    manifest.setProperty(file.getName(), hash + " " + lastEntry[1]);
+                }
+                else
+                {
+                    addToZipFile(file.getName(), zos, saveDir);
+                    manifest.setProperty(file.getName(), hash + " " + backupFile.getName());
+                    packed++;
+                }
+
+                progress++;
+                if (progress % BACKUP_PROGRESS_INTERVAL == 0)
+                {
+                    Log.getLogger().info(String.format("Colony backup: %d/%d files checked", progress, files.length));
+                }
+            }
+
+            zos.putNextEntry(new ZipEntry(FILENAME_BACKUP_MANIFEST));
+            manifest.store(zos, null);
+            zos.closeEntry();
         }
         catch (final Exception e)
         {
@@ -97,14 +209,215 @@ public final class BackUpHelper
             return false;
         }
 
+        try (FileOutputStream fos = new FileOutputStream(new File(saveDir, FILENAME_LAST_BACKUP_MANIFEST)))
+        {
+            manifest.store(fos, null);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to store the colony backup manifest, the next backup will be a full one", e);
+        }
+
+        Log.getLogger().info(String.format("Colony backup %s done, packed %d of %d files", backupFile.getName(), packed, files.length));
         return true;
     }
 
+    /**
+     * Extract a complete backup, following the manifest to the older backups holding the unchanged files.
+     *
+     * @param backupFile the backup zip to restore.
+     * @param targetDir  the directory to extract the colony files to.
+     * @return true if all files were found.
+     */
+    public static boolean restoreBackup(@NotNull final File backupFile, @NotNull final File targetDir)
+    {
+        final Properties manifest = readBackupManifest(backupFile);
+        if (manifest == null)
+        {
+            return false;
+        }
+
+        targetDir.mkdirs();
+        boolean complete = true;
+        for (final String fileName : manifest.stringPropertyNames())
+        {
+            if (!fileName.equals(MANIFEST_INCREMENTAL_BACKUPS))
+            {
+                complete &= restoreFile(backupFile, manifest, fileName, new File(targetDir, fileName));
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Read the manifest of a backup zip.
+     * Backups of older versions have none, they hold every file themselves.
+     *
+     * @param backupFile the backup zip.
+     * @return the manifest, or null if the zip can't be read.
+     */
+    @Nullable
+    private static Properties readBackupManifest(@NotNull final File backupFile)
+    {
+        final Properties manifest = new Properties();
+        try (ZipFile zip = new ZipFile(backupFile))
+        {
+            final ZipEntry manifestEntry = zip.getEntry(FILENAME_BACKUP_MANIFEST);
+            if (manifestEntry == null)
+            {
+                final Enumeration<? extends ZipEntry> entries = zip.entries();
+                while (entries.hasMoreElements())
+                {
+                    final ZipEntry entry = entries.nextElement();
+                    manifest.setProperty(entry.getName(), "- " + backupFile.getName());
+                }
+            }
+            else
+            {
+                try (InputStream in = zip.getInputStream(manifestEntry))
+                {
+                    manifest.load(in);
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to read colony backup " + backupFile.getName(), e);
+            return null;
+        }
+        return manifest;
+    }
+
+    /**
+     * Extract a single file of a backup from the zip the manifest points to.
+     *
+     * @param backupFile the backup zip the manifest belongs to.
+     * @param manifest   the manifest of the backup.
+     * @param fileName   the name of the file in the backup.
+     * @param target     the file to extract to.
+     * @return true if the file was found.
+     */
+    private static boolean restoreFile(@NotNull final File backupFile, @NotNull final Properties manifest, @NotNull final String fileName, @NotNull final File target)
+    {
+        final String[] entry = manifest.getProperty(fileName, "").split(" ");
+        final File sourceZip = new File(backupFile.getParentFile(), entry[entry.length - 1]);
+        try (ZipFile zip = new ZipFile(sourceZip))
+        {
+            final ZipEntry zipEntry = zip.getEntry(fileName);
+            if (zipEntry == null)
+            {
+                Log.getLogger().warn("Colony backup " + sourceZip.getName() + " is missing " + fileName);
+                return false;
+            }
+            try (InputStream in = zip.getInputStream(zipEntry))
+            {
+                java.nio.file.Files.copy(in, target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to restore " + fileName + " from colony backup " + sourceZip.getName(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Restore the file of a colony from the newest backup zip holding it, into the save directory.
+     * Incremental backups are followed through their manifest to the older zip holding the file.
+     *
+     * @param saveDir   the save directory holding the backups.
+     * @param colonyId  the id of the colony.
+     * @param dimension the colony dimension.
+     * @return the restored file, or null if no backup holds the colony.
+     */
+    @Nullable
+    private static File restoreColonyFile(@NotNull final File saveDir, final int colonyId, final int dimension)
+    {
+        final File[] backups = saveDir.listFiles(file -> BACKUP_FILE_PATTERN.matcher(file.getName()).matches());
+        if (backups == null)
+        {
+            return null;
+        }
+
+        // The backup date format sorts by name.
+        Arrays.sort(backups, Comparator.comparing(File::getName).reversed());
+        final String[] fileNames = {String.format(FILENAME_COLONY, colonyId, dimension), String.format(FILENAME_COLONY_DELETED, colonyId, dimension)};
+        for (final File backup : backups)
+        {
+            final Properties manifest = readBackupManifest(backup);
+            if (manifest == null)
+            {
+                continue;
+            }
+
+            for (final String fileName : fileNames)
+            {
+                if (manifest.containsKey(fileName))
+                {
+                    final File target = new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension));
+                    if (restoreFile(backup, manifest, fileName, target))
+                    {
+                        Log.getLogger().warn("Restored colony:" + colonyId + " from backup " + backup.getName());
+                        return target;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the amount of incremental backups since the last full one.
+     *
+     * @param manifest the manifest of the last backup.
+     * @return the amount, {@link #FULL_BACKUP_INTERVAL} if unknown, to start over with a full backup.
+     */
+    @VisibleForTesting
+    static int getIncrementalBackups(@NotNull final Properties manifest)
+    {
+        try
+        {
+            return Integer.parseInt(manifest.getProperty(MANIFEST_INCREMENTAL_BACKUPS, Integer.toString(FULL_BACKUP_INTERVAL)));
+        }
+        catch (final NumberFormatException e)
+        {
+            return FULL_BACKUP_INTERVAL;
+        }
+    }
+
+    /**
+     * Read a backup manifest.
+     *
+     * @param file the manifest file.
+     * @return the manifest, empty if there is none.
+     */
+    @NotNull
+    @VisibleForTesting
+    static Properties readManifest(@NotNull final File file)
+    {
+        final Properties manifest = new Properties();
+        if (file.exists())
+        {
+            try (FileInputStream fis = new FileInputStream(file))
+            {
+                manifest.load(fis);
+            }
+            catch (final IOException e)
+            {
+                Log.getLogger().warn("Unable to read the colony backup manifest, doing a full backup", e);
+                manifest.clear();
+            }
+        }
+        return manifest;
+    }
+
     /**
      * Loads all colonies from backup files which the world cap is missing.
      */
     public static void loadMissingColonies()
     {
+        ColonySaveQueue.flush();
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
 
         for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
@@ -225,20 +538,17 @@ public final class BackUpHelper
 
     /**
      * Save all the Colonies.
+     * The files are written on the background thread of the {@link ColonySaveQueue}.
      */
     public static void saveColonies()
     {
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         IColonyManager.getInstance().writeToNBT(compound);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
-        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        ColonySaveQueue.queue(getSaveLocation(), compound);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final NBTTagCompound colonyCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            ColonySaveQueue.queueColony(colony, colony.getColonyTag());
         }
     }
 
@@ -252,6 +562,8 @@ public final class BackUpHelper
     {
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
+        ColonySaveQueue.cancel(todelete);
+        ColonySaveQueue.flush();
         if (todelete.exists())
         {
             new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyID, dimensionID)).delete();
@@ -259,24 +571,46 @@ public final class BackUpHelper
         }
     }
 
+    /**
+     * Load the NBT of a colony from its file, its deleted file or, if both are gone, from the newest backup zip holding it.
+     *
+     * @param saveDir   the save directory.
+     * @param colonyId  the id of the colony.
+     * @param dimension the colony dimension.
+     * @return the colony NBT, or null if there is none.
+     */
+    @Nullable
+    @VisibleForTesting
+    static NBTTagCompound loadColonyNBT(@NotNull final File saveDir, final int colonyId, final int dimension)
+    {
+        NBTTagCompound compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
+        if (compound == null)
+        {
+            compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyId, dimension)));
+        }
+        if (compound == null)
+        {
+            compound = loadNBTFromPath(restoreColonyFile(saveDir, colonyId, dimension));
+        }
+        return compound;
+    }
+
     /**
      * Load the colony backup by colony.
+     * Falls back to the newest backup zip holding the colony if its files are gone.
      *
      * @param colonyId  of the colony.
      * @param dimension the colony dimension.
      */
     public static void loadColonyBackup(final int colonyId, final int dimension, final boolean claimChunks)
     {
+        ColonySaveQueue.flush();
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
-        NBTTagCompound compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
+        final NBTTagCompound compound = loadColonyNBT(saveDir, colonyId, dimension);
         if (compound == null)
         {
-            compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY_DELETED, colonyId, dimension)));
-            if (compound == null)
-            {
-                Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
-                return;
-            }
+            Log.getLogger().warn("Can't find NBT of colony: " + colonyId + " at location: " + new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
+            return;
         }
 
         IColony colony = IColonyManager.getInstance().getColonyByDimension(colonyId, dimension);
@@ -0,0 +1,329 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.UpdateChunkClaimsMessage;
+import com.minecolonies.coremod.network.messages.UpdateChunkRangeCapabilityMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.Constants.BLOCKS_PER_CHUNK;
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Collects the chunk claim changes of a tick and sends them batched per dimension,
+ * only to the players which have the changed chunks loaded.
+ * Also sends the owner of every chunk a player starts watching, once the server sent the chunk itself,
+ * and remembers which owners each player received, so claims are only sent for chunks the client has.
+ */
+public final class ChunkClaimSyncHelper
+{
+    /**
+     * The changed chunks of this tick, by dimension.
+     */
+    private static final Map<Integer, Set<Long>> changedChunks = new HashMap<>();
+
+    /**
+     * The chunks each player watches, by player.
+     */
+    private static final Map<UUID, WatchedChunks> watchedChunks = new HashMap<>();
+
+    /**
+     * Amount of claim packets and chunk entries sent since the server started.
+     */
+    private static long packetsSent = 0;
+    private static long chunksSent  = 0;
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ChunkClaimSyncHelper()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue a chunk whose claim data changed, it is sent at the end of the tick.
+     *
+     * @param world the world of the chunk.
+     * @param chunk the chunk.
+     */
+    public static void queueChunk(@NotNull final World world, @NotNull final Chunk chunk)
+    {
+        changedChunks.computeIfAbsent(world.provider.getDimension(), dim -> new LinkedHashSet<>()).add(ChunkPos.asLong(chunk.x, chunk.z));
+    }
+
+    /**
+     * Queue the owner of a chunk for a player, called after the chunk was sent to the player.
+     *
+     * @param player the player.
+     * @param pos    the chunk.
+     */
+    public static void watchChunk(@NotNull final EntityPlayerMP player, @NotNull final ChunkPos pos)
+    {
+        final int dimension = player.world.provider.getDimension();
+        WatchedChunks watched = watchedChunks.get(player.getUniqueID());
+        if (watched == null || watched.dimension != dimension)
+        {
+            watched = new WatchedChunks(dimension);
+            watchedChunks.put(player.getUniqueID(), watched);
+        }
+        watched.player = player;
+        watched.pending.add(ChunkPos.asLong(pos.x, pos.z));
+    }
+
+    /**
+     * Forget the owner of a chunk a player received, called when the chunk was unloaded on the client.
+     *
+     * @param player the player.
+     * @param pos    the chunk.
+     */
+    public static void unwatchChunk(@NotNull final EntityPlayerMP player, @NotNull final ChunkPos pos)
+    {
+        final WatchedChunks watched = watchedChunks.get(player.getUniqueID());
+        if (watched != null && watched.dimension == player.world.provider.getDimension())
+        {
+            final long chunkPos = ChunkPos.asLong(pos.x, pos.z);
+            watched.owners.remove(chunkPos);
+            watched.pending.remove(chunkPos);
+        }
+    }
+
+    /**
+     * Send all queued chunks and the owners of newly watched chunks, called at the end of the server tick.
+     */
+    public static void flush()
+    {
+        for (final Map.Entry<Integer, Set<Long>> entry : changedChunks.entrySet())
+        {
+            final WorldServer world = DimensionManager.getWorld(entry.getKey());
+            if (world != null && !world.playerEntities.isEmpty())
+            {
+                sendClaims(world, entry.getValue());
+            }
+        }
+        changedChunks.clear();
+
+        for (final WatchedChunks watched : watchedChunks.values())
+        {
+            if (!watched.pending.isEmpty())
+            {
+                sendOwners(watched);
+            }
+        }
+    }
+
+    /**
+     * Send the claims of the changed chunks of a world to the players which have them loaded.
+     *
+     * @param world  the world.
+     * @param chunks the changed chunks.
+     */
+    private static void sendClaims(@NotNull final WorldServer world, @NotNull final Set<Long> chunks)
+    {
+        final List<UpdateChunkClaimsMessage.ChunkClaim> claims = new ArrayList<>();
+        for (final long chunkPos : chunks)
+        {
+            final int chunkX = (int) chunkPos;
+            final int chunkZ = (int) (chunkPos >> 32);
+            if (!world.isBlockLoaded(new BlockPos(chunkX * BLOCKS_PER_CHUNK, 0, chunkZ * BLOCKS_PER_CHUNK)))
+            {
+                continue;
+            }
+
+            final IColonyTagCapability cap = world.getChunk(chunkX, chunkZ).getCapability(CLOSE_COLONY_CAP, null);
+            if (cap != null)
+            {
+                claims.add(new UpdateChunkClaimsMessage.ChunkClaim(chunkX, chunkZ, cap.getOwningColony(), cap.getAllCloseColonies()));
+            }
+        }
+
+        if (claims.isEmpty())
+        {
+            return;
+        }
+
+        for (final EntityPlayer player : world.playerEntities)
+        {
+            final WatchedChunks watched = watchedChunks.get(player.getUniqueID());
+            if (!(player instanceof EntityPlayerMP) || watched == null || watched.dimension != world.provider.getDimension())
+            {
+                continue;
+            }
+
+            // Chunks the client does not have yet get their owner once they are watched.
+            final List<UpdateChunkClaimsMessage.ChunkClaim> visibleClaims = new ArrayList<>();
+            for (final UpdateChunkClaimsMessage.ChunkClaim claim : claims)
+            {
+                final long chunkPos = ChunkPos.asLong(claim.getX(), claim.getZ());
+                if (watched.owners.containsKey(chunkPos))
+                {
+                    visibleClaims.add(claim);
+                    watched.owners.put(chunkPos, claim.getOwningColony());
+                }
+            }
+
+            if (!visibleClaims.isEmpty())
+            {
+                MineColonies.getNetwork().sendTo(new UpdateChunkClaimsMessage(visibleClaims), (EntityPlayerMP) player);
+                packetsSent++;
+                chunksSent += visibleClaims.size();
+            }
+        }
+    }
+
+    /**
+     * Send the owners of the chunks a player started watching this tick.
+     *
+     * @param watched the chunks of the player.
+     */
+    private static void sendOwners(@NotNull final WatchedChunks watched)
+    {
+        final EntityPlayerMP player = watched.player;
+        final World world = player.world;
+        if (world.provider.getDimension() != watched.dimension)
+        {
+            watched.pending.clear();
+            return;
+        }
+
+        // Sorted by z and then x, so neighbouring chunks along the x axis form runs.
+        final List<Long> pending = new ArrayList<>(watched.pending);
+        pending.sort(Comparator.comparingInt((Long pos) -> (int) (pos >> 32)).thenComparingInt(pos -> (int) (long) pos));
+        watched.pending.clear();
+
+        final List<UpdateChunkRangeCapabilityMessage.OwnerRun> runs = new ArrayList<>();
+        int runStart = 0;
+        int runZ = 0;
+        int runLength = 0;
+        int runOwner = 0;
+        for (final long chunkPos : pending)
+        {
+            final int chunkX = (int) chunkPos;
+            final int chunkZ = (int) (chunkPos >> 32);
+            final Integer owner = getOwner(world, chunkX, chunkZ);
+            if (owner == null)
+            {
+                continue;
+            }
+            watched.owners.put(chunkPos, owner);
+
+            if (runLength > 0 && (chunkZ != runZ || chunkX != runStart + runLength || owner != runOwner))
+            {
+                runs.add(new UpdateChunkRangeCapabilityMessage.OwnerRun(runStart, runZ, runLength, runOwner));
+                runLength = 0;
+            }
+
+            if (runLength == 0)
+            {
+                runStart = chunkX;
+                runZ = chunkZ;
+                runOwner = owner;
+            }
+            runLength++;
+        }
+
+        if (runLength > 0)
+        {
+            runs.add(new UpdateChunkRangeCapabilityMessage.OwnerRun(runStart, runZ, runLength, runOwner));
+        }
+
+        if (!runs.isEmpty())
+        {
+            MineColonies.getNetwork().sendTo(new UpdateChunkRangeCapabilityMessage(runs), player);
+        }
+    }
+
+    /**
+     * Get the owning colony of a loaded chunk.
+     *
+     * @param world  the world.
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     * @return the owner, 0 if none or null if the chunk is not loaded.
+     */
+    @Nullable
+    private static Integer getOwner(@NotNull final World world, final int chunkX, final int chunkZ)
+    {
+        if (!world.isBlockLoaded(new BlockPos(chunkX * BLOCKS_PER_CHUNK, 0, chunkZ * BLOCKS_PER_CHUNK)))
+        {
+            return null;
+        }
+
+        final IColonyTagCapability cap = world.getChunk(chunkX, chunkZ).getCapability(CLOSE_COLONY_CAP, null);
+        return cap == null ? null : cap.getOwningColony();
+    }
+
+    /**
+     * Forget the chunks a player watches, called when the player left.
+     *
+     * @param player the player.
+     */
+    public static void forgetPlayer(@NotNull final EntityPlayer player)
+    {
+        watchedChunks.remove(player.getUniqueID());
+    }
+
+    /**
+     * Get the amount of claim packets sent since the server started.
+     *
+     * @return the amount.
+     */
+    public static long getPacketsSent()
+    {
+        return packetsSent;
+    }
+
+    /**
+     * Get the amount of chunk entries sent in claim packets since the server started.
+     *
+     * @return the amount.
+     */
+    public static long getChunksSent()
+    {
+        return chunksSent;
+    }
+
+    /**
+     * The chunks a player watches in a dimension.
+     */
+    private static final class WatchedChunks
+    {
+        /**
+         * The dimension the chunks are in.
+         */
+        private final int dimension;
+
+        /**
+         * The owning colony the player received, by chunk.
+         */
+        private final Map<Long, Integer> owners = new HashMap<>();
+
+        /**
+         * Chunks sent to the player this tick, whose owners are not sent yet.
+         */
+        private final Set<Long> pending = new HashSet<>();
+
+        /**
+         * The player, updated on every watched chunk as the entity is replaced on respawn.
+         */
+        private EntityPlayerMP player;
+
+        private WatchedChunks(final int dimension)
+        {
+            this.dimension = dimension;
+        }
+    }
+}
@@ -8,9 +8,7 @@ import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ChunkLoadStorage;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.IColonyManagerCapability;
-import com.minecolonies.coremod.network.messages.UpdateChunkCapabilityMessage;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
@@ -94,7 +92,7 @@ public final class ChunkDataHelper
                         }
                         if (dirty)
                         {
-                            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(closeCap, chunk.x, chunk.z));
+                            ChunkClaimSyncHelper.queueChunk(world, chunk);
                         }
                     }
                 }
@@ -147,7 +145,7 @@ public final class ChunkDataHelper
 
         if (cap != null)
         {
-            MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+            ChunkClaimSyncHelper.queueChunk(chunk.getWorld(), chunk);
         }
     }
 
@@ -476,9 +474,17 @@ public final class ChunkDataHelper
         else
         {
             cap.removeColony(id, chunk);
+            if (cap.getOwningColony() != id)
+            {
+                final IColony colony = IColonyManager.getInstance().getColonyByDimension(id, world.provider.getDimension());
+                if (colony != null)
+                {
+                    colony.removeLoadedChunk(ChunkPos.asLong(chunk.x, chunk.z));
+                }
+            }
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        ChunkClaimSyncHelper.queueChunk(world, chunk);
         return true;
     }
 
@@ -524,7 +530,7 @@ public final class ChunkDataHelper
             cap.removeBuildingClaim(id, buildingPos, chunk);
         }
 
-        MineColonies.getNetwork().sendToAll(new UpdateChunkCapabilityMessage(cap, chunk.x, chunk.z));
+        ChunkClaimSyncHelper.queueChunk(world, chunk);
         return true;
     }
 }
@@ -0,0 +1,166 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_COLONY;
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Writes colony files on a background thread.
+ * <p>
+ * Colony tags are serialized on the main thread, which owns the colony state, and are never modified afterwards,
+ * every serialization creates a new tag. So the writer thread shares them without a copy.
+ * The writer compares each tag with the one it last wrote to the file and skips the write if nothing changed,
+ * and a file which is still waiting to be written only gets its data replaced, so a slow disk never builds up a backlog of outdated colony states.
+ */
+public final class ColonySaveQueue
+{
+    /**
+     * Data waiting to be written, by file. Guarded by itself.
+     */
+    private static final Map<File, NBTTagCompound> pending = new HashMap<>();
+
+    /**
+     * The data last written per file, only accessed on the writer thread.
+     */
+    private static final Map<File, NBTTagCompound> lastWritten = new HashMap<>();
+
+    /**
+     * The single writer thread, keeps the order of writes.
+     */
+    private static final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "Minecolonies Colony Saving");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Private constructor to hide implicit one.
+     */
+    private ColonySaveQueue()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Queue the current state of a colony to be written to its colony file.
+     * The file is not written if its content would not change.
+     *
+     * @param colony the colony.
+     * @param tag    the tag of the colony, as returned by {@link IColony#getColonyTag()}.
+     */
+    public static void queueColony(@NotNull final IColony colony, @Nullable final NBTTagCompound tag)
+    {
+        if (tag == null || DimensionManager.getWorld(0) == null)
+        {
+            return;
+        }
+
+        final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        queue(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), tag);
+    }
+
+    /**
+     * Queue a compound to be written to a file, unless it equals the data last written to the file.
+     * The compound must not be changed afterwards.
+     *
+     * @param file     the file.
+     * @param compound the compound.
+     */
+    public static void queue(@NotNull final File file, @NotNull final NBTTagCompound compound)
+    {
+        synchronized (pending)
+        {
+            if (pending.put(file, compound) != null)
+            {
+                // Already scheduled, the scheduled write picks up the new data.
+                return;
+            }
+        }
+
+        executor.execute(() -> {
+            final NBTTagCompound data;
+            synchronized (pending)
+            {
+                data = pending.remove(file);
+            }
+            if (data != null && !data.equals(lastWritten.get(file)))
+            {
+                BackUpHelper.saveNBTToPath(file, data);
+                lastWritten.put(file, data);
+            }
+        });
+    }
+
+    /**
+     * Drop a pending write of a file, used before the file is renamed or deleted.
+     *
+     * @param file the file.
+     */
+    public static void cancel(@NotNull final File file)
+    {
+        synchronized (pending)
+        {
+            pending.remove(file);
+        }
+        executor.execute(() -> lastWritten.remove(file));
+    }
+
+    /**
+     * Forget the data written so far, called when the worlds unload.
+     * Writes which are already queued still happen.
+     */
+    public static void reset()
+    {
+        executor.execute(lastWritten::clear);
+    }
+
+    /**
+     * Run a task on the writer thread, after all writes queued so far.
+     *
+     * @param task the task.
+     * @param <T>  the result type.
+     * @return the future of the result.
+     */
+    public static <T> CompletableFuture<T> submit(@NotNull final Supplier<T> task)
+    {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Block until all queued writes reached the disk.
+     * Has to be called before the colony files are read, copied or the server shuts down.
+     */
+    public static void flush()
+    {
+        try
+        {
+            executor.submit(() -> {}).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            Log.getLogger().warn("Interrupted while waiting for the colony files to be written", e);
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Failed waiting for the colony files to be written", e);
+        }
+    }
+}
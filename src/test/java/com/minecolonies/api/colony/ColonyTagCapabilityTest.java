@@ -0,0 +1,141 @@
+package com.minecolonies.api.colony;
+
+import net.minecraft.nbt.NBTBase;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.minecolonies.api.util.constant.NbtTagConstants.*;
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ColonyTagCapabilityTest
+{
+    /**
+     * Amount of colonies of the simulated world.
+     */
+    private static final int COLONY_COUNT = 200;
+
+    @Mock
+    private Chunk chunk;
+
+    private IColonyTagCapability.Impl cap;
+
+    @Before
+    public void setUp()
+    {
+        cap = new IColonyTagCapability.Impl();
+    }
+
+    @Test
+    public void closeColoniesAreSortedAndUnique()
+    {
+        cap.addColony(5, chunk);
+        cap.addColony(2, chunk);
+        cap.addColony(5, chunk);
+        cap.addColony(9, chunk);
+
+        assertEquals(Arrays.asList(2, 5, 9), cap.getAllCloseColonies());
+
+        cap.setOwningColony(5, chunk);
+        cap.removeColony(5, chunk);
+
+        assertEquals(Arrays.asList(2, 9), cap.getAllCloseColonies());
+        assertEquals(0, cap.getOwningColony());
+    }
+
+    @Test
+    public void buildingClaimsHandOverOwnership()
+    {
+        final BlockPos first = new BlockPos(10, 64, -20);
+        final BlockPos second = new BlockPos(12, 70, -18);
+
+        cap.addBuildingClaim(3, first, chunk);
+        cap.addBuildingClaim(3, first, chunk);
+        cap.addBuildingClaim(7, second, chunk);
+
+        assertEquals(3, cap.getOwningColony());
+        assertEquals(Collections.singleton(first), cap.getAllClaimingBuildings().get(3));
+
+        cap.removeBuildingClaim(3, first, chunk);
+
+        assertEquals(7, cap.getOwningColony());
+        assertFalse(cap.getAllClaimingBuildings().containsKey(3));
+
+        cap.removeBuildingClaim(7, second, chunk);
+
+        assertEquals(0, cap.getOwningColony());
+        assertTrue(cap.getAllClaimingBuildings().isEmpty());
+    }
+
+    @Test
+    public void nbtRoundTripOfManyColonies()
+    {
+        final IColonyTagCapability.Storage storage = new IColonyTagCapability.Storage();
+        for (int id = 1; id <= COLONY_COUNT; id++)
+        {
+            cap.addColony(id, chunk);
+            cap.addBuildingClaim(id, new BlockPos(id, 64, -id), chunk);
+            cap.addBuildingClaim(id, new BlockPos(-id, 70, id), chunk);
+        }
+
+        final NBTBase nbt = storage.writeNBT(null, cap, null);
+        final IColonyTagCapability.Impl loaded = new IColonyTagCapability.Impl();
+        storage.readNBT(null, loaded, null, nbt);
+
+        assertEquals(cap.getOwningColony(), loaded.getOwningColony());
+        assertEquals(cap.getAllCloseColonies(), loaded.getAllCloseColonies());
+        assertEquals(cap.getAllClaimingBuildings(), loaded.getAllClaimingBuildings());
+    }
+
+    @Test
+    public void readsExistingNbtLayout()
+    {
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger(TAG_ID, 4);
+
+        final NBTTagList colonies = new NBTTagList();
+        for (final int id : new int[] {8, 4})
+        {
+            final NBTTagCompound colony = new NBTTagCompound();
+            colony.setInteger(TAG_ID, id);
+            colonies.appendTag(colony);
+        }
+        compound.setTag(TAG_COLONIES, colonies);
+
+        final NBTTagCompound building = new NBTTagCompound();
+        final NBTTagCompound pos = new NBTTagCompound();
+        pos.setInteger("x", 1);
+        pos.setInteger("y", 2);
+        pos.setInteger("z", 3);
+        building.setTag(TAG_BUILDING, pos);
+        final NBTTagList buildings = new NBTTagList();
+        buildings.appendTag(building);
+
+        final NBTTagCompound claim = new NBTTagCompound();
+        claim.setInteger(TAG_ID, 4);
+        claim.setTag(TAG_BUILDINGS, buildings);
+        final NBTTagList claims = new NBTTagList();
+        claims.appendTag(claim);
+        compound.setTag(TAG_BUILDINGS_CLAIM, claims);
+
+        cap.readFromNBT(compound);
+
+        final Map<Integer, Set<BlockPos>> expectedClaims = Collections.singletonMap(4, new HashSet<>(Collections.singletonList(new BlockPos(1, 2, 3))));
+        assertEquals(4, cap.getOwningColony());
+        assertEquals(Arrays.asList(4, 8), cap.getAllCloseColonies());
+        assertEquals(expectedClaims, cap.getAllClaimingBuildings());
+    }
+}
@@ -0,0 +1,136 @@
+package com.minecolonies.api.crafting;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.items.ItemStackHandler;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the single pass inventory census used to check and extract recipe ingredients.
+ */
+public class InventoryCensusTest
+{
+    private ItemStackHandler first;
+    private ItemStackHandler second;
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        first = new ItemStackHandler(4);
+        second = new ItemStackHandler(3);
+    }
+
+    @Test
+    public void countsItemsOfAllHandlers()
+    {
+        first.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE, 10));
+        first.setStackInSlot(2, new ItemStack(Items.STICK, 3));
+        second.setStackInSlot(1, new ItemStack(Blocks.COBBLESTONE, 5));
+
+        final InventoryCensus census = new InventoryCensus(first, second);
+        assertEquals(15, census.getCount(new ItemStack(Blocks.COBBLESTONE)));
+        assertEquals(3, census.getCount(new ItemStack(Items.STICK)));
+        assertEquals(0, census.getCount(new ItemStack(Blocks.SAND)));
+        assertEquals(4, census.getFreeSlots());
+    }
+
+    @Test
+    public void countsStacksWithDifferentNbtTogether()
+    {
+        final ItemStack named = new ItemStack(Items.STICK, 2);
+        named.setTagCompound(new NBTTagCompound());
+        named.getTagCompound().setString("name", "wand");
+        first.setStackInSlot(0, named);
+        first.setStackInSlot(1, new ItemStack(Items.STICK, 4));
+        first.setStackInSlot(2, new ItemStack(Blocks.PLANKS, 1, 1));
+
+        final InventoryCensus census = new InventoryCensus(first);
+        assertEquals(6, census.getCount(new ItemStack(Items.STICK)));
+        assertEquals(0, census.getCount(new ItemStack(Blocks.PLANKS, 1, 0)));
+        assertEquals(1, census.getCount(new ItemStack(Blocks.PLANKS, 1, 1)));
+    }
+
+    @Test
+    public void extractsAcrossSlotsAndHandlers()
+    {
+        first.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE, 3));
+        first.setStackInSlot(3, new ItemStack(Blocks.COBBLESTONE, 4));
+        second.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE, 5));
+        second.setStackInSlot(2, new ItemStack(Items.STICK, 2));
+
+        final InventoryCensus census = new InventoryCensus(first, second);
+        assertTrue(census.hasIngredients(ingredients(10), 1));
+        assertTrue(census.extractIngredients(ingredients(10), 1));
+
+        assertTrue(first.getStackInSlot(0).isEmpty());
+        assertTrue(first.getStackInSlot(3).isEmpty());
+        assertEquals(2, second.getStackInSlot(0).getCount());
+        assertEquals(1, second.getStackInSlot(2).getCount());
+        assertEquals(2, census.getCount(new ItemStack(Blocks.COBBLESTONE)));
+        assertEquals(1, census.getCount(new ItemStack(Items.STICK)));
+    }
+
+    @Test
+    public void missingIngredientTakesNothing()
+    {
+        first.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE, 12));
+        second.setStackInSlot(0, new ItemStack(Items.STICK, 2));
+
+        final InventoryCensus census = new InventoryCensus(first, second);
+        second.setStackInSlot(0, ItemStack.EMPTY);
+
+        assertFalse(census.extractIngredients(ingredients(10), 1));
+        assertEquals(12, first.getStackInSlot(0).getCount());
+        assertEquals(12, census.getCount(new ItemStack(Blocks.COBBLESTONE)));
+    }
+
+    @Test
+    public void shortExtractionIsPutBack()
+    {
+        final ItemStackHandler stingy = new ItemStackHandler(1)
+        {
+            @Override
+            public ItemStack extractItem(final int slot, final int amount, final boolean simulate)
+            {
+                return super.extractItem(slot, simulate ? amount : amount - 1, simulate);
+            }
+        };
+        first.setStackInSlot(0, new ItemStack(Blocks.COBBLESTONE, 10));
+        stingy.setStackInSlot(0, new ItemStack(Items.STICK, 2));
+
+        final InventoryCensus census = new InventoryCensus(first, stingy);
+        assertFalse(census.extractIngredients(ingredients(10), 1));
+        assertEquals(10, first.getStackInSlot(0).getCount());
+        assertEquals(2, stingy.getStackInSlot(0).getCount());
+    }
+
+    /**
+     * Create the ingredients of a recipe of cobblestone and a stick.
+     *
+     * @param cobblestone the amount of cobblestone.
+     * @return the ingredients.
+     */
+    private static List<ItemStorage> ingredients(final int cobblestone)
+    {
+        final List<ItemStorage> ingredients = new ArrayList<>();
+        ingredients.add(new ItemStorage(new ItemStack(Blocks.COBBLESTONE), cobblestone, false));
+        ingredients.add(new ItemStorage(new ItemStack(Items.STICK), 1, false));
+        return ingredients;
+    }
+}
@@ -0,0 +1,130 @@
+package com.minecolonies.coremod.colony.requestsystem.management.manager;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.crafting.RecipeStorage;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.ItemStack;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the recipe manager, including recipes registered by colonies which are parsed in parallel.
+ */
+public class StandardRecipeManagerTest
+{
+    /**
+     * Amount of crusher colonies loaded at once.
+     */
+    private static final int COLONY_COUNT = 64;
+
+    /**
+     * Threads of the loading pool.
+     */
+    private static final int THREADS = 8;
+
+    private StandardRecipeManager manager;
+
+    private List<ItemStack[]> crusherModes;
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        manager = new StandardRecipeManager();
+        crusherModes = new ArrayList<>();
+        crusherModes.add(new ItemStack[] {new ItemStack(Blocks.COBBLESTONE), new ItemStack(Blocks.GRAVEL)});
+        crusherModes.add(new ItemStack[] {new ItemStack(Blocks.GRAVEL), new ItemStack(Blocks.SAND)});
+        crusherModes.add(new ItemStack[] {new ItemStack(Blocks.SAND), new ItemStack(Blocks.CLAY)});
+    }
+
+    @Test
+    public void equalRecipesShareOneToken()
+    {
+        final IToken first = manager.checkOrAddRecipe(createRecipe(crusherModes.get(0)));
+        final IToken second = manager.checkOrAddRecipe(createRecipe(crusherModes.get(0)));
+
+        assertEquals(first, second);
+        assertEquals(1, manager.getRecipes().size());
+        assertEquals(Collections.singleton(first), manager.getRecipeIdsForOutput(new ItemStack(Blocks.GRAVEL)));
+        assertTrue(manager.getRecipeIdsForOutput(new ItemStack(Blocks.STONE)).isEmpty());
+    }
+
+    @Test
+    public void crusherColoniesParsedInParallel() throws Exception
+    {
+        final ForkJoinPool pool = new ForkJoinPool(THREADS);
+        final List<List<IToken>> tokensPerColony;
+        try
+        {
+            // Every crusher creates its own recipe instances with fresh tokens while its colony is parsed.
+            tokensPerColony = pool.submit(() -> IntStream.range(0, COLONY_COUNT)
+                                                  .parallel()
+                                                  .mapToObj(colony -> registerCrusherRecipes())
+                                                  .collect(Collectors.toList())).get();
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+
+        assertEquals(crusherModes.size(), manager.getRecipes().size());
+        for (final List<IToken> tokens : tokensPerColony)
+        {
+            assertEquals(tokensPerColony.get(0), tokens);
+        }
+
+        for (int mode = 0; mode < crusherModes.size(); mode++)
+        {
+            final IToken token = tokensPerColony.get(0).get(mode);
+            assertEquals(Collections.singleton(token), manager.getRecipeIdsForOutput(crusherModes.get(mode)[1]));
+            assertEquals(token, manager.getRecipeId(createRecipe(crusherModes.get(mode))));
+        }
+    }
+
+    /**
+     * Register the recipes of one crusher the way it does while its colony is parsed.
+     *
+     * @return the tokens of the recipes, by mode.
+     */
+    private List<IToken> registerCrusherRecipes()
+    {
+        final List<IToken> tokens = new ArrayList<>();
+        for (final ItemStack[] mode : crusherModes)
+        {
+            tokens.add(manager.checkOrAddRecipe(createRecipe(mode)));
+        }
+        return tokens;
+    }
+
+    /**
+     * Create a crusher recipe with a new token.
+     *
+     * @param mode the input and output.
+     * @return the recipe.
+     */
+    private static IRecipeStorage createRecipe(final ItemStack[] mode)
+    {
+        final List<ItemStack> input = new ArrayList<>();
+        input.add(mode[0].copy());
+        return new RecipeStorage(new StandardToken(UUID.randomUUID()), input, 2, mode[1].copy(), Blocks.FURNACE);
+    }
+}
@@ -23,6 +23,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverFactor
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.Colony;
@@ -41,6 +42,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -53,6 +55,8 @@ import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 import static org.junit.Assert.*;
 import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.powermock.api.mockito.PowerMockito.doThrow;
 import static org.powermock.api.mockito.PowerMockito.spy;
@@ -156,6 +160,34 @@ public class StandardRequestManagerTest
         }
     }
 
+    /**
+     * Measures the default assignment, which looks up the resolvers of the request type for every request.
+     * Ignored in the unit run, remove the annotation to run it by hand.
+     */
+    @Ignore("Benchmark, run by hand")
+    @Test
+    public void benchmarkAssignmentThroughput() throws Exception
+    {
+        requestManager.onProviderAddedToColony(provider);
+
+        final int requestCount = 5000;
+        final long startTime = System.nanoTime();
+        for (int i = 0; i < requestCount; i++)
+        {
+            // The low priority resolver fails the test if it gets used.
+            final IToken<?> token = requestManager.createAndAssignRequest(TestRequester.INSTANCE, new StringRequestable(LOG));
+            assertEquals(RequestState.COMPLETED, requestManager.getRequestForToken(token).getState());
+            requestManager.updateRequestState(token, RequestState.RECEIVED);
+        }
+        final long elapsedMillis = Math.max(1, (System.nanoTime() - startTime) / 1_000_000);
+
+        verify(resolverHighPrio, times(requestCount)).resolveRequest(anyObject(), anyObject());
+        assertTrue(requestManager.getRequestIdentitiesDataStore().getIdentities().isEmpty());
+        Log.getLogger().info("Assigned " + requestCount + " requests in " + elapsedMillis + " ms, " + (requestCount * 1000L / elapsedMillis) + " requests per second");
+
+        requestManager.onProviderRemovedFromColony(provider);
+    }
+
     @Test
     public void testUpdateRequestState() throws Exception
     {
@@ -186,6 +218,52 @@ public class StandardRequestManagerTest
         assertNotNull(requestManager);
     }
 
+    @Test
+    public void testSyncOnlyCarriesRecordedChanges()
+    {
+        requestManager.onProviderAddedToColony(provider);
+        assertTrue(requestManager.collectSyncChanges().isReset());
+        assertTrue(requestManager.collectSyncChanges().isEmpty());
+
+        final IToken<?> token = requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable(LOG));
+        StandardRequestManager.SyncChanges changes = requestManager.collectSyncChanges();
+        assertFalse(changes.isReset());
+        assertNull(changes.getBase());
+        assertEquals(1, changes.getChangedRequests().size());
+        assertTrue(changes.getRemovedRequests().isEmpty());
+        assertTrue(requestManager.collectSyncChanges().isEmpty());
+
+        @SuppressWarnings(UNCHECKED) final IRequest<StringRequestable> request = (IRequest<StringRequestable>) requestManager.getRequestForToken(token);
+        request.setResult(new StringRequestable(LOG));
+        final IToken<?> shortLived = requestManager.createRequest(TestRequester.INSTANCE, new StringRequestable(LOG));
+        requestManager.updateRequestState(shortLived, RequestState.RECEIVED);
+        changes = requestManager.collectSyncChanges();
+        assertEquals(1, changes.getChangedRequests().size());
+        assertTrue(changes.getRemovedRequests().isEmpty());
+
+        requestManager.updateRequestState(token, RequestState.RECEIVED);
+        changes = requestManager.collectSyncChanges();
+        assertTrue(changes.getChangedRequests().isEmpty());
+        assertEquals(1, changes.getRemovedRequests().size());
+
+        final IToken<?> assigned = requestManager.createAndAssignRequest(TestRequester.INSTANCE, new StringRequestable(LOG));
+        changes = requestManager.collectSyncChanges();
+        assertNull(changes.getBase());
+        assertEquals(1, changes.getChangedAssignments().size());
+        assertEquals(1, changes.getChangedRequests().size());
+
+        requestManager.updateRequestState(assigned, RequestState.RECEIVED);
+        changes = requestManager.collectSyncChanges();
+        assertNull(changes.getBase());
+        assertEquals(1, changes.getChangedAssignments().size());
+        assertEquals(1, changes.getRemovedRequests().size());
+
+        final StandardRequestManager.SyncChanges snapshot = requestManager.getSyncSnapshot();
+        assertTrue(snapshot.isReset());
+        assertNotNull(snapshot.getBase());
+        assertTrue(snapshot.getChangedRequests().isEmpty());
+    }
+
     private static class TestResolvingProvider implements IRequestResolverProvider
     {
 
@@ -0,0 +1,219 @@
+package com.minecolonies.coremod.colony.requestsystem.requests;
+
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
+import com.minecolonies.api.colony.requestsystem.requester.IRequester;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.minecolonies.api.util.constant.Constants.MAX_CRAFTING_CYCLE_DEPTH;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the cached ancestry signature used for crafting cycle detection.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RequestAncestryTest
+{
+    @Mock
+    private IRequestManager manager;
+
+    @Mock
+    private IRequester requester;
+
+    private final Map<IToken<?>, IRequest<?>> requests = new HashMap<>();
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        when(manager.getRequestForToken(Matchers.any())).thenAnswer(invocation -> {
+            final IRequest<?> request = requests.get(invocation.getArguments()[0]);
+            if (request == null)
+            {
+                throw new IllegalArgumentException("Unknown token");
+            }
+            return request;
+        });
+    }
+
+    @Test
+    public void craftingChainWithoutCycle()
+    {
+        final IRequest<?> pickaxe = stackRequest(Items.WOODEN_PICKAXE, null);
+        final IRequest<?> craftPickaxe = craftingRequest(Items.WOODEN_PICKAXE, pickaxe);
+        final IRequest<?> sticks = stackRequest(Items.STICK, craftPickaxe);
+        final IRequest<?> craftSticks = craftingRequest(Items.STICK, sticks);
+        final IRequest<?> planks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), craftSticks);
+
+        final RequestAncestry ancestry = RequestAncestry.of(manager, planks);
+        assertFalse(ancestry.isCycle());
+        assertEquals(4, ancestry.getDepth());
+        assertTrue(ancestry.contains(new Stack(new ItemStack(Items.STICK))));
+        assertFalse(ancestry.contains(new Stack(new ItemStack(Items.WOODEN_AXE))));
+    }
+
+    @Test
+    public void repeatedRequestableIsACycle()
+    {
+        final IRequest<?> planks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), null);
+        final IRequest<?> craftPlanks = craftingRequest(Item.getItemFromBlock(Blocks.PLANKS), planks);
+        final IRequest<?> sticks = stackRequest(Items.STICK, craftPlanks);
+        final IRequest<?> craftSticks = craftingRequest(Items.STICK, sticks);
+        final IRequest<?> planksAgain = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), craftSticks);
+
+        assertFalse(RequestAncestry.of(manager, craftSticks).isCycle());
+        assertTrue(RequestAncestry.of(manager, planksAgain).isCycle());
+        assertTrue(RequestAncestry.of(manager, stackRequest(Items.STICK, planksAgain)).isCycle());
+    }
+
+    @Test
+    public void deepChainIsCutOff()
+    {
+        IRequest<?> request = stackRequest(Items.STICK, null);
+        for (int depth = 1; depth <= MAX_CRAFTING_CYCLE_DEPTH; depth++)
+        {
+            request = craftingRequest(Items.STICK, request, depth);
+        }
+        assertFalse(RequestAncestry.of(manager, request).isCycle());
+
+        request = craftingRequest(Items.STICK, request, MAX_CRAFTING_CYCLE_DEPTH + 1);
+        assertTrue(RequestAncestry.of(manager, request).isCycle());
+    }
+
+    @Test
+    public void signatureIsCachedUntilTheParentChanges()
+    {
+        final IRequest<?> sticks = stackRequest(Items.STICK, null);
+        final IRequest<?> planks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), sticks);
+
+        final RequestAncestry ancestry = RequestAncestry.of(manager, planks);
+        assertSame(ancestry, RequestAncestry.of(manager, planks));
+
+        final IRequest<?> otherPlanks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), null);
+        planks.setParent(otherPlanks.getId());
+
+        final RequestAncestry rebuilt = RequestAncestry.of(manager, planks);
+        assertNotSame(ancestry, rebuilt);
+        assertTrue(rebuilt.isCycle());
+    }
+
+    @Test
+    public void signatureIsRebuiltWhenAnAncestorChanges()
+    {
+        final IRequest<?> sticks = stackRequest(Items.STICK, null);
+        final IRequest<?> craftSticks = craftingRequest(Items.STICK, sticks);
+        final IRequest<?> planks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), craftSticks);
+
+        final RequestAncestry ancestry = RequestAncestry.of(manager, planks);
+        assertFalse(ancestry.isCycle());
+
+        final IRequest<?> otherPlanks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), null);
+        craftSticks.setParent(otherPlanks.getId());
+
+        final RequestAncestry rebuilt = RequestAncestry.of(manager, planks);
+        assertNotSame(ancestry, rebuilt);
+        assertTrue(rebuilt.isCycle());
+        assertSame(rebuilt, RequestAncestry.of(manager, planks));
+    }
+
+    @Test
+    public void parentLoopIsACycle()
+    {
+        final IRequest<?> sticks = stackRequest(Items.STICK, null);
+        final IRequest<?> planks = stackRequest(Item.getItemFromBlock(Blocks.PLANKS), sticks);
+        sticks.setParent(planks.getId());
+
+        assertTrue(RequestAncestry.of(manager, planks).isCycle());
+    }
+
+    @Test
+    public void unknownParentEndsTheChain()
+    {
+        final IRequest<?> sticks = stackRequest(Items.STICK, null);
+        sticks.setParent(new StandardToken(UUID.randomUUID()));
+
+        final RequestAncestry ancestry = RequestAncestry.of(manager, sticks);
+        assertFalse(ancestry.isCycle());
+        assertEquals(0, ancestry.getDepth());
+    }
+
+    /**
+     * Create and register a stack request.
+     *
+     * @param item   the requested item.
+     * @param parent the parent or null.
+     * @return the request.
+     */
+    private IRequest<?> stackRequest(final Item item, final IRequest<?> parent)
+    {
+        return register(new StandardRequests.ItemStackRequest(requester, new StandardToken(UUID.randomUUID()), new Stack(new ItemStack(item))), parent);
+    }
+
+    /**
+     * Create and register a crafting request for a single craft.
+     *
+     * @param item   the item to craft.
+     * @param parent the parent.
+     * @return the request.
+     */
+    private IRequest<?> craftingRequest(final Item item, final IRequest<?> parent)
+    {
+        return craftingRequest(item, parent, 1);
+    }
+
+    /**
+     * Create and register a crafting request.
+     *
+     * @param item   the item to craft.
+     * @param parent the parent.
+     * @param count  the amount of crafts.
+     * @return the request.
+     */
+    private IRequest<?> craftingRequest(final Item item, final IRequest<?> parent, final int count)
+    {
+        return register(new StandardRequests.PublicCraftingRequest(requester, new StandardToken(UUID.randomUUID()), new PublicCrafting(new ItemStack(item), count)), parent);
+    }
+
+    /**
+     * Register a request with the mocked manager and attach it to its parent.
+     *
+     * @param request the request.
+     * @param parent  the parent or null.
+     * @return the request.
+     */
+    private IRequest<?> register(final IRequest<?> request, final IRequest<?> parent)
+    {
+        requests.put(request.getId(), request);
+        if (parent != null)
+        {
+            request.setParent(parent.getId());
+            parent.addChild(request.getId());
+        }
+        return request;
+    }
+}
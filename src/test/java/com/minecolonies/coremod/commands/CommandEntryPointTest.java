@@ -189,7 +189,7 @@ public class CommandEntryPointTest
         final List<String> results = instance.getTabCompletions(server, sender, args, pos, moduleContext);
 
         // EXPECT:
-        assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "home", "raid-tonight", "raid-now", "rs", "rtp",
+        assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "pathfinding", "home", "raid-tonight", "raid-now", "rs", "rtp",
                 "backup", "scan", "lootgen");
     }
 
@@ -206,7 +206,7 @@ public class CommandEntryPointTest
         final List<String> results = instance.getTabCompletions(server, sender, args, pos, moduleContext);
 
         // EXPECT:
-        assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "home", "raid-tonight", "raid-now", "rs", "rtp",
+        assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "pathfinding", "home", "raid-tonight", "raid-now", "rs", "rtp",
                 "backup", "scan", "lootgen");
     }
 
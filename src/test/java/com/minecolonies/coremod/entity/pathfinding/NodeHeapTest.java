@@ -0,0 +1,88 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the open set and visited map of the path search.
+ */
+public class NodeHeapTest
+{
+    private static final int NODE_COUNT = 1000;
+
+    @Test
+    public void testPollReturnsNodesOrderedByScore()
+    {
+        final NodeHeap heap = new NodeHeap(4);
+        final Random random = new Random(42);
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final double score = random.nextDouble() * 100;
+            final Node node = new Node(null, new BlockPos(i, 0, 0), score, 0, score);
+            node.setCounterAdded(i);
+            heap.offer(node);
+        }
+
+        assertEquals(NODE_COUNT, heap.size());
+
+        double last = -1;
+        while (!heap.isEmpty())
+        {
+            final Node node = heap.poll();
+            assertTrue(node.getScore() >= last);
+            assertEquals(-1, node.getHeapIndex());
+            last = node.getScore();
+        }
+        assertNull(heap.poll());
+    }
+
+    @Test
+    public void testDecreaseKeyMovesNodeToTheFront()
+    {
+        final NodeHeap heap = new NodeHeap();
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final Node node = new Node(null, new BlockPos(i, 0, 0), i, 0, i + 10);
+            node.setCounterAdded(i);
+            nodes.add(node);
+            heap.offer(node);
+        }
+
+        final Node last = nodes.get(NODE_COUNT - 1);
+        assertTrue(heap.contains(last));
+        last.setScore(0);
+        heap.update(last);
+
+        assertSame(last, heap.poll());
+        assertFalse(heap.contains(last));
+        assertEquals(10, heap.poll().getScore(), 0);
+    }
+
+    @Test
+    public void testNodeMapGetAndPut()
+    {
+        final NodeMap map = new NodeMap(2);
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            map.put(i << 12, new Node(null, new BlockPos(0, i, 0), 0, 0, 0));
+        }
+
+        assertEquals(NODE_COUNT, map.size());
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            assertEquals(i, map.get(i << 12).pos.getY());
+        }
+        assertNull(map.get(1));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(0));
+    }
+}
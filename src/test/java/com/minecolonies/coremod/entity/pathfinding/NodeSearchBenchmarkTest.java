@@ -0,0 +1,484 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.block.material.Material;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IBlockAccess;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import static org.junit.Assert.*;
+
+/**
+ * Benchmark of the open and visited sets of the path search, comparing the {@link NodeHeap}, {@link NodeMap} and {@link NodePool}
+ * to the priority queue and hash map they replaced, by nodes per second and allocated bytes.
+ * The searches run over a synthetic block access, a stone floor with winding walls.
+ * Ignored in the unit run, remove the annotation to run it by hand.
+ */
+@Ignore("Benchmark, run by hand")
+public class NodeSearchBenchmarkTest
+{
+    /**
+     * Width and depth of the synthetic terrain.
+     */
+    private static final int SIZE = 200;
+
+    /**
+     * Height of the walkable layer, the floor is below.
+     */
+    private static final int FLOOR_Y = 64;
+
+    /**
+     * Searches run before measuring, to warm up the JIT and fill the node pool.
+     */
+    private static final int WARMUP_ROUNDS = 20;
+
+    /**
+     * Searches measured per implementation.
+     */
+    private static final int ROUNDS = 50;
+
+    /**
+     * Nanoseconds per second.
+     */
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    /**
+     * Step directions of the search.
+     */
+    private static final int[][] DIRECTIONS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    private static IBlockAccess terrain;
+
+    @BeforeClass
+    public static void setUp()
+    {
+        Bootstrap.register();
+        terrain = new WindingTerrain();
+    }
+
+    @Test
+    public void benchmarkNodeSets()
+    {
+        final BlockPos start = new BlockPos(0, FLOOR_Y, 0);
+        final BlockPos end = new BlockPos(SIZE - 1, FLOOR_Y, SIZE - 2);
+
+        final int expected = search(new CollectionSearch(), start, end);
+        assertTrue(expected > 0);
+        assertEquals(expected, search(new PooledSearch(), start, end));
+
+        final Result collections = measure(CollectionSearch::new, start, end);
+        final Result pooled = measure(PooledSearch::new, start, end);
+
+        Log.getLogger().info(String.format("Path search over %dx%d blocks, %d nodes per search: "
+                                             + "priority queue and hash map %.0f nodes/s %d bytes/search, node heap, map and pool %.0f nodes/s %d bytes/search",
+          SIZE, SIZE, collections.nodes / ROUNDS,
+          collections.nodesPerSecond(), collections.bytes / ROUNDS,
+          pooled.nodesPerSecond(), pooled.bytes / ROUNDS));
+    }
+
+    /**
+     * Run the warmup and the measured rounds of one implementation.
+     *
+     * @param factory creates the search of every round.
+     * @param start   the start of the searches.
+     * @param end     the destination of the searches.
+     * @return the totals of the measured rounds.
+     */
+    private static Result measure(@NotNull final SearchFactory factory, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        for (int i = 0; i < WARMUP_ROUNDS; i++)
+        {
+            search(factory.create(), start, end);
+        }
+
+        final Result result = new Result();
+        final long bytesBefore = getAllocatedBytes();
+        final long timeBefore = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++)
+        {
+            final NodeSet nodes = factory.create();
+            search(nodes, start, end);
+            result.nodes += nodes.getCreated();
+        }
+        result.nanos = System.nanoTime() - timeBefore;
+        result.bytes = getAllocatedBytes() - bytesBefore;
+        return result;
+    }
+
+    /**
+     * A* search over the synthetic terrain, the same loop for both implementations.
+     *
+     * @param nodes the open and visited sets.
+     * @param start the start.
+     * @param end   the destination.
+     * @return the steps of the found path, or -1 if there is none.
+     */
+    private static int search(@NotNull final NodeSet nodes, @NotNull final BlockPos start, @NotNull final BlockPos end)
+    {
+        final Node startNode = nodes.create(null, start, 0, distance(start, end));
+        nodes.open(startNode);
+        nodes.visit(startNode);
+
+        int counter = 1;
+        int steps = -1;
+        while (!nodes.isOpenEmpty())
+        {
+            final Node current = nodes.poll();
+            current.setClosed();
+            if (current.pos.equals(end))
+            {
+                steps = current.getSteps();
+                break;
+            }
+
+            for (final int[] direction : DIRECTIONS)
+            {
+                final BlockPos pos = current.pos.add(direction[0], 0, direction[1]);
+                if (!isWalkable(pos))
+                {
+                    continue;
+                }
+
+                final double cost = current.getCost() + 1;
+                final Node known = nodes.getVisited(pos);
+                if (known == null)
+                {
+                    final Node node = nodes.create(current, pos, cost, distance(pos, end));
+                    node.setCounterAdded(counter++);
+                    nodes.open(node);
+                    nodes.visit(node);
+                }
+                else if (!known.isClosed() && cost < known.getCost())
+                {
+                    known.parent = current;
+                    known.setSteps(current.getSteps() + 1);
+                    known.setCost(cost);
+                    known.setScore(cost + known.getHeuristic());
+                    nodes.update(known);
+                }
+            }
+        }
+        nodes.release();
+        return steps;
+    }
+
+    /**
+     * Check if a position can be stood on, air above solid ground.
+     *
+     * @param pos the position.
+     * @return true if walkable.
+     */
+    private static boolean isWalkable(@NotNull final BlockPos pos)
+    {
+        return terrain.getBlockState(pos).getMaterial() == Material.AIR && terrain.getBlockState(pos.down()).getMaterial().isSolid();
+    }
+
+    /**
+     * Manhattan distance, the heuristic of the search.
+     *
+     * @param pos the position.
+     * @param end the destination.
+     * @return the distance.
+     */
+    private static double distance(@NotNull final BlockPos pos, @NotNull final BlockPos end)
+    {
+        return Math.abs(pos.getX() - end.getX()) + Math.abs(pos.getY() - end.getY()) + Math.abs(pos.getZ() - end.getZ());
+    }
+
+    /**
+     * Key of a position in the visited set, like the path job computes it.
+     *
+     * @param pos the position.
+     * @return the key.
+     */
+    private static int getKey(@NotNull final BlockPos pos)
+    {
+        return ((pos.getX() & 0xFFF) << 20) | ((pos.getY() & 0xFF) << 12) | (pos.getZ() & 0xFFF);
+    }
+
+    /**
+     * Get the bytes allocated by this thread so far.
+     *
+     * @return the bytes, or 0 if the JVM doesn't tell.
+     */
+    private static long getAllocatedBytes()
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)
+        {
+            return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Totals of the measured rounds of one implementation.
+     */
+    private static class Result
+    {
+        private long nodes;
+        private long nanos;
+        private long bytes;
+
+        private double nodesPerSecond()
+        {
+            return nodes * NANOS_PER_SECOND / nanos;
+        }
+    }
+
+    /**
+     * Creates the node sets of a search.
+     */
+    @FunctionalInterface
+    private interface SearchFactory
+    {
+        NodeSet create();
+    }
+
+    /**
+     * The open and visited sets of a search.
+     */
+    private interface NodeSet
+    {
+        Node create(@Nullable Node parent, @NotNull BlockPos pos, double cost, double heuristic);
+
+        void open(@NotNull Node node);
+
+        Node poll();
+
+        boolean isOpenEmpty();
+
+        void update(@NotNull Node node);
+
+        void visit(@NotNull Node node);
+
+        @Nullable
+        Node getVisited(@NotNull BlockPos pos);
+
+        int getCreated();
+
+        void release();
+    }
+
+    /**
+     * The priority queue and hash map the path job used before, allocating every node.
+     */
+    private static class CollectionSearch implements NodeSet
+    {
+        private final Queue<Node>        open    = new PriorityQueue<>(500);
+        private final Map<Integer, Node> visited = new HashMap<>();
+        private       int                created;
+
+        @Override
+        public Node create(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic)
+        {
+            created++;
+            return new Node(parent, pos, cost, heuristic, cost + heuristic);
+        }
+
+        @Override
+        public void open(@NotNull final Node node)
+        {
+            open.offer(node);
+        }
+
+        @Override
+        public Node poll()
+        {
+            return open.poll();
+        }
+
+        @Override
+        public boolean isOpenEmpty()
+        {
+            return open.isEmpty();
+        }
+
+        @Override
+        public void update(@NotNull final Node node)
+        {
+            open.remove(node);
+            open.offer(node);
+        }
+
+        @Override
+        public void visit(@NotNull final Node node)
+        {
+            visited.put(getKey(node.pos), node);
+        }
+
+        @Nullable
+        @Override
+        public Node getVisited(@NotNull final BlockPos pos)
+        {
+            return visited.get(getKey(pos));
+        }
+
+        @Override
+        public int getCreated()
+        {
+            return created;
+        }
+
+        @Override
+        public void release()
+        {
+            // Left to the garbage collector.
+        }
+    }
+
+    /**
+     * The node heap, map and pool of the path job.
+     */
+    private static class PooledSearch implements NodeSet
+    {
+        private final NodeHeap open    = new NodeHeap();
+        private final NodeMap  visited = new NodeMap();
+        private       int      created;
+
+        @Override
+        public Node create(@Nullable final Node parent, @NotNull final BlockPos pos, final double cost, final double heuristic)
+        {
+            created++;
+            return NodePool.get().obtain(parent, pos, cost, heuristic, cost + heuristic);
+        }
+
+        @Override
+        public void open(@NotNull final Node node)
+        {
+            open.offer(node);
+        }
+
+        @Override
+        public Node poll()
+        {
+            return open.poll();
+        }
+
+        @Override
+        public boolean isOpenEmpty()
+        {
+            return open.isEmpty();
+        }
+
+        @Override
+        public void update(@NotNull final Node node)
+        {
+            open.update(node);
+        }
+
+        @Override
+        public void visit(@NotNull final Node node)
+        {
+            visited.put(getKey(node.pos), node);
+        }
+
+        @Nullable
+        @Override
+        public Node getVisited(@NotNull final BlockPos pos)
+        {
+            return visited.get(getKey(pos));
+        }
+
+        @Override
+        public int getCreated()
+        {
+            return created;
+        }
+
+        @Override
+        public void release()
+        {
+            visited.forEachNode(NodePool.get()::release);
+            visited.clear();
+            open.clear();
+        }
+    }
+
+    /**
+     * A stone floor with a wall on every fourth row, each wall with a gap at an alternating end.
+     */
+    private static class WindingTerrain implements IBlockAccess
+    {
+        @Nullable
+        @Override
+        public TileEntity getTileEntity(@NotNull final BlockPos pos)
+        {
+            return null;
+        }
+
+        @Override
+        public int getCombinedLight(@NotNull final BlockPos pos, final int lightValue)
+        {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public IBlockState getBlockState(@NotNull final BlockPos pos)
+        {
+            if (pos.getX() < 0 || pos.getZ() < 0 || pos.getX() >= SIZE || pos.getZ() >= SIZE || pos.getY() > FLOOR_Y)
+            {
+                return Blocks.AIR.getDefaultState();
+            }
+            if (pos.getY() < FLOOR_Y)
+            {
+                return Blocks.STONE.getDefaultState();
+            }
+
+            final int row = pos.getZ() / 4;
+            final boolean wall = pos.getZ() % 4 == 3;
+            final boolean gap = row % 2 == 0 ? pos.getX() >= SIZE - 2 : pos.getX() < 2;
+            return wall && !gap ? Blocks.STONE.getDefaultState() : Blocks.AIR.getDefaultState();
+        }
+
+        @Override
+        public boolean isAirBlock(@NotNull final BlockPos pos)
+        {
+            return getBlockState(pos).getMaterial() == Material.AIR;
+        }
+
+        @NotNull
+        @Override
+        public Biome getBiome(@NotNull final BlockPos pos)
+        {
+            return Biomes.PLAINS;
+        }
+
+        @Override
+        public int getStrongPower(@NotNull final BlockPos pos, @NotNull final EnumFacing direction)
+        {
+            return 0;
+        }
+
+        @NotNull
+        @Override
+        public WorldType getWorldType()
+        {
+            return WorldType.DEFAULT;
+        }
+
+        @Override
+        public boolean isSideSolid(@NotNull final BlockPos pos, @NotNull final EnumFacing side, final boolean _default)
+        {
+            return getBlockState(pos).isSideSolid(this, pos, side);
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.minecolonies.coremod.tileentities;
+
+import com.minecolonies.api.tileentities.TileEntityRack;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.Log;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests of the warehouse availability queries over a populated warehouse, with a benchmark to run by hand.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class WarehouseItemIndexTest
+{
+    /**
+     * Racks of the simulated warehouse.
+     */
+    private static final int RACK_COUNT = 80;
+
+    /**
+     * Times every query is repeated by the benchmark.
+     */
+    private static final int QUERY_ROUNDS = 200;
+
+    @Mock
+    private World world;
+
+    private final List<TileEntityRack> racks = new ArrayList<>();
+
+    private final List<BlockPos> containers = new ArrayList<>();
+
+    private Item[] items;
+
+    private TileEntityRack hut;
+
+    private WarehouseItemIndex index;
+
+    @BeforeClass
+    public static void bootstrap()
+    {
+        Bootstrap.register();
+    }
+
+    @Before
+    public void setUp()
+    {
+        items = new Item[] {Items.APPLE, Items.BREAD, Items.COAL, Items.STICK, Items.IRON_INGOT, Items.GOLD_INGOT, Items.BONE, Items.STRING, Items.FEATHER, Items.LEATHER};
+
+        for (int i = 0; i < RACK_COUNT; i++)
+        {
+            final TileEntityRack rack = new TileEntityRack();
+            final BlockPos pos = new BlockPos(i, 64, 0);
+            rack.setPos(pos);
+            for (int slot = 0; slot < rack.getInventory().getSlots(); slot++)
+            {
+                if ((i + slot) % 5 != 0)
+                {
+                    rack.getInventory().setStackInSlot(slot, new ItemStack(items[(i + slot) % items.length], 1 + (i * slot) % 64));
+                }
+            }
+            when(world.getTileEntity(pos)).thenReturn(rack);
+            racks.add(rack);
+            containers.add(pos);
+        }
+
+        hut = new TileEntityRack();
+        hut.setPos(new BlockPos(-1, 64, 0));
+
+        index = new WarehouseItemIndex();
+        index.sync(world, containers, hut);
+    }
+
+    @Test
+    public void countsMatchSlotScan()
+    {
+        for (final Item item : items)
+        {
+            final Predicate<ItemStack> predicate = stack -> stack.getItem() == item;
+            assertEquals(countByFilteredLists(predicate), index.count(predicate, Integer.MAX_VALUE));
+            assertEquals(countBySlots(predicate, Integer.MAX_VALUE), index.count(predicate, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    public void countsStopAtTheLimit()
+    {
+        final Predicate<ItemStack> predicate = stack -> stack.getItem() == Items.APPLE;
+
+        assertEquals(10, index.count(predicate, 10));
+        assertEquals(10, countBySlots(predicate, 10));
+        assertEquals(0, index.count(stack -> stack.getItem() == Items.DIAMOND, 10));
+    }
+
+    @Test
+    public void indexFollowsRackChanges()
+    {
+        final TileEntityRack rack = racks.get(3);
+        final Predicate<ItemStack> predicate = stack -> stack.getItem() == Items.DIAMOND;
+
+        rack.getInventory().setStackInSlot(0, new ItemStack(Items.DIAMOND, 5));
+        assertEquals(5, index.count(predicate, Integer.MAX_VALUE));
+        assertEquals(rack.getPos(), index.getRackWithItem(predicate));
+        assertEquals(1, index.getRacksWithItem(new ItemStack(Items.DIAMOND), false).size());
+
+        rack.getInventory().setStackInSlot(0, ItemStackUtils.EMPTY);
+        assertEquals(0, index.count(predicate, Integer.MAX_VALUE));
+        assertNull(index.getRackWithItem(predicate));
+    }
+
+    @Test
+    public void emptiestRackIsFound()
+    {
+        final TileEntityRack rack = racks.get(7);
+        for (int slot = 0; slot < rack.getInventory().getSlots(); slot++)
+        {
+            rack.getInventory().setStackInSlot(slot, ItemStackUtils.EMPTY);
+        }
+
+        assertSame(rack, index.getRackWithMostFreeSlots());
+    }
+
+    /**
+     * Compares the query times of collecting stack lists, the count-only scan and the index.
+     * Ignored in the unit run, remove the annotation to run it by hand.
+     */
+    @Ignore("Benchmark, run by hand")
+    @Test
+    public void benchmarkAvailabilityQueries()
+    {
+        final Predicate<ItemStack> predicate = stack -> stack.getItem() == Items.STICK;
+        final int requested = 16;
+        final boolean expected = countByFilteredLists(predicate) >= requested;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS; i++)
+        {
+            assertEquals(expected, countByFilteredLists(predicate) >= requested);
+        }
+        final long listTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS; i++)
+        {
+            assertEquals(expected, countBySlots(predicate, requested) >= requested);
+        }
+        final long slotTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < QUERY_ROUNDS; i++)
+        {
+            assertEquals(expected, index.count(predicate, requested) >= requested);
+        }
+        final long indexTime = System.nanoTime() - start;
+
+        Log.getLogger().info(String.format("Warehouse availability over %d racks, ns per query: stack lists %d, count-only scan %d, index %d",
+          RACK_COUNT, listTime / QUERY_ROUNDS, slotTime / QUERY_ROUNDS, indexTime / QUERY_ROUNDS));
+    }
+
+    /**
+     * Count the way the warehouse did before, collecting all matching stacks and summing them up.
+     *
+     * @param predicate the predicate.
+     * @return the amount.
+     */
+    private int countByFilteredLists(final Predicate<ItemStack> predicate)
+    {
+        final List<ItemStack> stacks = new ArrayList<>();
+        for (final TileEntityRack rack : racks)
+        {
+            stacks.addAll(InventoryUtils.filterItemHandler(rack.getInventory(), predicate));
+        }
+        return stacks.stream().mapToInt(ItemStackUtils::getSize).sum();
+    }
+
+    /**
+     * Count by reading the slots without collecting them, stopping at the limit.
+     *
+     * @param predicate the predicate.
+     * @param limit     the limit.
+     * @return the amount, at most the limit.
+     */
+    private int countBySlots(final Predicate<ItemStack> predicate, final int limit)
+    {
+        int count = 0;
+        for (final TileEntityRack rack : racks)
+        {
+            count += InventoryUtils.getItemCountInItemHandlerUpTo(rack.getInventory(), predicate, limit - count);
+            if (count >= limit)
+            {
+                return limit;
+            }
+        }
+        return count;
+    }
+}
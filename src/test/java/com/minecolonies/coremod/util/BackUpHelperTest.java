@@ -0,0 +1,181 @@
+package com.minecolonies.coremod.util;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Properties;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests of the incremental colony backups.
+ */
+public class BackUpHelperTest
+{
+    private static final String COLONY_ONE = String.format(FILENAME_COLONY, 1, 0);
+    private static final String COLONY_TWO = String.format(FILENAME_COLONY, 2, 0);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private File saveDir;
+
+    @Before
+    public void setUp() throws IOException
+    {
+        saveDir = folder.newFolder(FILENAME_MINECOLONIES_PATH);
+        write(FILENAME_MINECOLONIES, "manager");
+        write(COLONY_ONE, "first colony");
+        write(COLONY_TWO, "second colony");
+    }
+
+    @Test
+    public void unchangedFilesAreReferencedNotPacked() throws IOException
+    {
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(1)));
+        assertEquals(set(FILENAME_MINECOLONIES, COLONY_ONE, COLONY_TWO, FILENAME_BACKUP_MANIFEST), getEntries(backup(1)));
+
+        write(COLONY_TWO, "second colony, grown");
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(2)));
+        assertEquals(set(COLONY_TWO, FILENAME_BACKUP_MANIFEST), getEntries(backup(2)));
+
+        final Properties manifest = BackUpHelper.readManifest(new File(saveDir, FILENAME_LAST_BACKUP_MANIFEST));
+        assertTrue(manifest.getProperty(COLONY_ONE).endsWith(" " + backup(1).getName()));
+        assertTrue(manifest.getProperty(COLONY_TWO).endsWith(" " + backup(2).getName()));
+        assertEquals(1, BackUpHelper.getIncrementalBackups(manifest));
+    }
+
+    @Test
+    public void restoreCollectsFilesFromOlderBackups() throws IOException
+    {
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(1)));
+        write(COLONY_TWO, "second colony, grown");
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(2)));
+
+        final File target = folder.newFolder("restored");
+        assertTrue(BackUpHelper.restoreBackup(backup(2), target));
+        assertEquals("manager", read(new File(target, FILENAME_MINECOLONIES)));
+        assertEquals("first colony", read(new File(target, COLONY_ONE)));
+        assertEquals("second colony, grown", read(new File(target, COLONY_TWO)));
+        assertFalse(new File(target, FILENAME_BACKUP_MANIFEST).exists());
+    }
+
+    @Test
+    public void restoreReportsMissingBackups() throws IOException
+    {
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(1)));
+        write(COLONY_TWO, "second colony, grown");
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(2)));
+        assertTrue(backup(1).delete());
+
+        assertFalse(BackUpHelper.restoreBackup(backup(2), folder.newFolder("restored")));
+    }
+
+    @Test
+    public void colonyIsLoadedFromIncrementalBackup() throws IOException
+    {
+        final NBTTagCompound colony = new NBTTagCompound();
+        colony.setInteger("id", 1);
+        CompressedStreamTools.write(colony, new File(saveDir, COLONY_ONE));
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(1)));
+        write(COLONY_TWO, "second colony, grown");
+        assertTrue(BackUpHelper.writeBackup(saveDir, backup(2)));
+        assertFalse(getEntries(backup(2)).contains(COLONY_ONE));
+
+        assertTrue(new File(saveDir, COLONY_ONE).delete());
+        assertEquals(colony, BackUpHelper.loadColonyNBT(saveDir, 1, 0));
+        assertTrue(new File(saveDir, COLONY_ONE).exists());
+        assertNull(BackUpHelper.loadColonyNBT(saveDir, 3, 0));
+    }
+
+    @Test
+    public void fullBackupAfterInterval() throws IOException
+    {
+        for (int i = 1; i <= BackUpHelper.FULL_BACKUP_INTERVAL; i++)
+        {
+            write(COLONY_TWO, "second colony, day " + i);
+            assertTrue(BackUpHelper.writeBackup(saveDir, backup(i)));
+        }
+        assertEquals(set(COLONY_TWO, FILENAME_BACKUP_MANIFEST), getEntries(backup(BackUpHelper.FULL_BACKUP_INTERVAL)));
+
+        final File full = backup(BackUpHelper.FULL_BACKUP_INTERVAL + 1);
+        assertTrue(BackUpHelper.writeBackup(saveDir, full));
+        assertEquals(set(FILENAME_MINECOLONIES, COLONY_ONE, COLONY_TWO, FILENAME_BACKUP_MANIFEST), getEntries(full));
+        assertEquals(0, BackUpHelper.getIncrementalBackups(BackUpHelper.readManifest(new File(saveDir, FILENAME_LAST_BACKUP_MANIFEST))));
+    }
+
+    /**
+     * Get the file of a numbered backup.
+     *
+     * @param number the number.
+     * @return the zip file.
+     */
+    private File backup(final int number)
+    {
+        return new File(saveDir, String.format(FILENAME_MINECOLONIES_BACKUP, number));
+    }
+
+    /**
+     * Write a file into the save directory.
+     *
+     * @param name    the file name.
+     * @param content the content.
+     */
+    private void write(final String name, final String content) throws IOException
+    {
+        Files.write(new File(saveDir, name).toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Read a file.
+     *
+     * @param file the file.
+     * @return the content.
+     */
+    private static String read(final File file) throws IOException
+    {
+        return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Get the names of the entries of a zip.
+     *
+     * @param zipFile the zip.
+     * @return the names.
+     */
+    private static Set<String> getEntries(final File zipFile) throws IOException
+    {
+        final Set<String> names = new HashSet<>();
+        try (ZipFile zip = new ZipFile(zipFile))
+        {
+            final Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements())
+            {
+                names.add(entries.nextElement().getName());
+            }
+        }
+        return names;
+    }
+
+    private static Set<String> set(final String... names)
+    {
+        final Set<String> result = new HashSet<>();
+        Collections.addAll(result, names);
+        return result;
+    }
+}